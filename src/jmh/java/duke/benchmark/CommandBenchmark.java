@@ -0,0 +1,72 @@
+package duke.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import duke.command.FindCommand;
+import duke.command.ListCommand;
+import duke.core.DukeException;
+import duke.task.Task;
+import duke.task.TaskList;
+
+/**
+ * Benchmarks the read-only commands and task rendering on task lists of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommandBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int taskCount;
+
+    private TaskList tasks;
+    private FindCommand findCommand;
+    private ListCommand listCommand;
+
+    /**
+     * Generates the task list and the commands to run on it.
+     */
+    @Setup
+    public void setUp() throws DukeException {
+        tasks = new TaskGenerator(42).nextTaskList(taskCount);
+
+        Map<String, String> findParameters = new HashMap<>();
+        findParameters.put("default", "report");
+        findCommand = new FindCommand(findParameters);
+        listCommand = new ListCommand(new HashMap<>());
+    }
+
+    @Benchmark
+    public String find() throws DukeException {
+        return findCommand.execute(tasks, null);
+    }
+
+    @Benchmark
+    public String list() throws DukeException {
+        return listCommand.execute(tasks, null);
+    }
+
+    /**
+     * Measures converting every task to its data string, as done when storing the task list.
+     */
+    @Benchmark
+    public long getDataString() {
+        long length = 0;
+
+        for (Task task : tasks.getSnapshot()) {
+            length += task.getDataString().length();
+        }
+
+        return length;
+    }
+}
@@ -0,0 +1,63 @@
+package duke.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import duke.core.DukeException;
+import duke.core.Parser;
+import duke.task.Task;
+
+/**
+ * Benchmarks parsing of user commands and stored task data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParserBenchmark {
+    private static final int SAMPLE_SIZE = 1024;
+
+    private String[] commands = new String[SAMPLE_SIZE];
+    private String[] taskDataStrings = new String[SAMPLE_SIZE];
+    private int index;
+
+    /**
+     * Generates the commands and task data strings to parse.
+     */
+    @Setup
+    public void setUp() {
+        TaskGenerator generator = new TaskGenerator(42);
+        List<Task> tasks = generator.nextTasks(SAMPLE_SIZE);
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            commands[i] = generator.nextAddCommand();
+            taskDataStrings[i] = tasks.get(i).getDataString();
+        }
+    }
+
+    /**
+     * Measures parsing an add command into a command with its parameters.
+     */
+    @Benchmark
+    public void parseCommand(Blackhole blackhole) throws DukeException {
+        index = (index + 1) & (SAMPLE_SIZE - 1);
+        blackhole.consume(Parser.parseCommand(commands[index]));
+    }
+
+    /**
+     * Measures parsing a line of the data file into a task, as done for every task when loading.
+     */
+    @Benchmark
+    public void parseTaskDataString(Blackhole blackhole) throws DukeException {
+        index = (index + 1) & (SAMPLE_SIZE - 1);
+        blackhole.consume(Parser.parseTaskDataString(taskDataStrings[index]));
+    }
+}
@@ -0,0 +1,94 @@
+package duke.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import duke.task.Task;
+
+/**
+ * Benchmarks rendering 10000 tasks, as a new string per task against appending to one reused builder.
+ * Run with the gc profiler (enabled in build.gradle) to compare the bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RenderingBenchmark {
+    private static final int TASK_COUNT = 10000;
+
+    private List<Task> tasks;
+    private StringBuilder builder = new StringBuilder();
+
+    /**
+     * Generates the tasks to render.
+     */
+    @Setup
+    public void setUp() {
+        tasks = new TaskGenerator(42).nextTasks(TASK_COUNT);
+    }
+
+    /**
+     * Measures rendering every task for display as a new string.
+     */
+    @Benchmark
+    public long toStringPerTask() {
+        long length = 0;
+
+        for (Task task : tasks) {
+            length += task.toString().length();
+        }
+
+        return length;
+    }
+
+    /**
+     * Measures rendering every task for display into the same builder, for comparison with {@link #toStringPerTask()}.
+     */
+    @Benchmark
+    public long appendToReusedBuilder() {
+        long length = 0;
+
+        for (Task task : tasks) {
+            builder.setLength(0);
+            length += task.appendTo(builder).length();
+        }
+
+        return length;
+    }
+
+    /**
+     * Measures encoding every task for the data file as a new string.
+     */
+    @Benchmark
+    public long getDataStringPerTask() {
+        long length = 0;
+
+        for (Task task : tasks) {
+            length += task.getDataString().length();
+        }
+
+        return length;
+    }
+
+    /**
+     * Measures encoding every task for the data file into the same builder.
+     */
+    @Benchmark
+    public long appendDataStringReusedBuilder() {
+        long length = 0;
+
+        for (Task task : tasks) {
+            builder.setLength(0);
+            length += task.appendDataString(builder).length();
+        }
+
+        return length;
+    }
+}
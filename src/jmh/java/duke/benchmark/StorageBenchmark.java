@@ -0,0 +1,87 @@
+package duke.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import duke.core.DukeException;
+import duke.core.Storage;
+import duke.task.Task;
+import duke.task.TaskList;
+
+/**
+ * Benchmarks writing and reading the data file for task lists of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageBenchmark {
+    private static final String FILE_NAME = "tasks.txt";
+
+    @Param({"1000", "100000", "1000000"})
+    public int taskCount;
+
+    private Path directory;
+    private Storage storage;
+    private TaskList tasks;
+
+    /**
+     * Generates the task list and writes it once, so that there is a file to read.
+     */
+    @Setup
+    public void setUp() throws IOException, DukeException {
+        directory = Files.createTempDirectory("duke-benchmark");
+        storage = new Storage(directory.toString());
+        tasks = new TaskGenerator(42).nextTaskList(taskCount);
+        tasks.storeTasks(storage);
+    }
+
+    /**
+     * Deletes the temporary directory.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * Measures saving the task list, which encodes every task straight into reused buffers.
+     */
+    @Benchmark
+    public void writeFile() throws DukeException {
+        tasks.storeTasks(storage);
+    }
+
+    /**
+     * Measures writing the same tasks as one string per line, for comparison with {@link #writeFile()}.
+     */
+    @Benchmark
+    public void writeFileAsLines() throws DukeException {
+        storage.writeFile(FILE_NAME, tasks.getTasks().map(Task::getDataString));
+    }
+
+    /**
+     * Measures reading the data file and parsing it into a task list.
+     */
+    @Benchmark
+    public TaskList readFile() throws DukeException {
+        try (Stream<String> taskData = storage.readFile(FILE_NAME)) {
+            return new TaskList(taskData);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package duke.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Task;
+import duke.task.TaskList;
+import duke.task.Todo;
+
+/**
+ * Generates reproducible synthetic tasks for benchmarks.
+ */
+public class TaskGenerator {
+    private static final String[] WORDS = {
+        "feed", "cat", "submit", "report", "buy", "groceries", "call", "mum", "review", "pull", "request",
+        "book", "flight", "pay", "rent", "clean", "room", "read", "chapter", "fix", "bug", "meeting", "project"
+    };
+    private static final LocalDate START_DATE = LocalDate.of(2023, 1, 1);
+
+    private Random random;
+
+    /**
+     * Constructor for TaskGenerator.
+     *
+     * @param seed Seed for the random generator, so that the same tasks are generated on every run.
+     */
+    public TaskGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Returns a random task: one third each of todos, deadlines and events, with a quarter of them completed.
+     */
+    public Task nextTask() {
+        String description = this.nextDescription();
+        boolean isCompleted = random.nextInt(4) == 0;
+
+        switch (random.nextInt(3)) {
+        case 0:
+            return new Todo(description, isCompleted);
+        case 1:
+            return new Deadline(description, this.nextDateTime(), isCompleted);
+        default:
+            LocalDateTime start = START_DATE.atStartOfDay().plusMinutes(random.nextInt(365 * 24 * 60));
+            return new Event(description, start, start.plusHours(1 + random.nextInt(72)), isCompleted);
+        }
+    }
+
+    /**
+     * Returns a description of two to five random words followed by a number.
+     */
+    public String nextDescription() {
+        StringBuilder description = new StringBuilder();
+        int wordCount = 2 + random.nextInt(4);
+
+        for (int i = 0; i < wordCount; i++) {
+            description.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+
+        return description.append(random.nextInt(100000)).toString();
+    }
+
+    private TemporalAccessor nextDateTime() {
+        LocalDate date = START_DATE.plusDays(random.nextInt(365));
+        return random.nextBoolean() ? date : date.atTime(random.nextInt(24), random.nextInt(60));
+    }
+
+    /**
+     * Returns a list of random tasks.
+     *
+     * @param count Number of tasks to generate.
+     */
+    public List<Task> nextTasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            tasks.add(this.nextTask());
+        }
+
+        return tasks;
+    }
+
+    /**
+     * Returns a task list holding the given number of random tasks.
+     *
+     * @param count Number of tasks to generate.
+     */
+    public TaskList nextTaskList(int count) {
+        return new TaskList(this.nextTasks(count).stream().map(Task::getDataString));
+    }
+
+    /**
+     * Returns a random user command that adds a task.
+     */
+    public String nextAddCommand() {
+        String description = this.nextDescription();
+        int day = 1 + random.nextInt(28);
+        int month = 1 + random.nextInt(12);
+
+        switch (random.nextInt(3)) {
+        case 0:
+            return "todo " + description;
+        case 1:
+            return String.format("deadline %s /by %02d-%02d-2023 %02d%02d", description, day, month,
+                    random.nextInt(24), random.nextInt(60));
+        default:
+            return String.format("event %s /from %02d-%02d-2023 /to %02d-%02d-2024", description, day, month,
+                    day, month);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package duke.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import duke.task.Task;
+import duke.task.TaskList;
+import duke.task.TaskList.SortBy;
+
+/**
+ * Benchmarks adding a task to task lists of different sizes and sort types.
+ * The task is removed again after each invocation, outside the measurement, so the size of the list stays the same.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskListBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int taskCount;
+
+    @Param({"NONE", "NAME", "TASK", "COMPLETION", "DATE"})
+    public SortBy sortBy;
+
+    private TaskList tasks;
+    private Task taskToAdd;
+
+    /**
+     * Generates the task list and sorts it by the sort type being measured.
+     */
+    @Setup
+    public void setUp() {
+        TaskGenerator generator = new TaskGenerator(42);
+        tasks = generator.nextTaskList(taskCount);
+        tasks.sort(sortBy);
+        taskToAdd = generator.nextTask();
+    }
+
+    /**
+     * Measures adding a task, which inserts it in order when the list is sorted.
+     */
+    @Benchmark
+    public TaskList addTask() {
+        tasks.addTask(taskToAdd);
+        return tasks;
+    }
+
+    /**
+     * Removes the added task again outside the measurement, so that every invocation adds to the same list.
+     */
+    @TearDown(Level.Invocation)
+    public void removeTask() {
+        tasks.removeTasks(List.of(taskToAdd));
+    }
+}
@@ -3,14 +3,18 @@ package duke.command;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalAccessor;
+import java.util.List;
 import java.util.Map;
 
 import duke.core.DukeException;
 import duke.core.Parser;
 import duke.core.Storage;
+import duke.task.Change;
 import duke.task.Deadline;
 import duke.task.Event;
+import duke.task.Recurrence;
 import duke.task.Task;
+import duke.task.Task.Priority;
 import duke.task.Task.TaskType;
 import duke.task.TaskList;
 import duke.task.Todo;
@@ -24,6 +28,10 @@ public class AddCommand extends Command {
     private TemporalAccessor date1;
     private TemporalAccessor date2;
     private boolean isCompleted;
+    private LocalDate completedDate;
+    private List<String> tags = List.of();
+    private Priority priority = Priority.NONE;
+    private Recurrence recurrence;
 
     private boolean isSilent;
 
@@ -76,6 +84,29 @@ public class AddCommand extends Command {
     protected void loadParameters() throws DukeException {
         description = parameterMap.get("default");
 
+        // Only stored for tasks loaded as done from the data file
+        TemporalAccessor completedDatetime = isCompleted ? Parser.parseDateTimeInput(parameterMap.get("done")) : null;
+
+        if (completedDatetime != null) {
+            completedDate = LocalDate.from(completedDatetime);
+        }
+
+        // Given as "/tag" by the user, and stored as "tags=" in the data file
+        String tagString = parameterMap.containsKey("tag") ? parameterMap.get("tag") : parameterMap.get("tags");
+
+        if (tagString != null) {
+            tags = Parser.parseTags(tagString);
+        }
+
+        if (parameterMap.get("priority") != null) {
+            priority = Parser.parsePriority(parameterMap.get("priority"));
+        }
+
+        if (parameterMap.get("repeat") != null) {
+            recurrence = Parser.parseRecurrence(parameterMap.get("repeat"), parameterMap.get("every"),
+                    parameterMap.get("until"));
+        }
+
         switch(taskType) {
         case EVENT:
             date1 = Parser.parseDateTimeInput(parameterMap.get("from"));
@@ -119,77 +150,102 @@ public class AddCommand extends Command {
 
     @Override
     protected void checkIfParametersValid() throws DukeException {
-        if (taskType != TaskType.EVENT) {
-            return;
+        if (recurrence != null && taskType == TaskType.TODO) {
+            throw new DukeException("Only deadlines and events can repeat.");
         }
 
-        if (date1 instanceof LocalDate) {
-            if (!(date2 instanceof LocalDate)) {
-                throw new DukeException("Please ensure that both arguments have the same format.");
-            }
+        checkIfRecurrenceValid(recurrence, date1);
 
-            LocalDate startDate = (LocalDate) date1;
-            LocalDate endDate = (LocalDate) date2;
+        if (taskType == TaskType.EVENT) {
+            checkIfDatesValid(date1, date2);
+        }
 
-            if (startDate.isAfter(endDate)) {
-                throw new DukeException("Start date cannot be after the end date");
-            }
+        assert this.taskType != null : "Task type should not be null";
+    }
+
+    /**
+     * Checks that the start and end of an event have the same format and that the start is not after the end.
+     *
+     * @param startDatetime Start date or date and time.
+     * @param endDatetime End date or date and time.
+     * @throws DukeException If the dates are invalid.
+     */
+    static void checkIfDatesValid(TemporalAccessor startDatetime, TemporalAccessor endDatetime)
+            throws DukeException {
+        if (startDatetime.getClass() != endDatetime.getClass()) {
+            throw new DukeException("Please ensure that both arguments have the same format.");
         }
 
-        // If the start date is a LocalDateTime, the end date must also be a LocalDateTime
-        if (date1 instanceof LocalDateTime) {
-            if (!(date2 instanceof LocalDateTime)) {
-                throw new DukeException("Please ensure that both arguments have the same format.");
-            }
+        boolean isStartAfterEnd = startDatetime instanceof LocalDateTime
+                ? ((LocalDateTime) startDatetime).isAfter((LocalDateTime) endDatetime)
+                : ((LocalDate) startDatetime).isAfter((LocalDate) endDatetime);
 
-            LocalDateTime startDate = (LocalDateTime) date1;
-            LocalDateTime endDate = (LocalDateTime) date2;
+        if (isStartAfterEnd) {
+            throw new DukeException("Start date cannot be after the end date");
+        }
+    }
 
-            if (startDate.isAfter(endDate)) {
-                throw new DukeException("Start date cannot be after the end date");
-            }
+    /**
+     * Checks that a task does not repeat until a date before its first date.
+     *
+     * @param recurrence Recurrence of the task, or null if it does not repeat.
+     * @param firstDatetime Due date of a deadline or start date of an event.
+     * @throws DukeException If the recurrence ends before the first date.
+     */
+    static void checkIfRecurrenceValid(Recurrence recurrence, TemporalAccessor firstDatetime)
+            throws DukeException {
+        if (recurrence != null && recurrence.getUntil() != null
+                && recurrence.getUntil().isBefore(LocalDate.from(firstDatetime))) {
+            throw new DukeException("The date to repeat until cannot be before the first date.");
         }
+    }
 
-        assert this.taskType != null : "Task type should not be null";
+    /**
+     * Creates the task described by the parameters of the command.
+     *
+     * @return Task to be added.
+     * @throws DukeException If the task type is invalid.
+     */
+    public Task createTask() throws DukeException {
+        Task task;
+
+        switch (taskType) {
+        case TODO:
+            task = new Todo(description, isCompleted);
+            break;
+        case DEADLINE:
+            task = new Deadline(description, date1, isCompleted);
+            break;
+        case EVENT:
+            task = new Event(description, date1, date2, isCompleted);
+            break;
+        default:
+            throw new DukeException("Invalid task type.");
+        }
+
+        return task.setCompletedDate(completedDate).setTags(tags).setPriority(priority).setRecurrence(recurrence);
     }
 
     @Override
     public String execute(TaskList tasks, Storage storage) throws DukeException {
-        Task taskToAdd = null;
-
-        try {
-            switch (taskType) {
-            case TODO:
-                taskToAdd = new Todo(description, isCompleted);
-                break;
-            case DEADLINE:
-                taskToAdd = new Deadline(description, date1, isCompleted);
-                break;
-            case EVENT:
-                taskToAdd = new Event(description, date1, date2, isCompleted);
-                break;
-            default:
-                throw new DukeException("Invalid task type.");
-            }
-            assert taskToAdd != null : "Task to add should not be null";
-
-            tasks.addTask(taskToAdd);
+        Task taskToAdd = this.createTask();
+        assert taskToAdd != null : "Task to add should not be null";
 
-            // Exit early and do not print anything if the command is silent
-            if (isSilent) {
-                return null;
-            }
+        tasks.addTask(taskToAdd);
 
-            tasks.storeTasks(storage);
+        // Exit early and do not print anything if the command is silent
+        if (isSilent) {
+            return null;
+        }
 
-            StringBuilder response = new StringBuilder("Got it. I've added this task:\n");
-            response.append(String.format("  %s\n", taskToAdd.toString()));
-            response.append(String.format("Now you have %d tasks in the list.", tasks.size()));
+        tasks.getHistory().record(Change.ofAdd(taskToAdd));
+        tasks.storeTasks(storage);
+        this.setResultTasks(List.of(taskToAdd));
 
-            return response.toString();
-        } catch (DukeException e) {
-            throw e;
-        }
+        StringBuilder response = new StringBuilder("Got it. I've added this task:\n");
+        response.append(String.format("  %s\n", taskToAdd.toString()));
+        response.append(String.format("Now you have %d tasks in the list.", tasks.size()));
 
+        return response.toString();
     }
 }
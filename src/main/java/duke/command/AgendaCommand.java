@@ -0,0 +1,143 @@
+package duke.command;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import duke.core.DukeException;
+import duke.core.Parser;
+import duke.core.Storage;
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Task;
+import duke.task.TaskList;
+
+/**
+ * Command to list the deadlines and events in a range of dates in the order they take place, including each
+ * occurrence of tasks that repeat.
+ */
+public class AgendaCommand extends Command {
+    private static final int DEFAULT_DAYS = 7;
+    private static final DateTimeFormatter DISPLAY_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd LLL yyyy");
+
+    private LocalDate earliest;
+    private LocalDate latest;
+
+    /**
+     * Occurrences of one task, with the next occurrence to be listed.
+     */
+    private static class Source {
+        private Iterator<Task> occurrences;
+        private Task occurrence;
+        private LocalDateTime start;
+        private int taskIndex;
+
+        private Source(Iterator<Task> occurrences, int taskIndex) {
+            this.occurrences = occurrences;
+            this.taskIndex = taskIndex;
+        }
+
+        /**
+         * Moves to the next occurrence, and returns whether there is one.
+         */
+        private boolean advance() {
+            if (!occurrences.hasNext()) {
+                return false;
+            }
+
+            occurrence = occurrences.next();
+            start = toDateTime(occurrence instanceof Deadline
+                    ? ((Deadline) occurrence).getDueDatetime()
+                    : ((Event) occurrence).getStartDatetime());
+            return true;
+        }
+    }
+
+    /**
+     * Constructor for AgendaCommand.
+     *
+     * @param parameterMap Map of parameters for the command.
+     * @throws DukeException If the dates are invalid.
+     */
+    public AgendaCommand(Map<String, String> parameterMap) throws DukeException {
+        super(parameterMap);
+
+        this.loadParameters();
+        this.checkIfParametersValid();
+    }
+
+    @Override
+    protected void loadParameters() throws DukeException {
+        TemporalAccessor startDatetime = Parser.parseDateTimeInput(parameterMap.get("from"));
+        TemporalAccessor endDatetime = Parser.parseDateTimeInput(parameterMap.get("to"));
+
+        earliest = startDatetime == null ? LocalDate.now() : LocalDate.from(startDatetime);
+        latest = endDatetime == null ? earliest.plusDays(DEFAULT_DAYS - 1) : LocalDate.from(endDatetime);
+    }
+
+    @Override
+    protected void checkIfParametersValid() throws DukeException {
+        if (earliest.isAfter(latest)) {
+            throw new DukeException("Start date cannot be after the end date");
+        }
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * Lists the occurrences by merging the occurrences of each task, which are already in order.
+     * Each task only works out its next occurrence when the one before it has been listed.
+     */
+    @Override
+    public String execute(TaskList tasks, Storage storage) {
+        List<Task> snapshot = tasks.getSnapshot();
+        PriorityQueue<Source> sources = new PriorityQueue<>(Comparator.<Source, LocalDateTime>comparing(
+                source -> source.start).thenComparingInt(source -> source.taskIndex));
+
+        for (int i = 0; i < snapshot.size(); i++) {
+            Source source = new Source(snapshot.get(i).getOccurrences(earliest, latest), i);
+
+            if (source.advance()) {
+                sources.add(source);
+            }
+        }
+
+        List<Task> occurrences = new ArrayList<>();
+
+        while (!sources.isEmpty()) {
+            Source source = sources.poll();
+            occurrences.add(source.occurrence);
+
+            if (source.advance()) {
+                sources.add(source);
+            }
+        }
+
+        StringBuilder period = new StringBuilder();
+        DISPLAY_DATE_FORMATTER.formatTo(earliest, period.append(" from "));
+        DISPLAY_DATE_FORMATTER.formatTo(latest, period.append(" to "));
+
+        if (occurrences.isEmpty()) {
+            return "There are no deadlines or events" + period + ".";
+        }
+
+        StringBuilder response = new StringBuilder("Here is your agenda").append(period).append(":\n");
+        return appendNumberedTasks(response, occurrences).toString();
+    }
+
+    private static LocalDateTime toDateTime(TemporalAccessor temporalAccessor) {
+        return temporalAccessor instanceof LocalDateTime
+                ? (LocalDateTime) temporalAccessor
+                : ((LocalDate) temporalAccessor).atStartOfDay();
+    }
+}
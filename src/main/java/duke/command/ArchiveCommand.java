@@ -0,0 +1,67 @@
+package duke.command;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import duke.core.DukeException;
+import duke.core.Storage;
+import duke.task.Task;
+import duke.task.TaskList;
+
+/**
+ * Command to move completed tasks from the task list to the archive.
+ */
+public class ArchiveCommand extends Command {
+    private Integer minimumDaysCompleted;
+
+    /**
+     * Constructor for ArchiveCommand.
+     *
+     * @param parameterMap Map of parameters for the command.
+     */
+    public ArchiveCommand(Map<String, String> parameterMap) throws DukeException {
+        super(parameterMap);
+
+        this.loadParameters();
+        this.checkIfParametersValid();
+    }
+
+    @Override
+    protected void loadParameters() throws DukeException {
+        String olderString = parameterMap.get("older");
+
+        if (olderString == null) {
+            return;
+        }
+
+        try {
+            minimumDaysCompleted = Integer.parseInt(olderString.trim());
+        } catch (NumberFormatException e) {
+            throw new DukeException("Please enter the number of days as a whole number, e.g. /older 30.");
+        }
+    }
+
+    @Override
+    protected void checkIfParametersValid() throws DukeException {
+        if (minimumDaysCompleted != null && minimumDaysCompleted < 0) {
+            throw new DukeException("Number of days cannot be negative.");
+        }
+    }
+
+    @Override
+    public String execute(TaskList tasks, Storage storage) throws DukeException {
+        LocalDate latestCompletedDate = minimumDaysCompleted == null
+                ? null
+                : LocalDate.now().minusDays(minimumDaysCompleted);
+        List<Task> archivedTasks = tasks.archiveCompletedTasks(storage, tasks.getArchiveFileName(),
+                latestCompletedDate);
+
+        if (archivedTasks.isEmpty()) {
+            return "There are no completed tasks to archive.";
+        }
+
+        return String.format("Archived %d completed tasks. Use list /archive to see them.\n"
+                + "Now you have %d tasks in the list.", archivedTasks.size(), tasks.size());
+    }
+}
@@ -1,10 +1,17 @@
 package duke.command;
 
+import java.util.BitSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 import duke.core.DukeException;
+import duke.core.Parser;
 import duke.core.Storage;
+import duke.task.Task;
 import duke.task.TaskList;
+import duke.task.TaskListManager;
 
 /**
  * Abstract class for all commands.
@@ -13,6 +20,9 @@ public abstract class Command {
     /* Map to store additional parameters for execution of command. */
     protected Map<String, String> parameterMap;
 
+    /* Tasks the command showed or changed, in the order of its response. Empty until it is executed. */
+    private List<Task> resultTasks = List.of();
+
     /**
      * Constructor for Command.
      */
@@ -24,6 +34,30 @@ public abstract class Command {
         return false;
     }
 
+    /**
+     * Returns whether the command only reads the task list, so that it may run alongside other readers.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
+    /**
+     * Returns the tasks the command showed or changed once it is executed, e.g. to send them as structured data
+     * rather than as the text of the response. Commands that do not show tasks return an empty list.
+     */
+    public List<Task> getResultTasks() {
+        return this.resultTasks;
+    }
+
+    /**
+     * Sets the tasks the command showed or changed.
+     *
+     * @param resultTasks Tasks in the order of the response.
+     */
+    protected void setResultTasks(List<Task> resultTasks) {
+        this.resultTasks = resultTasks;
+    }
+
     /**
      * Loads parameters for the command.
      */
@@ -49,6 +83,71 @@ public abstract class Command {
         // No parameters to check
     }
 
+    /**
+     * Checks that every task index specified exists in the task list.
+     *
+     * @param taskIndices Zero-based indices of the tasks specified.
+     * @param tasks TaskList the indices refer to.
+     * @throws DukeException If the task list is empty or an index does not exist.
+     */
+    protected static void checkIfTasksExist(BitSet taskIndices, TaskList tasks) throws DukeException {
+        if (tasks.size() == 0) {
+            throw new DukeException("There are no tasks added. Please add a task first.");
+        }
+
+        if (taskIndices.length() > tasks.size()) {
+            throw new DukeException(String.format("Task %d does not exist. Use a number between 1 and %d.",
+                    taskIndices.length(),
+                    tasks.size()));
+        }
+    }
+
+    /**
+     * Appends the tasks as a numbered list, one task per line.
+     *
+     * @param response Builder to append to.
+     * @param tasks Tasks to append, numbered from 1.
+     * @return The builder.
+     */
+    protected static StringBuilder appendNumberedTasks(StringBuilder response, List<Task> tasks) {
+        for (int i = 0; i < tasks.size(); i++) {
+            response.append(i + 1).append(". ");
+            tasks.get(i).appendTo(response).append('\n');
+        }
+
+        return response;
+    }
+
+    /**
+     * Returns a stream of the tasks in the archive of a task list, read from the archive file as the stream is
+     * consumed. Lines that cannot be parsed are skipped. The stream should be closed once read.
+     *
+     * @param tasks TaskList whose archive is read.
+     * @param storage Storage to read the archive from.
+     * @throws DukeException If the archive cannot be opened.
+     */
+    protected static Stream<Task> readArchivedTasks(TaskList tasks, Storage storage) throws DukeException {
+        return storage.readCompressed(tasks.getArchiveFileName()).map(taskData -> {
+            try {
+                AddCommand addCommand = Parser.parseTaskDataString(taskData);
+                return addCommand == null ? null : addCommand.createTask();
+            } catch (DukeException e) {
+                return null;
+            }
+        }).filter(Objects::nonNull);
+    }
+
+    /**
+     * Executes the command on the current task list.
+     * Commands that work with more than one task list override this instead.
+     *
+     * @param taskLists Task lists of the user.
+     * @param storage Storage to be used by the command.
+     * @throws DukeException If an error occurs during execution of command.
+     */
+    public String execute(TaskListManager taskLists, Storage storage) throws DukeException {
+        return this.execute(taskLists.getCurrent(), storage);
+    }
 
     /**
      * Executes the command.
@@ -1,17 +1,22 @@
 package duke.command;
 
+import java.util.BitSet;
+import java.util.List;
 import java.util.Map;
 
 import duke.core.DukeException;
+import duke.core.Parser;
 import duke.core.Storage;
+import duke.task.Change;
 import duke.task.Task;
 import duke.task.TaskList;
 
 /**
- * Command to delete a task from the task list.
+ * Command to delete one or more tasks from the task list.
  */
 public class DeleteCommand extends Command {
-    private Integer taskIndexToDelete;
+    private BitSet taskIndicesToDelete;
+    private boolean isDeletingCompleted;
 
     /**
      * Constructor for DeleteCommand.
@@ -23,57 +28,63 @@ public class DeleteCommand extends Command {
 
         this.loadParameters();
         this.checkIfParametersSpecified();
-        this.checkIfParametersValid();
     }
 
     @Override
     protected void loadParameters() throws DukeException {
-        try {
-            taskIndexToDelete = Integer.parseInt(parameterMap.get("default")) - 1;
-        } catch (NumberFormatException e) {
-            throw new DukeException(String.format("Task number provided \"%s\" is not a number.\n     "
-                    + "Please retry with a valid task number.", parameterMap.get("default")));
+        isDeletingCompleted = parameterMap.containsKey("done");
+
+        if (isDeletingCompleted && parameterMap.get("default") == null) {
+            return;
         }
+
+        taskIndicesToDelete = Parser.parseTaskNumbers(parameterMap.get("default"));
     }
 
     @Override
     protected void checkIfParametersSpecified() throws DukeException {
-        if (taskIndexToDelete == null) {
-            throw new DukeException("Please enter a task number to delete.");
+        if (isDeletingCompleted && taskIndicesToDelete != null) {
+            throw new DukeException("Please specify either task numbers or /done, but not both.");
         }
-    }
 
-    @Override
-    protected void checkIfParametersValid() throws DukeException {
-        if (taskIndexToDelete < 0) {
-            throw new DukeException("Task number cannot be negative.\n"
-                    + "Please retry with a valid task number.");
+        if (!isDeletingCompleted && taskIndicesToDelete.isEmpty()) {
+            throw new DukeException("Please enter a task number to delete.");
         }
     }
 
     @Override
     public String execute(TaskList tasks, Storage storage) throws DukeException {
+        BitSet indicesToDelete = taskIndicesToDelete;
 
-        if (tasks.size() == 0) {
-            throw new DukeException("There are no tasks added. Please add a task first.");
-        }
+        if (isDeletingCompleted) {
+            indicesToDelete = tasks.findCompletedIndices();
 
-        if (taskIndexToDelete >= tasks.size()) {
-            throw new DukeException(String.format("Task %d does not exist. Use a number between 1 and %d.",
-                    taskIndexToDelete + 1,
-                    tasks.size()));
+            if (indicesToDelete.isEmpty()) {
+                return "There are no completed tasks to remove.";
+            }
+        } else {
+            checkIfTasksExist(indicesToDelete, tasks);
         }
 
-        Task deletedTask = tasks.deleteTask(taskIndexToDelete);
+        List<Task> deletedTasks = tasks.deleteTasks(indicesToDelete);
+        tasks.getHistory().record(Change.ofDelete(deletedTasks, indicesToDelete));
         tasks.storeTasks(storage);
+        this.setResultTasks(deletedTasks);
+
+        assert !deletedTasks.isEmpty() : "Deleted tasks should not be empty";
 
-        assert deletedTask != null : "Deleted task should not be null";
+        StringBuilder response = new StringBuilder();
+
+        if (deletedTasks.size() == 1) {
+            response.append("Noted. I've removed this task:\n");
+            response.append(String.format("  %s\n", deletedTasks.get(0).toString()));
+        } else {
+            response.append(String.format("Noted. I've removed these %d tasks:\n", deletedTasks.size()));
+            deletedTasks.forEach(task -> task.appendTo(response.append("  ")).append('\n'));
+        }
 
-        StringBuilder response = new StringBuilder("Noted. I've removed this task:\n");
-        response.append(String.format("  %s\n", deletedTask.toString()));
         response.append(String.format("Now you have %d tasks in the list.", tasks.size()));
 
         return response.toString();
     }
 }
-
@@ -0,0 +1,122 @@
+package duke.command;
+
+import java.time.temporal.TemporalAccessor;
+import java.util.BitSet;
+import java.util.Map;
+
+import duke.core.DukeException;
+import duke.core.Parser;
+import duke.core.Storage;
+import duke.task.Change;
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Task;
+import duke.task.TaskDetails;
+import duke.task.TaskList;
+
+/**
+ * Command to change the description or dates of a task, keeping its position, tags and completion.
+ */
+public class EditCommand extends Command {
+    private int taskIndex;
+    private String description;
+    private TemporalAccessor dueDatetime;
+    private TemporalAccessor startDatetime;
+    private TemporalAccessor endDatetime;
+
+    /**
+     * Constructor for EditCommand.
+     *
+     * @param parameterMap Map of parameters for the command.
+     * @throws DukeException If the parameters are invalid.
+     */
+    public EditCommand(Map<String, String> parameterMap) throws DukeException {
+        super(parameterMap);
+
+        this.loadParameters();
+        this.checkIfParametersSpecified();
+    }
+
+    @Override
+    protected void loadParameters() throws DukeException {
+        // The task number comes first, followed by the new description if there is one
+        String[] taskNumberAndDescription = parameterMap.get("default") == null
+                ? new String[] {""}
+                : parameterMap.get("default").trim().split("\\s+", 2);
+        BitSet taskIndices = Parser.parseTaskNumbers(taskNumberAndDescription[0]);
+
+        if (taskIndices.cardinality() != 1) {
+            throw new DukeException("Please enter one task number to edit.");
+        }
+
+        taskIndex = taskIndices.nextSetBit(0);
+        description = taskNumberAndDescription.length == 2 ? taskNumberAndDescription[1] : null;
+        dueDatetime = Parser.parseDateTimeInput(parameterMap.get("by"));
+        startDatetime = Parser.parseDateTimeInput(parameterMap.get("from"));
+        endDatetime = Parser.parseDateTimeInput(parameterMap.get("to"));
+    }
+
+    @Override
+    protected void checkIfParametersSpecified() throws DukeException {
+        if (description == null && dueDatetime == null && startDatetime == null && endDatetime == null) {
+            throw new DukeException("Nothing to change. Please specify a new description, or new dates with /by, "
+                    + "/from or /to.");
+        }
+    }
+
+    /**
+     * Replaces the task with an edited copy in the same place and stores the task list once, rather than deleting
+     * the task and adding it again.
+     */
+    @Override
+    public String execute(TaskList tasks, Storage storage) throws DukeException {
+        BitSet taskIndices = new BitSet();
+        taskIndices.set(taskIndex);
+        checkIfTasksExist(taskIndices, tasks);
+
+        Task task = tasks.getSnapshot().get(taskIndex);
+        TaskDetails previousDetails = task.getDetails();
+        TaskDetails details = this.getNewDetails(task, previousDetails);
+
+        Task editedTask = tasks.editTask(task, details);
+        tasks.getHistory().record(Change.ofEdit(task, editedTask));
+        tasks.storeTasks(storage);
+
+        return String.format("Got it. I've changed this task:\n  %s", editedTask);
+    }
+
+    /**
+     * Returns the details of the task with the changes of the command, checked the same way as a new task.
+     */
+    private TaskDetails getNewDetails(Task task, TaskDetails previousDetails) throws DukeException {
+        String newDescription = description == null ? previousDetails.getDescription() : description;
+
+        if (task instanceof Deadline) {
+            if (startDatetime != null || endDatetime != null) {
+                throw new DukeException("Only events have start and end dates. Please use /by for a deadline.");
+            }
+
+            TemporalAccessor newDueDatetime = dueDatetime == null ? previousDetails.getDate1() : dueDatetime;
+            AddCommand.checkIfRecurrenceValid(task.getRecurrence(), newDueDatetime);
+            return new TaskDetails(newDescription, newDueDatetime, null);
+        }
+
+        if (task instanceof Event) {
+            if (dueDatetime != null) {
+                throw new DukeException("Only deadlines have a due date. Please use /from and /to for an event.");
+            }
+
+            TemporalAccessor newStartDatetime = startDatetime == null ? previousDetails.getDate1() : startDatetime;
+            TemporalAccessor newEndDatetime = endDatetime == null ? previousDetails.getDate2() : endDatetime;
+            AddCommand.checkIfDatesValid(newStartDatetime, newEndDatetime);
+            AddCommand.checkIfRecurrenceValid(task.getRecurrence(), newStartDatetime);
+            return new TaskDetails(newDescription, newStartDatetime, newEndDatetime);
+        }
+
+        if (dueDatetime != null || startDatetime != null || endDatetime != null) {
+            throw new DukeException("Todos do not have dates. Please only specify a new description.");
+        }
+
+        return new TaskDetails(newDescription, null, null);
+    }
+}
@@ -19,6 +19,11 @@ public class ExitCommand extends Command {
         super(parameterMap);
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public String execute(TaskList tasks, Storage storage) {
         return "Bye. Hope to see you again soon!";
@@ -0,0 +1,59 @@
+package duke.command;
+
+import java.util.List;
+import java.util.Map;
+
+import duke.core.DukeException;
+import duke.core.Storage;
+import duke.task.Task;
+import duke.task.TaskList;
+import duke.transfer.TaskFormat;
+
+/**
+ * Command to export the tasks to a CSV, JSON Lines or iCalendar file in the data directory.
+ */
+public class ExportCommand extends Command {
+    private String fileName;
+    private TaskFormat format;
+
+    /**
+     * Constructor for ExportCommand.
+     *
+     * @param parameterMap Map of parameters for the command.
+     * @throws DukeException If the file name is invalid.
+     */
+    public ExportCommand(Map<String, String> parameterMap) throws DukeException {
+        super(parameterMap);
+
+        this.loadParameters();
+    }
+
+    @Override
+    protected void loadParameters() throws DukeException {
+        fileName = parameterMap.get("default") == null ? null : parameterMap.get("default").trim();
+        format = TaskFormat.ofFileName(fileName);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    /**
+     * Exports the tasks, encoding each task as it is written so the file is never held in memory.
+     */
+    @Override
+    public String execute(TaskList tasks, Storage storage) throws DukeException {
+        List<Task> snapshot = tasks.getSnapshot();
+
+        if (snapshot.isEmpty()) {
+            return "There are no tasks to export.";
+        }
+
+        long startTime = System.nanoTime();
+        storage.writeTextFile(fileName, format.encode(snapshot.stream()));
+
+        return String.format("Exported %d tasks to %s %s.", snapshot.size(), fileName,
+                ImportCommand.formatRate(snapshot.size(), startTime));
+    }
+}
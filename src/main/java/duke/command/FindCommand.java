@@ -1,11 +1,14 @@
 package duke.command;
 
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import duke.core.DukeException;
 import duke.core.Storage;
+import duke.task.Task;
 import duke.task.TaskList;
 
 /**
@@ -13,6 +16,7 @@ import duke.task.TaskList;
  */
 public class FindCommand extends Command {
     private String keyword;
+    private boolean isSearchingArchive;
 
     /**
      * Constructor for FindCommand.
@@ -28,7 +32,12 @@ public class FindCommand extends Command {
 
     @Override
     public void loadParameters() throws DukeException {
-        keyword = parameterMap.get("default").toLowerCase();
+        keyword = parameterMap.get("default");
+        isSearchingArchive = parameterMap.containsKey("archive");
+
+        if (keyword != null) {
+            keyword = keyword.trim().toLowerCase();
+        }
     }
 
     @Override
@@ -38,21 +47,62 @@ public class FindCommand extends Command {
         }
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public String execute(TaskList tasks, Storage storage) throws DukeException {
-        AtomicInteger count = new AtomicInteger(1);
+        StringBuilder response = new StringBuilder(isSearchingArchive
+                ? "Here are the matching tasks in your archive:\n"
+                : "Here are the matching tasks in your list:\n");
+        // Every task is rendered into the same builder, so only matching tasks are copied into the response
+        StringBuilder line = new StringBuilder();
+        List<Task> matchingTasks = new ArrayList<>();
+
+        // The archive is read one task at a time rather than loaded whole
+        try (Stream<Task> candidates = isSearchingArchive ? readArchivedTasks(tasks, storage) : tasks.getTasks()) {
+            for (Task task : (Iterable<Task>) candidates::iterator) {
+                line.setLength(0);
+                task.appendTo(line);
 
-        Stream<String> taskDetails = tasks.getTasks().map(task -> task.toString())
-                .filter(task -> task.toLowerCase().contains(keyword))
-                .map(task -> String.format("%d. %s\n", count.getAndIncrement(), task.toString()));
+                if (containsIgnoreCase(line, keyword)) {
+                    matchingTasks.add(task);
+                    response.append(matchingTasks.size()).append(". ").append(line).append('\n');
+                }
+            }
+        } catch (UncheckedIOException e) {
+            throw new DukeException("An error occured while reading the archive.");
+        }
 
-        StringBuilder response = new StringBuilder("Here are the matching tasks in your list:\n");
-        taskDetails.forEach(task -> response.append(task));
+        this.setResultTasks(matchingTasks);
 
-        if (count.get() == 1) {
+        if (matchingTasks.isEmpty()) {
             return "There are no matching tasks found.";
         }
 
         return response.toString();
     }
+
+    /**
+     * Returns whether the text contains the lowercase keyword, ignoring the case of the text.
+     */
+    private static boolean containsIgnoreCase(CharSequence text, String keyword) {
+        int lastStart = text.length() - keyword.length();
+
+        for (int start = 0; start <= lastStart; start++) {
+            int i = 0;
+
+            while (i < keyword.length() && Character.toLowerCase(text.charAt(start + i)) == keyword.charAt(i)) {
+                i++;
+            }
+
+            if (i == keyword.length()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
 }
@@ -0,0 +1,137 @@
+package duke.command;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import duke.core.DukeException;
+import duke.core.Storage;
+import duke.task.Change;
+import duke.task.Task;
+import duke.task.TaskList;
+import duke.transfer.TaskFormat;
+import duke.transfer.TaskReader;
+
+/**
+ * Command to import tasks from a CSV, JSON Lines or iCalendar file in the data directory, adding them to the end of
+ * the task list.
+ */
+public class ImportCommand extends Command {
+    /* Tasks are added to the task list in batches, so each batch copies the list once rather than each task. */
+    private static final int BATCH_SIZE = 10000;
+
+    private String fileName;
+    private TaskFormat format;
+
+    /**
+     * Constructor for ImportCommand.
+     *
+     * @param parameterMap Map of parameters for the command.
+     * @throws DukeException If the file name is invalid.
+     */
+    public ImportCommand(Map<String, String> parameterMap) throws DukeException {
+        super(parameterMap);
+
+        this.loadParameters();
+    }
+
+    @Override
+    protected void loadParameters() throws DukeException {
+        fileName = parameterMap.get("default") == null ? null : parameterMap.get("default").trim();
+        format = TaskFormat.ofFileName(fileName);
+    }
+
+    /**
+     * Imports the tasks, reading the file one task at a time. Each task is checked as it is read, and invalid
+     * tasks are skipped. Valid tasks are appended in batches, and are sorted into the task list and stored once at
+     * the end. If the file cannot be read to the end, none of its tasks are kept.
+     */
+    @Override
+    public String execute(TaskList tasks, Storage storage) throws DukeException {
+        if (!storage.hasFile(fileName)) {
+            throw new DukeException(String.format("File \"%s\" does not exist in the data directory.", fileName));
+        }
+
+        long startTime = System.nanoTime();
+        // The imported tasks are the ones from here to the end until they are sorted
+        int start = tasks.size();
+        List<Task> batch = new ArrayList<>(BATCH_SIZE);
+        int skippedCount = 0;
+        String firstError = null;
+
+        try (Stream<String> lines = storage.readFile(fileName)) {
+            TaskReader reader = format.createReader(lines.iterator());
+
+            while (true) {
+                Task task;
+
+                try {
+                    task = reader.readTask();
+                } catch (DukeException e) {
+                    skippedCount++;
+                    firstError = firstError != null
+                            ? firstError
+                            : String.format("line %d: %s", reader.getRecordLineNumber(), e.getMessage());
+                    continue;
+                }
+
+                if (task == null) {
+                    break;
+                }
+
+                batch.add(task);
+
+                if (batch.size() == BATCH_SIZE) {
+                    addBatch(tasks, batch);
+                }
+            }
+
+            addBatch(tasks, batch);
+        } catch (UncheckedIOException e) {
+            BitSet appendedPositions = new BitSet();
+            appendedPositions.set(start, tasks.size());
+            tasks.deleteTasks(appendedPositions);
+            throw new DukeException(String.format("An error occured while reading \"%s\". No tasks were imported.",
+                    fileName));
+        }
+
+        BitSet importedPositions = tasks.sortAddedTasks(start);
+        int importedCount = importedPositions.cardinality();
+        StringBuilder response = new StringBuilder();
+
+        if (importedCount == 0) {
+            response.append(String.format("There are no tasks to import from %s.", fileName));
+        } else {
+            tasks.getHistory().record(Change.ofImport(importedPositions, fileName));
+            tasks.storeTasks(storage);
+            response.append(String.format("Imported %d tasks from %s %s.", importedCount, fileName,
+                    formatRate(importedCount + skippedCount, startTime)));
+        }
+
+        if (skippedCount > 0) {
+            response.append(String.format("\nSkipped %d invalid tasks. The first is at %s", skippedCount,
+                    firstError));
+        }
+
+        return response.append(String.format("\nNow you have %d tasks in the list.", tasks.size())).toString();
+    }
+
+    private static void addBatch(TaskList tasks, List<Task> batch) {
+        tasks.appendTasks(batch);
+        batch.clear();
+    }
+
+    /**
+     * Returns how long a transfer took and how many rows it moved a second, e.g. "in 1.25s (80,000 rows/s)".
+     *
+     * @param rowCount Number of rows read or written.
+     * @param startTime Time the transfer started, from {@link System#nanoTime()}.
+     */
+    static String formatRate(long rowCount, long startTime) {
+        double seconds = Math.max(System.nanoTime() - startTime, 1) / 1e9;
+        return String.format("in %.2fs (%,.0f rows/s)", seconds, rowCount / seconds);
+    }
+}
@@ -1,15 +1,20 @@
 package duke.command;
 
+import java.io.UncheckedIOException;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
+import duke.core.DukeException;
 import duke.core.Storage;
+import duke.task.Task;
 import duke.task.TaskList;
 
 /**
  * Command to list all tasks in the task list.
  */
 public class ListCommand extends Command {
+    private boolean isListingArchive;
 
     /**
      * Constructor for ListCommand.
@@ -18,19 +23,51 @@ public class ListCommand extends Command {
      */
     public ListCommand(Map<String, String> parameterMap) {
         super(parameterMap);
+
+        this.isListingArchive = parameterMap.containsKey("archive");
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
     }
 
     @Override
-    public String execute(TaskList tasks, Storage storage) {
-        if (tasks.size() == 0) {
+    public String execute(TaskList tasks, Storage storage) throws DukeException {
+        if (isListingArchive) {
+            return listArchive(tasks, storage);
+        }
+
+        List<Task> snapshot = tasks.getSnapshot();
+        this.setResultTasks(snapshot);
+
+        if (snapshot.isEmpty()) {
             return "There are no tasks to list.";
         }
 
-        AtomicInteger count = new AtomicInteger(1);
-        StringBuilder response = new StringBuilder();
-        response.append("Here are the tasks in your list:\n");
-        tasks.getTasks().map(task -> String.format("%d. %s\n", count.getAndIncrement(), task.toString()))
-                .forEach(task -> response.append(task));
+        StringBuilder response = new StringBuilder("Here are the tasks in your list:\n");
+        return appendNumberedTasks(response, snapshot).toString();
+    }
+
+    /**
+     * Lists the archived tasks, reading the archive one task at a time.
+     */
+    private static String listArchive(TaskList tasks, Storage storage) throws DukeException {
+        StringBuilder response = new StringBuilder("Here are the tasks in your archive:\n");
+        int count = 0;
+
+        try (Stream<Task> archivedTasks = readArchivedTasks(tasks, storage)) {
+            for (Task task : (Iterable<Task>) archivedTasks::iterator) {
+                count++;
+                task.appendTo(response.append(count).append(". ")).append('\n');
+            }
+        } catch (UncheckedIOException e) {
+            throw new DukeException("An error occured while reading the archive.");
+        }
+
+        if (count == 0) {
+            return "There are no archived tasks to list.";
+        }
 
         return response.toString();
     }
@@ -1,17 +1,23 @@
 package duke.command;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import duke.core.DukeException;
+import duke.core.Parser;
 import duke.core.Storage;
+import duke.task.Change;
 import duke.task.Task;
 import duke.task.TaskList;
 
 /**
- * Command to mark a task as done.
+ * Command to mark one or more tasks as done.
  */
 public class MarkCommand extends Command {
-    private Integer taskIndexToMark;
+    private BitSet taskIndicesToMark;
 
     /**
      * Constructor for MarkCommand.
@@ -23,59 +29,72 @@ public class MarkCommand extends Command {
 
         this.loadParameters();
         this.checkIfParametersSpecified();
-        this.checkIfParametersValid();
     }
 
     @Override
     protected void loadParameters() throws DukeException {
-        try {
-            taskIndexToMark = Integer.parseInt(parameterMap.get("default")) - 1;
-        } catch (NumberFormatException e) {
-            if (parameterMap.get("default") == null) {
-                throw new DukeException("Please enter a task number.");
-            }
-
-            throw new DukeException(String.format("Task number provided \"%s\" is not a number.\n     "
-                    + "Please retry with a valid task number.", parameterMap.get("default")));
-        }
+        taskIndicesToMark = Parser.parseTaskNumbers(parameterMap.get("default"));
     }
 
     @Override
     protected void checkIfParametersSpecified() throws DukeException {
-        if (taskIndexToMark == null) {
+        if (taskIndicesToMark.isEmpty()) {
             throw new DukeException("Please enter a task number.");
         }
     }
 
-    @Override
-    protected void checkIfParametersValid() throws DukeException {
-        if (taskIndexToMark < 0) {
-            throw new DukeException("Task number cannot be negative.\n"
-                    + "Please retry with a valid task number.");
-        }
-    }
-
     @Override
     public String execute(TaskList tasks, Storage storage) throws DukeException {
-        if (tasks.size() == 0) {
-            throw new DukeException("There are no tasks added. Please add a task first.");
-        }
+        checkIfTasksExist(taskIndicesToMark, tasks);
 
-        if (taskIndexToMark >= tasks.size()) {
-            throw new DukeException(String.format("Task %d does not exist. Use a number between 1 and %d.",
-                    taskIndexToMark + 1,
-                    tasks.size()));
-        }
+        List<Task> snapshot = tasks.getSnapshot();
+        List<Task> previousTasks = taskIndicesToMark.stream()
+                .mapToObj(snapshot::get)
+                .collect(Collectors.toList());
+        List<Task> tasksMarked = tasks.markAsDone(taskIndicesToMark);
+        recordChangedTasks(tasks, previousTasks, tasksMarked, true);
+        this.setResultTasks(tasksMarked);
 
-        Task taskMarked = tasks.markAsDone(taskIndexToMark);
         tasks.storeTasks(storage);
 
-        assert taskMarked != null : "Marked task should not be null";
+        assert !tasksMarked.isEmpty() : "Marked tasks should not be empty";
 
         StringBuilder response = new StringBuilder();
-        response.append("Nice! I've marked this task as done:\n");
-        response.append(String.format("  %s", taskMarked.toString()));
+
+        if (tasksMarked.size() == 1) {
+            response.append("Nice! I've marked this task as done:\n");
+            response.append(String.format("  %s", tasksMarked.get(0).toString()));
+            return response.toString();
+        }
+
+        response.append(String.format("Nice! I've marked these %d tasks as done:", tasksMarked.size()));
+        tasksMarked.forEach(task -> task.appendTo(response.append("\n  ")));
 
         return response.toString();
     }
+
+    /**
+     * Records the tasks that marking or unmarking replaced, leaving out those that already had the status.
+     *
+     * @param tasks Task list the tasks were marked in.
+     * @param previousTasks Tasks before they were marked.
+     * @param markedTasks Tasks after they were marked, in the same order.
+     * @param isCompleted Completion status the tasks were changed to.
+     */
+    static void recordChangedTasks(TaskList tasks, List<Task> previousTasks, List<Task> markedTasks,
+            boolean isCompleted) {
+        List<Task> replacedTasks = new ArrayList<>();
+        List<Task> changedTasks = new ArrayList<>();
+
+        for (int i = 0; i < previousTasks.size(); i++) {
+            if (previousTasks.get(i) != markedTasks.get(i)) {
+                replacedTasks.add(previousTasks.get(i));
+                changedTasks.add(markedTasks.get(i));
+            }
+        }
+
+        if (!changedTasks.isEmpty()) {
+            tasks.getHistory().record(Change.ofMark(replacedTasks, changedTasks, isCompleted));
+        }
+    }
 }
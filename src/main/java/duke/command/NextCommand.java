@@ -0,0 +1,70 @@
+package duke.command;
+
+import java.util.List;
+import java.util.Map;
+
+import duke.core.DukeException;
+import duke.core.Storage;
+import duke.task.Task;
+import duke.task.TaskList;
+
+/**
+ * Command to list the most urgent tasks that are not done, by priority and then by due date.
+ */
+public class NextCommand extends Command {
+    private static final int DEFAULT_COUNT = 5;
+
+    private int count = DEFAULT_COUNT;
+
+    /**
+     * Constructor for NextCommand.
+     *
+     * @param parameterMap Map of parameters for the command.
+     * @throws DukeException If the number of tasks is invalid.
+     */
+    public NextCommand(Map<String, String> parameterMap) throws DukeException {
+        super(parameterMap);
+
+        this.loadParameters();
+        this.checkIfParametersValid();
+    }
+
+    @Override
+    protected void loadParameters() throws DukeException {
+        String countString = parameterMap.get("default");
+
+        if (countString == null) {
+            return;
+        }
+
+        try {
+            count = Integer.parseInt(countString.trim());
+        } catch (NumberFormatException e) {
+            throw new DukeException("Please enter the number of tasks as a whole number, e.g. next 3.");
+        }
+    }
+
+    @Override
+    protected void checkIfParametersValid() throws DukeException {
+        if (count < 1) {
+            throw new DukeException("Number of tasks should be at least 1.");
+        }
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public String execute(TaskList tasks, Storage storage) {
+        List<Task> mostUrgent = tasks.getMostUrgent(count);
+
+        if (mostUrgent.isEmpty()) {
+            return "There are no tasks left to do.";
+        }
+
+        StringBuilder response = new StringBuilder("Here are your most urgent tasks:\n");
+        return appendNumberedTasks(response, mostUrgent).toString();
+    }
+}
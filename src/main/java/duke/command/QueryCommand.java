@@ -0,0 +1,72 @@
+package duke.command;
+
+import java.util.Map;
+
+import duke.core.DukeException;
+import duke.core.Storage;
+import duke.query.Query;
+import duke.task.TaskList;
+
+/**
+ * Command to list the tasks that match a query, e.g. query tag:work AND NOT done:yes /sort date /limit 5.
+ */
+public class QueryCommand extends Command {
+    private Query query;
+    private boolean isExplaining;
+
+    /**
+     * Constructor for QueryCommand.
+     *
+     * @param parameterMap Map of parameters for the command.
+     * @throws DukeException If the query, order or limit is invalid.
+     */
+    public QueryCommand(Map<String, String> parameterMap) throws DukeException {
+        super(parameterMap);
+
+        this.loadParameters();
+    }
+
+    @Override
+    protected void loadParameters() throws DukeException {
+        String expression = parameterMap.get("default");
+        String limitString = parameterMap.get("limit");
+        int limit = 0;
+
+        if (limitString != null) {
+            try {
+                limit = Integer.parseInt(limitString.trim());
+            } catch (NumberFormatException e) {
+                throw new DukeException("Please enter the limit as a whole number, e.g. /limit 5.");
+            }
+
+            if (limit < 1) {
+                throw new DukeException("Limit should be at least 1.");
+            }
+        }
+
+        query = new Query(expression == null ? "" : expression, parameterMap.get("sort"), limit);
+        isExplaining = parameterMap.containsKey("explain");
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public String execute(TaskList tasks, Storage storage) {
+        Query.Result result = query.execute(tasks);
+        StringBuilder response = new StringBuilder();
+
+        if (isExplaining) {
+            response.append(result.getPlan()).append("\n\n");
+        }
+
+        if (result.getTasks().isEmpty()) {
+            return response.append("There are no matching tasks found.").toString();
+        }
+
+        response.append("Here are the matching tasks:\n");
+        return appendNumberedTasks(response, result.getTasks()).toString();
+    }
+}
@@ -0,0 +1,36 @@
+package duke.command;
+
+import java.util.Map;
+
+import duke.core.DukeException;
+import duke.core.Storage;
+import duke.task.Change;
+import duke.task.TaskList;
+
+/**
+ * Command to redo the most recent undone change to the task list.
+ */
+public class RedoCommand extends Command {
+
+    /**
+     * Constructor for RedoCommand.
+     *
+     * @param parameterMap Map of parameters for the command.
+     */
+    public RedoCommand(Map<String, String> parameterMap) {
+        super(parameterMap);
+    }
+
+    @Override
+    public String execute(TaskList tasks, Storage storage) throws DukeException {
+        Change change = tasks.getHistory().redo(tasks);
+
+        if (change == null) {
+            return "There is nothing to redo.";
+        }
+
+        tasks.storeTasks(storage);
+
+        return String.format("Redone: %s", change.getDescription());
+    }
+}
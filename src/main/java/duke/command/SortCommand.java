@@ -1,10 +1,12 @@
 package duke.command;
 
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import duke.core.DukeException;
 import duke.core.Storage;
+import duke.task.Change;
+import duke.task.Task;
 import duke.task.TaskList;
 import duke.task.TaskList.SortBy;
 
@@ -63,16 +65,18 @@ public class SortCommand extends Command {
 
     @Override
     public String execute(TaskList tasks, Storage storage) throws DukeException {
+        List<Task> previousOrder = tasks.getSnapshot();
+        SortBy previousSortBy = tasks.getSortBy();
         tasks.sort(sortBy);
 
+        tasks.getHistory().record(Change.ofSort(previousOrder, previousSortBy, sortBy));
         tasks.storeTasks(storage);
 
-        AtomicInteger count = new AtomicInteger(1);
+        List<Task> sortedTasks = tasks.getSnapshot();
+        this.setResultTasks(sortedTasks);
+
         StringBuilder response = new StringBuilder();
         response.append(String.format("Tasks sorted by %s:\n", sortBy.toString()));
-        tasks.getTasks().map(task -> String.format("%d. %s\n", count.getAndIncrement(), task.toString()))
-                .forEach(task -> response.append(task));
-
-        return response.toString();
+        return appendNumberedTasks(response, sortedTasks).toString();
     }
 }
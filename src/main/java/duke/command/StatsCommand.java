@@ -0,0 +1,32 @@
+package duke.command;
+
+import java.util.Map;
+
+import duke.core.Storage;
+import duke.monitor.Metrics;
+import duke.task.TaskList;
+
+/**
+ * Command to show latency and storage metrics.
+ */
+public class StatsCommand extends Command {
+
+    /**
+     * Constructor for StatsCommand.
+     *
+     * @param parameterMap Map of parameters for the command.
+     */
+    public StatsCommand(Map<String, String> parameterMap) {
+        super(parameterMap);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public String execute(TaskList tasks, Storage storage) {
+        return Metrics.getReport();
+    }
+}
@@ -0,0 +1,44 @@
+package duke.command;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import duke.core.Storage;
+import duke.task.Task.TaskType;
+import duke.task.TaskList;
+import duke.task.TaskSummary;
+
+/**
+ * Command to show how many tasks there are of each type, how many are done, how many deadlines are overdue and how
+ * many events take place this week.
+ */
+public class SummaryCommand extends Command {
+
+    /**
+     * Constructor for SummaryCommand.
+     *
+     * @param parameterMap Map of parameters for the command.
+     */
+    public SummaryCommand(Map<String, String> parameterMap) {
+        super(parameterMap);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public String execute(TaskList tasks, Storage storage) {
+        TaskSummary summary = tasks.getSummary(LocalDate.now());
+
+        return "Here is a summary of your tasks:\n"
+                + String.format("Todos: %d (%d done)\n", summary.getCount(TaskType.TODO),
+                        summary.getCompletedCount(TaskType.TODO))
+                + String.format("Deadlines: %d (%d done, %d overdue)\n", summary.getCount(TaskType.DEADLINE),
+                        summary.getCompletedCount(TaskType.DEADLINE), summary.getOverdueCount())
+                + String.format("Events: %d (%d done, %d this week)\n", summary.getCount(TaskType.EVENT),
+                        summary.getCompletedCount(TaskType.EVENT), summary.getEventsThisWeekCount())
+                + String.format("Total: %d (%d done)", summary.getTotalCount(), summary.getCompletedCount());
+    }
+}
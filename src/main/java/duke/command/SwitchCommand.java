@@ -0,0 +1,72 @@
+package duke.command;
+
+import java.util.List;
+import java.util.Map;
+
+import duke.core.DukeException;
+import duke.core.Storage;
+import duke.task.TaskList;
+import duke.task.TaskListManager;
+
+/**
+ * Command to switch to another named task list, or to show the task lists if no name is given.
+ */
+public class SwitchCommand extends Command {
+    private String listName;
+
+    /**
+     * Constructor for SwitchCommand.
+     *
+     * @param parameterMap Map of parameters for the command.
+     */
+    public SwitchCommand(Map<String, String> parameterMap) {
+        super(parameterMap);
+
+        this.loadParameters();
+    }
+
+    @Override
+    protected void loadParameters() {
+        listName = parameterMap.get("default");
+    }
+
+    @Override
+    public String execute(TaskListManager taskLists, Storage storage) throws DukeException {
+        if (listName == null) {
+            return listTaskLists(taskLists);
+        }
+
+        boolean isNewList = !taskLists.hasList(listName);
+        TaskList tasks = taskLists.switchTo(listName);
+
+        if (isNewList) {
+            return String.format("Created and switched to the new task list \"%s\".", tasks.getName());
+        }
+
+        return String.format("Switched to the task list \"%s\".\nNow you have %d tasks in the list.",
+                tasks.getName(), tasks.size());
+    }
+
+    @Override
+    public String execute(TaskList tasks, Storage storage) throws DukeException {
+        throw new DukeException("Switching lists is not possible here.");
+    }
+
+    private static String listTaskLists(TaskListManager taskLists) throws DukeException {
+        List<String> names = taskLists.getListNames();
+        String currentName = taskLists.getCurrent().getName();
+        StringBuilder response = new StringBuilder("Here are your task lists:\n");
+
+        for (int i = 0; i < names.size(); i++) {
+            response.append(i + 1).append(". ").append(names.get(i));
+
+            if (names.get(i).equals(currentName)) {
+                response.append(" (current)");
+            }
+
+            response.append('\n');
+        }
+
+        return response.append("Use switch [name] to switch to another list.").toString();
+    }
+}
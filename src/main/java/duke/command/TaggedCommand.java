@@ -0,0 +1,74 @@
+package duke.command;
+
+import java.util.List;
+import java.util.Map;
+
+import duke.core.DukeException;
+import duke.core.Parser;
+import duke.core.Storage;
+import duke.task.Task;
+import duke.task.TaskList;
+
+/**
+ * Command to list the tasks that have all of the given tags.
+ */
+public class TaggedCommand extends Command {
+    private List<String> requiredTags;
+    private List<String> excludedTags = List.of();
+    private boolean isOnlyUndone;
+
+    /**
+     * Constructor for TaggedCommand.
+     *
+     * @param parameterMap Map of parameters for the command.
+     * @throws DukeException If the tags are invalid or not specified.
+     */
+    public TaggedCommand(Map<String, String> parameterMap) throws DukeException {
+        super(parameterMap);
+
+        this.loadParameters();
+        this.checkIfParametersSpecified();
+    }
+
+    @Override
+    protected void loadParameters() throws DukeException {
+        String tagString = parameterMap.get("default");
+        requiredTags = tagString == null ? List.of() : Parser.parseTags(tagString);
+
+        if (parameterMap.get("not") != null) {
+            excludedTags = Parser.parseTags(parameterMap.get("not"));
+        }
+
+        isOnlyUndone = parameterMap.containsKey("undone");
+    }
+
+    @Override
+    protected void checkIfParametersSpecified() throws DukeException {
+        if (requiredTags.isEmpty()) {
+            throw new DukeException("No tags specified. Please specify at least one tag, e.g. tagged urgent.");
+        }
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public String execute(TaskList tasks, Storage storage) {
+        List<Task> taggedTasks = tasks.findTagged(requiredTags, excludedTags, isOnlyUndone);
+        StringBuilder description = new StringBuilder();
+
+        for (String tag : requiredTags) {
+            description.append(" #").append(tag);
+        }
+
+        if (taggedTasks.isEmpty()) {
+            return "There are no matching tasks tagged" + description + ".";
+        }
+
+        StringBuilder response = new StringBuilder("Here are the matching tasks tagged").append(description)
+                .append(":\n");
+        return appendNumberedTasks(response, taggedTasks).toString();
+    }
+}
@@ -0,0 +1,36 @@
+package duke.command;
+
+import java.util.Map;
+
+import duke.core.DukeException;
+import duke.core.Storage;
+import duke.task.Change;
+import duke.task.TaskList;
+
+/**
+ * Command to undo the most recent change to the task list.
+ */
+public class UndoCommand extends Command {
+
+    /**
+     * Constructor for UndoCommand.
+     *
+     * @param parameterMap Map of parameters for the command.
+     */
+    public UndoCommand(Map<String, String> parameterMap) {
+        super(parameterMap);
+    }
+
+    @Override
+    public String execute(TaskList tasks, Storage storage) throws DukeException {
+        Change change = tasks.getHistory().undo(tasks);
+
+        if (change == null) {
+            return "There is nothing to undo.";
+        }
+
+        tasks.storeTasks(storage);
+
+        return String.format("Undone: %s", change.getDescription());
+    }
+}
@@ -1,17 +1,21 @@
 package duke.command;
 
+import java.util.BitSet;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import duke.core.DukeException;
+import duke.core.Parser;
 import duke.core.Storage;
 import duke.task.Task;
 import duke.task.TaskList;
 
 /**
- * Command to mark a task as not done.
+ * Command to mark one or more tasks as not done.
  */
 public class UnmarkCommand extends Command {
-    private Integer taskIndexToUnmark;
+    private BitSet taskIndicesToUnmark;
 
     /**
      * Constructor for UnmarkCommand.
@@ -23,58 +27,46 @@ public class UnmarkCommand extends Command {
 
         this.loadParameters();
         this.checkIfParametersSpecified();
-        this.checkIfParametersValid();
     }
 
     @Override
     protected void loadParameters() throws DukeException {
-        try {
-            taskIndexToUnmark = Integer.parseInt(parameterMap.get("default")) - 1;
-        } catch (NumberFormatException e) {
-            if (parameterMap.get("default") == null) {
-                throw new DukeException("Please enter a task number.");
-            }
-
-            throw new DukeException(String.format("Task number provided \"%s\" is not a number.\n     "
-                    + "Please retry with a valid task number.", parameterMap.get("default")));
-        }
+        taskIndicesToUnmark = Parser.parseTaskNumbers(parameterMap.get("default"));
     }
 
     @Override
     protected void checkIfParametersSpecified() throws DukeException {
-        if (taskIndexToUnmark == null) {
+        if (taskIndicesToUnmark.isEmpty()) {
             throw new DukeException("Please enter a task number.");
         }
     }
 
-    @Override
-    protected void checkIfParametersValid() throws DukeException {
-        if (taskIndexToUnmark < 0) {
-            throw new DukeException("Task number cannot be negative.\n"
-                    + "Please retry with a valid task number.");
-        }
-    }
-
     @Override
     public String execute(TaskList tasks, Storage storage) throws DukeException {
-        if (tasks.size() == 0) {
-            throw new DukeException("There are no tasks added. Please add a task first.");
-        }
+        checkIfTasksExist(taskIndicesToUnmark, tasks);
 
-        if (taskIndexToUnmark >= tasks.size()) {
-            throw new DukeException(String.format("Task %d does not exist. Use a number between 1 and %d.",
-                    taskIndexToUnmark + 1,
-                    tasks.size()));
-        }
+        List<Task> snapshot = tasks.getSnapshot();
+        List<Task> previousTasks = taskIndicesToUnmark.stream()
+                .mapToObj(snapshot::get)
+                .collect(Collectors.toList());
+        List<Task> unmarkedTasks = tasks.markAsUndone(taskIndicesToUnmark);
+        MarkCommand.recordChangedTasks(tasks, previousTasks, unmarkedTasks, false);
+        this.setResultTasks(unmarkedTasks);
 
-        Task unmarkedTask = tasks.markAsUndone(taskIndexToUnmark);
         tasks.storeTasks(storage);
 
-        assert unmarkedTask != null : "Unmarked task should not be null";
+        assert !unmarkedTasks.isEmpty() : "Unmarked tasks should not be empty";
 
         StringBuilder response = new StringBuilder();
-        response.append("OK, I've marked this task as not done yet:\n");
-        response.append(String.format("  %s", unmarkedTask.toString()));
+
+        if (unmarkedTasks.size() == 1) {
+            response.append("OK, I've marked this task as not done yet:\n");
+            response.append(String.format("  %s", unmarkedTasks.get(0).toString()));
+            return response.toString();
+        }
+
+        response.append(String.format("OK, I've marked these %d tasks as not done yet:", unmarkedTasks.size()));
+        unmarkedTasks.forEach(task -> task.appendTo(response.append("\n  ")));
 
         return response.toString();
     }
@@ -0,0 +1,214 @@
+package duke.core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import duke.command.Command;
+
+/**
+ * Runs a script of commands against Duke without a user interface.
+ * Writes to the data file are deferred until the end of the script, or until every checkpoint.
+ */
+public class BatchRunner {
+    private static final String USAGE = "Usage: BatchRunner <script file> [checkpoint interval] [base directory]";
+
+    private Duke duke;
+    private int checkpointInterval;
+    private PrintStream errorOutput;
+
+    /**
+     * Constructor for BatchRunner.
+     *
+     * @param duke Duke instance to run the commands on.
+     * @param checkpointInterval Number of commands between writes to the data file, or 0 to only write at the end.
+     * @param errorOutput Stream to report failed commands to.
+     */
+    public BatchRunner(Duke duke, int checkpointInterval, PrintStream errorOutput) {
+        assert checkpointInterval >= 0 : "Checkpoint interval should not be negative";
+
+        this.duke = duke;
+        this.checkpointInterval = checkpointInterval;
+        this.errorOutput = errorOutput;
+    }
+
+    /**
+     * Runs every command from the reader until the end of input or a bye command.
+     * Blank lines and lines starting with "#" are skipped.
+     *
+     * @param reader Reader to read commands from.
+     * @return Statistics of the run.
+     * @throws DukeException If the script cannot be read or the data file cannot be written.
+     */
+    public Statistics run(BufferedReader reader) throws DukeException {
+        Statistics statistics = new Statistics();
+        long startTime = System.nanoTime();
+
+        duke.startBatch();
+
+        try {
+            this.runLines(reader, statistics);
+        } catch (IOException e) {
+            DukeException failure = new DukeException("An error occured while reading the script.");
+            this.endBatchAfterFailure(failure, statistics);
+            throw failure;
+        } catch (DukeException | RuntimeException e) {
+            this.endBatchAfterFailure(e, statistics);
+            throw e;
+        }
+
+        if (duke.endBatch()) {
+            statistics.checkpointCount++;
+        }
+
+        statistics.elapsedNanos = System.nanoTime() - startTime;
+        statistics.taskCount = duke.getTaskCount();
+
+        return statistics;
+    }
+
+    private void runLines(BufferedReader reader, Statistics statistics) throws IOException, DukeException {
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            statistics.lineCount++;
+
+            if (line.isBlank() || line.trim().startsWith("#")) {
+                continue;
+            }
+
+            if (!this.runLine(line, statistics)) {
+                break;
+            }
+
+            if (checkpointInterval > 0 && statistics.commandCount % checkpointInterval == 0 && duke.commit()) {
+                statistics.checkpointCount++;
+            }
+        }
+    }
+
+    /**
+     * Commits the changes made before a failure, so that they are not lost.
+     * A failure to commit is attached to the original failure rather than replacing it.
+     */
+    private void endBatchAfterFailure(Exception failure, Statistics statistics) {
+        try {
+            if (duke.endBatch()) {
+                statistics.checkpointCount++;
+            }
+        } catch (DukeException | RuntimeException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Runs a single line of the script.
+     *
+     * @return Whether the script should continue.
+     */
+    private boolean runLine(String line, Statistics statistics) {
+        Command command;
+
+        try {
+            command = Parser.parseCommand(line);
+        } catch (DukeException e) {
+            statistics.commandCount++;
+            this.recordFailure(e, statistics);
+            return true;
+        }
+
+        if (command.isExit()) {
+            return false;
+        }
+
+        statistics.commandCount++;
+
+        try {
+            duke.execute(command);
+        } catch (DukeException e) {
+            this.recordFailure(e, statistics);
+        }
+
+        return true;
+    }
+
+    private void recordFailure(DukeException e, Statistics statistics) {
+        statistics.failedCount++;
+        errorOutput.printf("Line %d: %s%n", statistics.lineCount, e.getMessage());
+    }
+
+    /**
+     * Runs a script file in batch mode and prints the throughput statistics.
+     *
+     * @param args Script file, optional checkpoint interval and optional base directory.
+     */
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 3) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+
+        try {
+            int checkpointInterval = args.length > 1 ? Integer.parseInt(args[1]) : 0;
+            Duke duke = args.length > 2 ? new Duke(args[2]) : new Duke();
+            BatchRunner runner = new BatchRunner(duke, Math.max(0, checkpointInterval), System.err);
+
+            try (BufferedReader reader = Files.newBufferedReader(Path.of(args[0]))) {
+                System.out.println(runner.run(reader));
+            }
+        } catch (NumberFormatException e) {
+            System.err.println(USAGE);
+            System.exit(1);
+        } catch (IOException | DukeException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Statistics of a batch run.
+     */
+    public static class Statistics {
+        private int lineCount;
+        private int commandCount;
+        private int failedCount;
+        private int checkpointCount;
+        private int taskCount;
+        private long elapsedNanos;
+
+        public int getCommandCount() {
+            return this.commandCount;
+        }
+
+        public int getFailedCount() {
+            return this.failedCount;
+        }
+
+        public int getCheckpointCount() {
+            return this.checkpointCount;
+        }
+
+        /**
+         * Returns the number of commands executed per second.
+         */
+        public double getCommandsPerSecond() {
+            if (elapsedNanos == 0) {
+                return 0;
+            }
+
+            return commandCount / (elapsedNanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Executed %d commands (%d failed) from %d lines in %.1f ms.\n"
+                    + "Throughput: %.0f commands/s\n"
+                    + "Writes to data file: %d\n"
+                    + "Tasks in the list: %d",
+                    commandCount, failedCount, lineCount, elapsedNanos / 1e6,
+                    this.getCommandsPerSecond(), checkpointCount, taskCount);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package duke.core;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+import duke.command.Command;
+
+/**
+ * Entry point that reads commands from standard input and writes responses to standard output.
+ * Does not load any JavaFX classes, so it can be used in servers and pipelines.
+ */
+public class ConsoleLauncher {
+    private static final String DIVIDER = "    " + "-".repeat(70);
+    private static final String INDENT = "     ";
+    private static final String PROMPT = ">>> ";
+    private static final String ERROR_COLOUR = "\u001B[31m";
+    private static final String RESET_COLOUR = "\u001B[0m";
+
+    private Duke duke;
+    private BufferedReader input;
+    private PrintWriter output;
+    private boolean isColoured;
+
+    /**
+     * Constructor for ConsoleLauncher.
+     *
+     * @param duke Duke instance to run the commands on.
+     * @param input Reader to read commands from.
+     * @param output Writer to write responses to. Flushed whenever no more input is immediately available.
+     * @param isColoured Whether errors should be highlighted with ANSI colours.
+     */
+    public ConsoleLauncher(Duke duke, BufferedReader input, PrintWriter output, boolean isColoured) {
+        this.duke = duke;
+        this.input = input;
+        this.output = output;
+        this.isColoured = isColoured;
+    }
+
+    /**
+     * Reads and runs commands until the end of input or a bye command.
+     *
+     * @throws IOException If an error occurs while reading input.
+     */
+    public void run() throws IOException {
+        this.printResponse("Hello! I'm A-CAT (Automated Chatbot Assistant for Tasks)\n"
+                + "What do you want to do today?", false);
+
+        String line;
+        boolean isExit = false;
+
+        while (!isExit) {
+            this.printPrompt();
+            line = input.readLine();
+
+            if (line == null) {
+                break;
+            }
+
+            this.printNotices();
+
+            try {
+                Command command = Parser.parseCommand(line);
+                isExit = command.isExit();
+                this.printResponse(duke.execute(command), false);
+            } catch (DukeException e) {
+                this.printResponse(e.getMessage(), true);
+            }
+        }
+
+        output.flush();
+    }
+
+    /**
+     * Prints the prompt, holding the same lock as reminders so that a reminder cannot be printed in the middle of it.
+     */
+    private synchronized void printPrompt() throws IOException {
+        output.print(PROMPT);
+        output.println();
+
+        // Only flush when the next read would block, so piped input is not flushed line by line
+        if (!input.ready()) {
+            output.flush();
+        }
+    }
+
+    private void printNotices() {
+        String notice;
+
+        while ((notice = duke.pollNotice()) != null) {
+            this.printResponse(notice, false);
+        }
+    }
+
+    /**
+     * Prints a reminder straight away, between the responses to commands.
+     */
+    private synchronized void printReminder(String reminder) {
+        this.printResponse(reminder, false);
+        output.flush();
+    }
+
+    private synchronized void printResponse(String response, boolean isError) {
+        output.println(DIVIDER);
+
+        if (isError) {
+            response = "Error: " + response;
+        }
+
+        if (isError && isColoured) {
+            response = ERROR_COLOUR + response + RESET_COLOUR;
+        }
+
+        for (String line : response.split("\n")) {
+            output.print(INDENT);
+            output.println(line);
+        }
+
+        output.println(DIVIDER);
+    }
+
+    /**
+     * Runs Duke on standard input and output.
+     *
+     * @param args Optional base directory for the data files.
+     */
+    public static void main(String[] args) {
+        Duke duke = args.length > 0 ? new Duke(args[0]) : new Duke();
+
+        try {
+            duke.startWatching();
+        } catch (DukeException e) {
+            System.err.println(e.getMessage());
+        }
+
+        BufferedReader input = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        PrintWriter output = new PrintWriter(
+                new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)), false);
+
+        ConsoleLauncher launcher = new ConsoleLauncher(duke, input, output, System.console() != null);
+        duke.startReminders(launcher::printReminder);
+
+        boolean hasReadError = false;
+
+        try {
+            launcher.run();
+        } catch (IOException e) {
+            System.err.println("An error occured while reading input.");
+            hasReadError = true;
+        } finally {
+            // Writes any changes that are still deferred, and stops the reminder and watcher threads
+            try {
+                duke.close();
+            } catch (DukeException e) {
+                System.err.println(e.getMessage());
+            }
+        }
+
+        if (hasReadError) {
+            System.exit(1);
+        }
+    }
+}
@@ -1,14 +1,45 @@
 package duke.core;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import duke.command.Command;
+import duke.monitor.CommandExecuteEvent;
+import duke.monitor.Metrics;
+import duke.reminder.ReminderScheduler;
 import duke.task.TaskList;
+import duke.task.TaskListManager;
+import duke.task.TaskSummary;
 
 /**
  * Main class for the program.
  */
 public class Duke {
+    /* When set, tasks completed at least this many days ago are archived on startup. */
+    private static final String AUTO_ARCHIVE_PROPERTY = "duke.autoArchiveDays";
+
+    /* How many minutes before a due or start time its reminder is sent. */
+    private static final String REMINDER_MINUTES_PROPERTY = "duke.reminderMinutes";
+    private static final long DEFAULT_REMINDER_MINUTES = 15;
+
     private Storage storage;
-    private TaskList tasks;
+    private TaskListManager taskLists;
+
+    /* Makes commands that change the task list run one at a time. Read-only commands use snapshots instead. */
+    private Lock writeLock = new ReentrantLock();
+
+    /* Messages about events that happened outside of any command, such as the data file being edited. */
+    private Queue<String> notices = new ConcurrentLinkedQueue<>();
+
+    private ReminderScheduler reminders;
 
     /**
      * Constructor for Duke.
@@ -23,14 +54,123 @@ public class Duke {
      * @param baseDirectory Base directory for the program.
      */
     public Duke(String baseDirectory) {
+        if (Metrics.isEnabled()) {
+            Metrics.registerMBean();
+        }
+
         try {
             storage = new Storage(baseDirectory);
-            tasks = new TaskList(storage.readFile("tasks.txt"));
+            taskLists = new TaskListManager(storage);
+            this.autoArchive();
         } catch (DukeException e) {
             // TODO: Handle error
         }
     }
 
+    /**
+     * Archives old completed tasks of the default list if an auto-archive policy is set with the system property.
+     */
+    private void autoArchive() throws DukeException {
+        Integer days = Integer.getInteger(AUTO_ARCHIVE_PROPERTY);
+
+        if (days == null || days < 0) {
+            return;
+        }
+
+        Command archiveCommand = Parser.parseCommand("archive /older " + days);
+        archiveCommand.execute(taskLists.getCurrent(), storage);
+    }
+
+    /**
+     * Starts watching the data files, so that changes made to loaded lists outside of the program are loaded
+     * instead of being overwritten by the next save. A notice is queued for each change that is found.
+     *
+     * @throws DukeException If the data files cannot be watched.
+     */
+    public void startWatching() throws DukeException {
+        storage.watchFiles(".txt", this::loadExternalChanges);
+    }
+
+    /**
+     * Stops watching the data files.
+     */
+    public void stopWatching() {
+        storage.stopWatching();
+    }
+
+    /**
+     * Starts sending reminders of the deadlines and events of every loaded list shortly before they are due or start.
+     * Reminders are rescheduled as tasks are added, marked, deleted and changed. Does nothing if already started.
+     *
+     * @param onReminder Called with the message of each reminder, from a thread of its own.
+     */
+    public synchronized void startReminders(Consumer<String> onReminder) {
+        if (reminders != null) {
+            return;
+        }
+
+        long minutes = Long.getLong(REMINDER_MINUTES_PROPERTY, DEFAULT_REMINDER_MINUTES);
+        reminders = new ReminderScheduler(Duration.ofMinutes(minutes), onReminder, Clock.systemDefaultZone());
+        taskLists.setObserver(reminders);
+        reminders.start();
+    }
+
+    /**
+     * Stops sending reminders.
+     */
+    public synchronized void stopReminders() {
+        if (reminders == null) {
+            return;
+        }
+
+        reminders.stop();
+        taskLists.setObserver(null);
+        reminders = null;
+    }
+
+    /**
+     * Returns and removes the oldest notice that has not been shown yet.
+     *
+     * @return Notice, or null if there are none.
+     */
+    public String pollNotice() {
+        return notices.poll();
+    }
+
+    /**
+     * Returns a summary of the current task list, e.g. for a status bar.
+     * The counts are kept up to date as tasks change, so this is cheap enough to call after every command.
+     *
+     * @return Summary of the current task list.
+     */
+    public TaskSummary getSummary() {
+        return taskLists.getCurrent().getSummary(LocalDate.now());
+    }
+
+    private void loadExternalChanges(String fileName) {
+        TaskList tasks = taskLists.getLoadedList(fileName);
+
+        if (tasks == null) {
+            // Lists that are not loaded yet read the whole file when they are
+            return;
+        }
+
+        writeLock.lock();
+
+        try (Stream<String> taskData = storage.readFile(fileName)) {
+            TaskList.ExternalChanges changes = tasks.applyExternalChanges(taskData.collect(Collectors.toList()));
+
+            if (!changes.isEmpty()) {
+                notices.add(String.format("%s was changed outside of A-CAT: %d tasks added, %d removed.", fileName,
+                        changes.getAddedTasks().size(), changes.getRemovedTasks().size()));
+            }
+        } catch (DukeException e) {
+            notices.add(e.getMessage());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
     /**
      * Returns the response to the user input.
      *
@@ -38,16 +178,125 @@ public class Duke {
      * @return Response to the user input.
      */
     public String getResponse(String input) {
+        try {
+            return this.execute(input);
+        } catch (DukeException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Parses and executes the user input.
+     * Safe to call from multiple threads.
+     *
+     * @param input User input.
+     * @return Response to the user input.
+     * @throws DukeException If the input is invalid or an error occurs during execution of command.
+     */
+    public String execute(String input) throws DukeException {
+        long startTime = Metrics.startTimer();
+
         try {
             Command command = Parser.parseCommand(input);
 
             if (command == null) {
-                return "Please enter a valid command.";
+                throw new DukeException("Please enter a valid command.");
             }
 
-            return command.execute(tasks, storage);
-        } catch (DukeException e) {
-            return e.getMessage();
+            return this.execute(command);
+        } finally {
+            Metrics.recordTime(Metrics.RESPONSE, startTime);
+        }
+    }
+
+    /**
+     * Executes a parsed command against the task list, e.g. to read the tasks it showed or changed afterwards.
+     * Safe to call from multiple threads.
+     *
+     * @param command Command to execute.
+     * @return Response of the command.
+     * @throws DukeException If an error occurs during execution of command.
+     */
+    public String execute(Command command) throws DukeException {
+        if (command.isReadOnly()) {
+            return this.executeTimed(command);
+        }
+
+        writeLock.lock();
+
+        try {
+            return this.executeTimed(command);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private String executeTimed(Command command) throws DukeException {
+        long startTime = Metrics.startTimer();
+        CommandExecuteEvent event = new CommandExecuteEvent();
+        event.begin();
+
+        try {
+            return command.execute(taskLists, storage);
+        } finally {
+            Metrics.recordCommandTime(command.getClass(), startTime);
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.setCommandName(command.getClass().getSimpleName());
+                event.setTaskCount(taskLists.getCurrent().size());
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Starts deferring writes to the data file until {@link #commit()} is called.
+     */
+    void startBatch() {
+        taskLists.setDeferringStores(true);
+    }
+
+    /**
+     * Writes any changes made since the last commit to the data file.
+     *
+     * @return Whether anything was written.
+     * @throws DukeException If there is an error writing to the file.
+     */
+    boolean commit() throws DukeException {
+        return taskLists.flush();
+    }
+
+    /**
+     * Commits any deferred changes and stops deferring writes.
+     *
+     * @return Whether anything was written.
+     * @throws DukeException If there is an error writing to the file.
+     */
+    boolean endBatch() throws DukeException {
+        taskLists.setDeferringStores(false);
+        return taskLists.flush();
+    }
+
+    /**
+     * Stops watching the data files and sending reminders, and writes any deferred changes, so the instance can be
+     * dropped.
+     *
+     * @throws DukeException If there is an error writing to a file.
+     */
+    public void close() throws DukeException {
+        this.stopWatching();
+        this.stopReminders();
+        writeLock.lock();
+
+        try {
+            taskLists.flush();
+        } finally {
+            writeLock.unlock();
         }
     }
+
+    int getTaskCount() {
+        return taskLists.getCurrent().size();
+    }
 }
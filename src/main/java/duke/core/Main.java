@@ -25,9 +25,12 @@ public class Main extends Application {
             stage.setScene(scene);
             stage.setTitle("A-CAT");
             stage.setResizable(false);
-            fxmlLoader.<MainWindow>getController().setDuke(duke);
+            MainWindow mainWindow = fxmlLoader.<MainWindow>getController();
+            mainWindow.setDuke(duke);
             stage.show();
-        } catch (IOException e) {
+            duke.startWatching();
+            duke.startReminders(mainWindow::showReminder);
+        } catch (IOException | DukeException e) {
             e.printStackTrace();
         }
     }
@@ -5,18 +5,42 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 import duke.command.AddCommand;
+import duke.command.AgendaCommand;
+import duke.command.ArchiveCommand;
 import duke.command.Command;
 import duke.command.DeleteCommand;
+import duke.command.EditCommand;
 import duke.command.ExitCommand;
+import duke.command.ExportCommand;
 import duke.command.FindCommand;
+import duke.command.ImportCommand;
 import duke.command.ListCommand;
 import duke.command.MarkCommand;
+import duke.command.NextCommand;
+import duke.command.QueryCommand;
+import duke.command.RedoCommand;
 import duke.command.SortCommand;
+import duke.command.StatsCommand;
+import duke.command.SummaryCommand;
+import duke.command.SwitchCommand;
+import duke.command.TaggedCommand;
+import duke.command.UndoCommand;
 import duke.command.UnmarkCommand;
+import duke.monitor.CommandParseEvent;
+import duke.monitor.Metrics;
+import duke.task.Recurrence;
+import duke.task.Recurrence.Frequency;
+import duke.task.Task.Priority;
 import duke.task.Task.TaskType;
 
 /**
@@ -27,16 +51,32 @@ public class Parser {
     /* DateTimeFormatter for parsing date and time input */
     private static DateTimeFormatter dateTimeParser = DateTimeFormatter.ofPattern("dd-MM-yyyy[ HHmm]");
 
+    /* Tags are stored in a comma separated field of the data file, so they cannot contain separators */
+    private static final Pattern TAG_PATTERN = Pattern.compile("[\\p{L}\\p{N}_-]{1,32}");
+
+    private static final int MAX_RECURRENCE_INTERVAL = 99;
+
+    /*
+     * Task numbers are set in a bitset before the task list is known, so larger numbers are rejected up front.
+     * Otherwise "delete 2000000000" would allocate a bitset of hundreds of megabytes before failing.
+     */
+    private static final int MAX_TASK_NUMBER = 10_000_000;
+
     /**
      * Parses a date and time input string into a TemporalAccessor object.
      * The input string must be in the format "DD-MM-YYYY [HHMM]".
      * The TemporalAccessor object returned is either a LocalDate or LocalDateTime object.
      *
      * @param dateTimeString Date and time input string.
-     * @return TemporalAccessor object representing the date and time input.
+     * @return TemporalAccessor object representing the date and time input, or null if no input is given.
+     *     A flag given without a value, e.g. "/by" on its own, counts as no input.
      * @throws DukeException If the input string is not in the correct format.
      */
     public static TemporalAccessor parseDateTimeInput(String dateTimeString) throws DukeException {
+        if (dateTimeString == null || dateTimeString.isBlank()) {
+            return null;
+        }
+
         try {
             return dateTimeParser.parseBest(dateTimeString,
                     LocalDateTime::from,
@@ -53,6 +93,25 @@ public class Parser {
      * @return Command object representing the user input.
      */
     public static Command parseCommand(String fullCommand) throws DukeException {
+        long startTime = Metrics.startTimer();
+        CommandParseEvent event = new CommandParseEvent();
+        event.begin();
+
+        try {
+            return parseCommandWord(fullCommand);
+        } finally {
+            Metrics.recordTime(Metrics.PARSE, startTime);
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.setCommandName(fullCommand.trim().split(" ", 2)[0]);
+                event.setInputLength(fullCommand.length());
+                event.commit();
+            }
+        }
+    }
+
+    private static Command parseCommandWord(String fullCommand) throws DukeException {
         String[] splitCommand = fullCommand.trim().split(" ", 2);
         String commandString = splitCommand[0];
         String parameters = "";
@@ -84,11 +143,195 @@ public class Parser {
             return new FindCommand(parameterMap);
         case "sort":
             return new SortCommand(parameterMap);
+        case "stats":
+            return new StatsCommand(parameterMap);
+        case "undo":
+            return new UndoCommand(parameterMap);
+        case "redo":
+            return new RedoCommand(parameterMap);
+        case "archive":
+            return new ArchiveCommand(parameterMap);
+        case "switch":
+            return new SwitchCommand(parameterMap);
+        case "tagged":
+            return new TaggedCommand(parameterMap);
+        case "next":
+            return new NextCommand(parameterMap);
+        case "query":
+            return new QueryCommand(parameterMap);
+        case "summary":
+            return new SummaryCommand(parameterMap);
+        case "agenda":
+            return new AgendaCommand(parameterMap);
+        case "import":
+            return new ImportCommand(parameterMap);
+        case "export":
+            return new ExportCommand(parameterMap);
+        case "edit":
+            return new EditCommand(parameterMap);
         default:
             throw new DukeException("Please enter a valid command.");
         }
     }
 
+    /**
+     * Parses a list of task numbers into a set of zero-based task indices.
+     * The input is a comma separated list of task numbers and ranges, e.g. "1-200,305,410".
+     *
+     * @param taskNumbers Task numbers input string.
+     * @return BitSet with the zero-based index of every task specified.
+     * @throws DukeException If a task number or range is invalid.
+     */
+    public static BitSet parseTaskNumbers(String taskNumbers) throws DukeException {
+        if (taskNumbers == null || taskNumbers.isBlank()) {
+            throw new DukeException("Please enter a task number.");
+        }
+
+        BitSet taskIndices = new BitSet();
+
+        for (String taskNumber : taskNumbers.split(",")) {
+            String trimmedNumber = taskNumber.trim();
+
+            // Search from the second character so that negative numbers are not read as ranges
+            int rangeSeparator = trimmedNumber.indexOf('-', 1);
+
+            if (rangeSeparator == -1) {
+                int taskIndex = parseTaskNumber(trimmedNumber);
+                taskIndices.set(taskIndex);
+                continue;
+            }
+
+            int startIndex = parseTaskNumber(trimmedNumber.substring(0, rangeSeparator));
+            int endIndex = parseTaskNumber(trimmedNumber.substring(rangeSeparator + 1));
+
+            if (startIndex > endIndex) {
+                throw new DukeException(String.format("Task range \"%s\" is invalid.\n"
+                        + "Please make sure the first task number is not larger than the second.", trimmedNumber));
+            }
+
+            taskIndices.set(startIndex, endIndex + 1);
+        }
+
+        return taskIndices;
+    }
+
+    private static int parseTaskNumber(String taskNumber) throws DukeException {
+        int taskIndex;
+
+        try {
+            taskIndex = Integer.parseInt(taskNumber.trim()) - 1;
+        } catch (NumberFormatException e) {
+            throw new DukeException(String.format("Task number provided \"%s\" is not a number.\n     "
+                    + "Please retry with a valid task number.", taskNumber.trim()));
+        }
+
+        if (taskIndex < 0) {
+            throw new DukeException("Task number cannot be negative.\n"
+                    + "Please retry with a valid task number.");
+        }
+
+        if (taskIndex >= MAX_TASK_NUMBER) {
+            throw new DukeException("Task number provided does not exist.");
+        }
+
+        return taskIndex;
+    }
+
+    /**
+     * Parses a list of tags separated by commas or spaces, e.g. "urgent, work" or "#urgent #work".
+     * Tags are lowercased, and a leading "#" and duplicates are dropped.
+     *
+     * @param tagString Tags input string.
+     * @return Tags in the order they were given.
+     * @throws DukeException If a tag is invalid.
+     */
+    public static List<String> parseTags(String tagString) throws DukeException {
+        Set<String> tags = new LinkedHashSet<>();
+
+        for (String tag : tagString.split("[,\\s]+")) {
+            String normalizedTag = tag.startsWith("#") ? tag.substring(1) : tag;
+
+            if (normalizedTag.isEmpty()) {
+                continue;
+            }
+
+            if (!TAG_PATTERN.matcher(normalizedTag).matches()) {
+                throw new DukeException(String.format("Tag \"%s\" is invalid.\n"
+                        + "Tags can only have letters, digits, \"-\" and \"_\", and be at most 32 characters long.",
+                        tag));
+            }
+
+            tags.add(normalizedTag.toLowerCase());
+        }
+
+        return new ArrayList<>(tags);
+    }
+
+    /**
+     * Parses a priority of "high", "medium" or "low", ignoring case.
+     *
+     * @param priorityString Priority input string.
+     * @return Priority.
+     * @throws DukeException If the priority is not one of the above.
+     */
+    public static Priority parsePriority(String priorityString) throws DukeException {
+        switch (priorityString.trim().toLowerCase()) {
+        case "high":
+            return Priority.HIGH;
+        case "medium":
+            return Priority.MEDIUM;
+        case "low":
+            return Priority.LOW;
+        default:
+            throw new DukeException("Please enter a priority of high, medium or low.");
+        }
+    }
+
+    /**
+     * Parses the rule a task repeats by, e.g. "weekly" with an interval of "2" and an end date of "01-06-2024".
+     *
+     * @param frequencyString How often the task repeats, "weekly" or "monthly", ignoring case.
+     * @param intervalString Number of weeks or months between occurrences, or null for every week or month.
+     * @param untilString Date after which the task stops repeating, or null to repeat forever.
+     * @return Recurrence.
+     * @throws DukeException If any of the parts is invalid.
+     */
+    public static Recurrence parseRecurrence(String frequencyString, String intervalString, String untilString)
+            throws DukeException {
+        Frequency frequency;
+
+        switch (frequencyString.trim().toLowerCase()) {
+        case "weekly":
+            frequency = Frequency.WEEKLY;
+            break;
+        case "monthly":
+            frequency = Frequency.MONTHLY;
+            break;
+        default:
+            throw new DukeException("Please enter how often the task repeats as weekly or monthly.");
+        }
+
+        int interval = 1;
+
+        if (intervalString != null) {
+            try {
+                interval = Integer.parseInt(intervalString.trim());
+            } catch (NumberFormatException e) {
+                throw new DukeException("Please enter the number of weeks or months between repeats as a whole "
+                        + "number, e.g. /every 2.");
+            }
+
+            if (interval < 1 || interval > MAX_RECURRENCE_INTERVAL) {
+                throw new DukeException(String.format("Number of weeks or months between repeats should be between "
+                        + "1 and %d.", MAX_RECURRENCE_INTERVAL));
+            }
+        }
+
+        TemporalAccessor untilDatetime = parseDateTimeInput(untilString);
+        LocalDate until = untilDatetime == null ? null : LocalDate.from(untilDatetime);
+        return new Recurrence(frequency, interval, until);
+    }
+
     private static Map<String, String> parseParameters(String parameters) {
         String[] parameterArray = parameters.trim().split("/");
         HashMap<String, String> parameterMap = new HashMap<>();
@@ -105,8 +348,9 @@ public class Parser {
         for (int i = 1; i < parameterArray.length; i++) {
             String[] splitParameter = parameterArray[i].trim().split(" ", 2);
 
-            // No data provided for parameter
+            // No data provided for parameter, treat it as a flag
             if (splitParameter.length == 1) {
+                parameterMap.put(splitParameter[0].trim(), "");
                 continue;
             }
 
@@ -119,6 +363,8 @@ public class Parser {
     /**
      * Parses a task data string into an AddCommand object.
      * Primarily used for parsing task data from storage.
+     * Fields after the description are dates, followed by optional "key=value" fields such as "done=01-02-2023",
+     * which are passed to the command as parameters.
      *
      * @param taskDataString Task data string.
      * @return AddCommand object representing the task data.
@@ -136,20 +382,23 @@ public class Parser {
         String firstDateTime = null;
         String secondDateTime = null;
 
-        // If there is a date and time stored
-        if (parameterArray.length > 3) {
-            firstDateTime = parameterArray[3];
-        }
-
-        // If there is a second date and time stored
-        if (parameterArray.length > 4) {
-            secondDateTime = parameterArray[4];
-        }
-
         HashMap<String, String> parameterMap = new HashMap<>();
 
         parameterMap.put("default", description);
 
+        for (int i = 3; i < parameterArray.length; i++) {
+            String[] keyValue = parameterArray[i].split("=", 2);
+
+            // Dates never contain "=", so any other field is metadata
+            if (keyValue.length == 2) {
+                parameterMap.put(keyValue[0], keyValue[1]);
+            } else if (firstDateTime == null) {
+                firstDateTime = parameterArray[i];
+            } else if (secondDateTime == null) {
+                secondDateTime = parameterArray[i];
+            }
+        }
+
         if (firstDateTime != null) {
             parameterMap.put("by", firstDateTime);
             parameterMap.put("from", firstDateTime);
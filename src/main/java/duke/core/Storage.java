@@ -3,16 +3,72 @@ package duke.core;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.ClosedWatchServiceException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import duke.monitor.Metrics;
+import duke.monitor.StorageReadEvent;
+import duke.monitor.StorageWriteEvent;
+import duke.task.Task;
+import duke.task.TaskList;
 
 /**
  * Class to handle storage of data.
  */
 public class Storage {
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final int CHAR_BUFFER_SIZE = 64 * 1024;
+    private static final int BYTE_BUFFER_SIZE = 256 * 1024;
+
+    /* Editors often write a file in several steps, so events are collected for a moment before acting on them. */
+    private static final long WATCH_SETTLE_MILLIS = 200;
+
     private String baseDirectory;
 
+    /* Last version of each file that was written, or seen after an external change, by this Storage. */
+    private Map<String, FileVersion> knownVersions = new ConcurrentHashMap<>();
+    private WatchService watchService;
+
+    /* Reused by every call to writeTasks, so that saving a large task list makes next to no garbage. */
+    private StringBuilder lineBuilder;
+    private CharBuffer charBuffer;
+    private ByteBuffer byteBuffer;
+    private CharsetEncoder encoder;
+
     /**
      * Constructor for Storage.
      *
@@ -41,6 +97,8 @@ public class Storage {
 
     /**
      * Reads a file and returns a stream of lines.
+     * The stream should be closed once read to release the file. The lines are read as the stream is consumed, so
+     * the read is timed until the stream is closed.
      *
      * @param fileName Name of file to be read.
      * @return Stream of lines from the file.
@@ -53,11 +111,123 @@ public class Storage {
             return Stream.empty();
         }
 
+        long startTime = Metrics.startTimer();
+        StorageReadEvent event = new StorageReadEvent();
+        event.begin();
+
+        try {
+            Stream<String> lines = Files.lines(filePath);
+            long bytes = Files.size(filePath);
+            Metrics.increment(Metrics.FILES_READ, 1);
+            Metrics.increment(Metrics.BYTES_READ, bytes);
+
+            return lines.onClose(() -> {
+                Metrics.recordTime(Metrics.STORAGE_READ, startTime);
+                commitReadEvent(event, fileName, bytes);
+            });
+        } catch (IOException e) {
+            Metrics.recordTime(Metrics.STORAGE_READ, startTime);
+            commitReadEvent(event, fileName, 0);
+            throw new DukeException("An error occured while reading the file.");
+        }
+    }
+
+    /**
+     * Ends the event of a read once the file has been read, so that a slow read shows up as a stall.
+     */
+    private static void commitReadEvent(StorageReadEvent event, String fileName, long bytes) {
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.setFileName(fileName);
+            event.setBytes(bytes);
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the size of a file in bytes, or 0 if it does not exist.
+     *
+     * @param fileName Name of file.
+     * @throws DukeException If the size of the file cannot be read.
+     */
+    public long getFileSize(String fileName) throws DukeException {
+        Path filePath = Path.of(this.baseDirectory + fileName);
+
+        try {
+            return Files.exists(filePath) ? Files.size(filePath) : 0;
+        } catch (IOException e) {
+            throw new DukeException("An error occured while reading the file.");
+        }
+    }
+
+    /**
+     * Returns whether a file exists in the base directory.
+     *
+     * @param fileName Name of file.
+     */
+    public boolean hasFile(String fileName) {
+        return Files.isRegularFile(Path.of(this.baseDirectory + fileName));
+    }
+
+    /**
+     * Returns the names of the files in the base directory with the given extension, in alphabetical order.
+     * The files are not opened.
+     *
+     * @param extension Extension of the files, e.g. ".txt".
+     * @return Names of the files, or an empty list if the base directory does not exist.
+     * @throws DukeException If the base directory cannot be read.
+     */
+    public List<String> listFileNames(String extension) throws DukeException {
+        Path directory = Path.of(this.baseDirectory);
+
+        if (Files.notExists(directory)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> fileName.endsWith(extension))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new DukeException("An error occured while reading the data directory.");
+        }
+    }
+
+    /**
+     * Reads the whole contents of a file into memory.
+     * The contents are copied rather than memory-mapped, since a mapped file cannot be replaced on Windows
+     * until the mapping is garbage collected, which would make every later save of the file fail.
+     * The file must be smaller than 2 GB.
+     *
+     * @param fileName Name of file to be read.
+     * @return Buffer of the contents of the file, which is empty if the file does not exist.
+     * @throws DukeException If an error occurs while reading the file.
+     */
+    public ByteBuffer readBytes(String fileName) throws DukeException {
+        Path filePath = Path.of(this.baseDirectory + fileName);
+
+        if (Files.notExists(filePath)) {
+            return ByteBuffer.allocate(0);
+        }
+
+        long startTime = Metrics.startTimer();
+        StorageReadEvent event = new StorageReadEvent();
+        event.begin();
+        long bytes = 0;
+
         try {
-            BufferedReader reader = Files.newBufferedReader(filePath);
-            return reader.lines();
+            byte[] contents = Files.readAllBytes(filePath);
+            bytes = contents.length;
+            Metrics.increment(Metrics.FILES_READ, 1);
+            Metrics.increment(Metrics.BYTES_READ, bytes);
+            return ByteBuffer.wrap(contents);
         } catch (IOException e) {
             throw new DukeException("An error occured while reading the file.");
+        } finally {
+            Metrics.recordTime(Metrics.STORAGE_READ, startTime);
+            commitReadEvent(event, fileName, bytes);
         }
     }
 
@@ -70,21 +240,489 @@ public class Storage {
      */
     public void writeFile(String fileName, Stream<String> content) throws DukeException {
         Path filePath = Path.of(this.baseDirectory + fileName);
+        long startTime = Metrics.startTimer();
+        StorageWriteEvent event = new StorageWriteEvent();
+        event.begin();
 
         try {
             this.createFileIfNotExists(filePath);
             BufferedWriter writer = Files.newBufferedWriter(filePath);
+            int[] lineCount = new int[1];
             content.forEach(lineToWrite -> {
                 try {
                     writer.write(lineToWrite);
                     writer.newLine();
+                    lineCount[0]++;
                 } catch (IOException e) {
                     // TODO: handle IOException
                 }
             });
             writer.close();
+            event.end();
+
+            boolean shouldCommitEvent = event.shouldCommit();
+
+            if (Metrics.isEnabled() || shouldCommitEvent) {
+                long bytes = Files.size(filePath);
+                Metrics.increment(Metrics.FILES_WRITTEN, 1);
+                Metrics.increment(Metrics.BYTES_WRITTEN, bytes);
+
+                if (shouldCommitEvent) {
+                    event.setFileName(fileName);
+                    event.setTaskCount(lineCount[0]);
+                    event.setBytes(bytes);
+                    event.commit();
+                }
+            }
+        } catch (IOException e) {
+            throw new DukeException(String.format("%s \"%s\"", "An error occured while writing the file ", fileName));
+        } finally {
+            Metrics.recordTime(Metrics.STORAGE_WRITE, startTime);
+        }
+    }
+
+    /**
+     * Writes text to a file as it is read from a stream, so the whole text is never held in memory.
+     * The text is written to a temporary file that is moved over the old file once complete, so a failure
+     * never leaves a partly written file behind.
+     *
+     * @param fileName Name of file to be written to.
+     * @param content Pieces of text to be written one after another, including their own line separators.
+     * @return Number of bytes written.
+     * @throws DukeException If an error occurs while writing to the file.
+     */
+    public long writeTextFile(String fileName, Stream<String> content) throws DukeException {
+        Path filePath = Path.of(this.baseDirectory + fileName);
+        Path temporaryPath = Path.of(this.baseDirectory + fileName + TEMPORARY_FILE_SUFFIX);
+        long startTime = Metrics.startTimer();
+        StorageWriteEvent event = new StorageWriteEvent();
+        event.begin();
+
+        try {
+            Files.createDirectories(filePath.getParent());
+
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(temporaryPath),
+                    StandardCharsets.UTF_8), CHAR_BUFFER_SIZE)) {
+                for (String piece : (Iterable<String>) content::iterator) {
+                    writer.write(piece);
+                }
+            }
+
+            replaceFile(temporaryPath, filePath);
+            long bytes = Files.size(filePath);
+            event.end();
+
+            Metrics.increment(Metrics.FILES_WRITTEN, 1);
+            Metrics.increment(Metrics.BYTES_WRITTEN, bytes);
+
+            if (event.shouldCommit()) {
+                event.setFileName(fileName);
+                event.setBytes(bytes);
+                event.commit();
+            }
+
+            return bytes;
+        } catch (IOException | UncheckedIOException e) {
+            try {
+                Files.deleteIfExists(temporaryPath);
+            } catch (IOException deleteException) {
+                // The temporary file is overwritten by the next write either way
+            }
+
+            throw new DukeException(String.format("%s \"%s\"", "An error occured while writing the file ", fileName));
+        } finally {
+            Metrics.recordTime(Metrics.STORAGE_WRITE, startTime);
+        }
+    }
+
+    /**
+     * Writes tasks to a file in the data file format.
+     * Each task is encoded straight into reused buffers and written through a file channel. The tasks are
+     * written to a temporary file, synced to disk and then moved over the old file, so a crash never leaves
+     * a partly written file behind.
+     *
+     * @param fileName Name of file to be written to.
+     * @param tasks Tasks to be written, one per line.
+     * @throws DukeException If an error occurs while writing to the file.
+     */
+    public synchronized void writeTasks(String fileName, List<? extends Task> tasks) throws DukeException {
+        Path filePath = Path.of(this.baseDirectory + fileName);
+        Path temporaryPath = Path.of(this.baseDirectory + fileName + TEMPORARY_FILE_SUFFIX);
+        long startTime = Metrics.startTimer();
+        StorageWriteEvent event = new StorageWriteEvent();
+        event.begin();
+
+        try {
+            Files.createDirectories(filePath.getParent());
+            long bytes;
+
+            try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                bytes = this.encodeTasks(tasks, channel);
+                channel.force(false);
+            }
+
+            replaceFile(temporaryPath, filePath);
+            this.isChangedExternally(fileName, filePath);
+            event.end();
+
+            Metrics.increment(Metrics.FILES_WRITTEN, 1);
+            Metrics.increment(Metrics.BYTES_WRITTEN, bytes);
+            Metrics.increment(Metrics.FSYNCS, 1);
+
+            if (event.shouldCommit()) {
+                event.setFileName(fileName);
+                event.setTaskCount(tasks.size());
+                event.setBytes(bytes);
+                event.commit();
+            }
+        } catch (IOException e) {
+            throw new DukeException(String.format("%s \"%s\"", "An error occured while writing the file ", fileName));
+        } finally {
+            Metrics.recordTime(Metrics.STORAGE_WRITE, startTime);
+        }
+    }
+
+    /**
+     * Appends tasks to a compressed, append-only file in the data file format.
+     * Each call adds a new gzip member to the end of the file, so the tasks already in it are never rewritten.
+     * If the append fails, the file is cut back to its previous length.
+     *
+     * @param fileName Name of file to be appended to.
+     * @param tasks Tasks to be appended, one per line.
+     * @throws DukeException If an error occurs while writing to the file.
+     */
+    public synchronized void appendCompressed(String fileName, List<? extends Task> tasks) throws DukeException {
+        Path filePath = Path.of(this.baseDirectory + fileName);
+        long startTime = Metrics.startTimer();
+        StorageWriteEvent event = new StorageWriteEvent();
+        event.begin();
+
+        try {
+            Files.createDirectories(filePath.getParent());
+
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                long previousSize = channel.size();
+
+                try {
+                    this.appendCompressed(channel, tasks);
+                    channel.force(false);
+                } catch (IOException e) {
+                    channel.truncate(previousSize);
+                    throw e;
+                }
+
+                long bytes = channel.size() - previousSize;
+                event.end();
+
+                Metrics.increment(Metrics.FILES_WRITTEN, 1);
+                Metrics.increment(Metrics.BYTES_WRITTEN, bytes);
+                Metrics.increment(Metrics.FSYNCS, 1);
+
+                if (event.shouldCommit()) {
+                    event.setFileName(fileName);
+                    event.setTaskCount(tasks.size());
+                    event.setBytes(bytes);
+                    event.commit();
+                }
+            }
         } catch (IOException e) {
             throw new DukeException(String.format("%s \"%s\"", "An error occured while writing the file ", fileName));
+        } finally {
+            Metrics.recordTime(Metrics.STORAGE_WRITE, startTime);
+        }
+    }
+
+    private void appendCompressed(FileChannel channel, List<? extends Task> tasks) throws IOException {
+        // Not closed, as that would close the channel before it is forced
+        GZIPOutputStream gzipOutput = new GZIPOutputStream(Channels.newOutputStream(channel), BYTE_BUFFER_SIZE);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(gzipOutput, StandardCharsets.UTF_8));
+        StringBuilder line = new StringBuilder();
+
+        for (Task task : tasks) {
+            line.setLength(0);
+            writer.append(task.appendDataString(line).append(LINE_SEPARATOR));
+        }
+
+        writer.flush();
+        gzipOutput.finish();
+    }
+
+    /**
+     * Reads a file written by {@link #appendCompressed(String, List)} as a stream of lines.
+     * The lines are decompressed as the stream is consumed, and the stream should be closed once read.
+     *
+     * @param fileName Name of file to be read.
+     * @return Stream of lines from the file, which is empty if the file does not exist.
+     * @throws DukeException If an error occurs while opening the file.
+     */
+    public Stream<String> readCompressed(String fileName) throws DukeException {
+        Path filePath = Path.of(this.baseDirectory + fileName);
+
+        if (Files.notExists(filePath)) {
+            return Stream.empty();
+        }
+
+        try {
+            Metrics.increment(Metrics.FILES_READ, 1);
+            Metrics.increment(Metrics.BYTES_READ, Files.size(filePath));
+
+            BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(filePath), BYTE_BUFFER_SIZE), StandardCharsets.UTF_8));
+
+            return reader.lines().onClose(() -> {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException e) {
+            throw new DukeException("An error occured while reading the file.");
+        }
+    }
+
+    private static void replaceFile(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Encodes the tasks into the buffers and writes them to the channel.
+     *
+     * @return Number of bytes written.
+     */
+    private long encodeTasks(List<? extends Task> tasks, FileChannel channel) throws IOException {
+        if (encoder == null) {
+            lineBuilder = new StringBuilder();
+            charBuffer = CharBuffer.allocate(CHAR_BUFFER_SIZE);
+            byteBuffer = ByteBuffer.allocateDirect(BYTE_BUFFER_SIZE);
+            // Same as the writer used for other files, which replaces characters that cannot be encoded
+            encoder = StandardCharsets.UTF_8.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        encoder.reset();
+        charBuffer.clear();
+        byteBuffer.clear();
+        long bytes = 0;
+
+        for (int i = 0; i < tasks.size(); i++) {
+            lineBuilder.setLength(0);
+            // Tasks that were loaded lazily and never read are copied from the data file instead of decoded
+            TaskList.appendDataString(tasks, i, lineBuilder);
+            lineBuilder.append(LINE_SEPARATOR);
+            int length = lineBuilder.length();
+
+            if (length > charBuffer.remaining()) {
+                bytes += this.encode(channel, false);
+            }
+
+            if (length > charBuffer.remaining()) {
+                // Only a task longer than the whole buffer gets here
+                CharBuffer largerBuffer = CharBuffer.allocate(charBuffer.position() + length);
+                charBuffer.flip();
+                charBuffer = largerBuffer.put(charBuffer);
+            }
+
+            lineBuilder.getChars(0, length, charBuffer.array(), charBuffer.position());
+            charBuffer.position(charBuffer.position() + length);
+        }
+
+        return bytes + this.encode(channel, true);
+    }
+
+    /**
+     * Encodes the characters in the char buffer, writing to the channel whenever the byte buffer fills up.
+     *
+     * @return Number of bytes written.
+     */
+    private long encode(FileChannel channel, boolean isEndOfInput) throws IOException {
+        long bytes = 0;
+        charBuffer.flip();
+
+        while (encoder.encode(charBuffer, byteBuffer, isEndOfInput).isOverflow()) {
+            bytes += this.drain(channel);
+        }
+
+        if (isEndOfInput) {
+            while (encoder.flush(byteBuffer) == CoderResult.OVERFLOW) {
+                bytes += this.drain(channel);
+            }
+        }
+
+        // Keeps the high half of a surrogate pair split across two calls
+        charBuffer.compact();
+        return isEndOfInput ? bytes + this.drain(channel) : bytes;
+    }
+
+    private long drain(FileChannel channel) throws IOException {
+        byteBuffer.flip();
+        long bytes = byteBuffer.remaining();
+
+        while (byteBuffer.hasRemaining()) {
+            channel.write(byteBuffer);
+        }
+
+        byteBuffer.clear();
+        return bytes;
+    }
+
+    /**
+     * Starts watching the files with the given extension for changes made outside of this Storage, e.g. by editing
+     * them by hand. Changes written by this Storage are ignored. Only one watch can be active at a time.
+     *
+     * @param extension Extension of the files to watch, e.g. ".txt".
+     * @param onExternalChange Called on the watching thread with the name of each file changed by something else.
+     * @throws DukeException If the directory cannot be watched.
+     */
+    public synchronized void watchFiles(String extension, Consumer<String> onExternalChange) throws DukeException {
+        assert watchService == null : "Only one watch should be active at a time";
+
+        Path directory = Path.of(this.baseDirectory);
+
+        try {
+            Files.createDirectories(directory);
+            watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            throw new DukeException("An error occured while watching the data directory.");
+        }
+
+        WatchService currentWatchService = watchService;
+        Thread watchThread = new Thread(() -> this.watch(currentWatchService, extension, onExternalChange),
+                "duke-storage-watcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    /**
+     * Stops watching for changes. Does nothing if no files are watched.
+     */
+    public synchronized void stopWatching() {
+        if (watchService == null) {
+            return;
+        }
+
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            // The watching thread stops either way
+        }
+
+        watchService = null;
+    }
+
+    private void watch(WatchService currentWatchService, String extension, Consumer<String> onExternalChange) {
+        Set<String> changedFileNames = new TreeSet<>();
+
+        try {
+            while (true) {
+                collectFileNames(currentWatchService.take(), extension, changedFileNames);
+
+                if (changedFileNames.isEmpty()) {
+                    continue;
+                }
+
+                Thread.sleep(WATCH_SETTLE_MILLIS);
+
+                WatchKey key;
+
+                while ((key = currentWatchService.poll()) != null) {
+                    collectFileNames(key, extension, changedFileNames);
+                }
+
+                for (String fileName : changedFileNames) {
+                    if (this.isChangedExternally(fileName, Path.of(this.baseDirectory + fileName))) {
+                        onExternalChange.accept(fileName);
+                    }
+                }
+
+                changedFileNames.clear();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Watching was stopped
+        }
+    }
+
+    /**
+     * Consumes the events of the key and adds the names of the files they are about.
+     * If events were lost, every file with a known version may have changed.
+     */
+    private void collectFileNames(WatchKey key, String extension, Set<String> fileNames) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            String fileName = String.valueOf(event.context());
+
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                knownVersions.keySet().stream().filter(name -> name.endsWith(extension)).forEach(fileNames::add);
+            } else if (fileName.endsWith(extension)) {
+                fileNames.add(fileName);
+            }
+        }
+
+        key.reset();
+    }
+
+    /**
+     * Returns whether the file differs from the last version written or seen, and remembers the current version.
+     * Synchronized with the writes, so a write in progress is never mistaken for an external change.
+     */
+    private synchronized boolean isChangedExternally(String fileName, Path filePath) {
+        FileVersion currentVersion = FileVersion.of(filePath);
+
+        if (currentVersion == null) {
+            knownVersions.remove(fileName);
+            return false;
+        }
+
+        return !currentVersion.equals(knownVersions.put(fileName, currentVersion));
+    }
+
+    /**
+     * Identifies a version of a file by its modification time, size and file key, such as the inode.
+     */
+    private static class FileVersion {
+        private FileTime lastModifiedTime;
+        private long size;
+        private Object fileKey;
+
+        private FileVersion(BasicFileAttributes attributes) {
+            this.lastModifiedTime = attributes.lastModifiedTime();
+            this.size = attributes.size();
+            this.fileKey = attributes.fileKey();
+        }
+
+        /**
+         * Returns the current version of the file, or null if it does not exist.
+         */
+        static FileVersion of(Path filePath) {
+            try {
+                return new FileVersion(Files.readAttributes(filePath, BasicFileAttributes.class));
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof FileVersion)) {
+                return false;
+            }
+
+            FileVersion otherVersion = (FileVersion) other;
+            return lastModifiedTime.equals(otherVersion.lastModifiedTime) && size == otherVersion.size
+                    && Objects.equals(fileKey, otherVersion.fileKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lastModifiedTime, size, fileKey);
         }
     }
 }
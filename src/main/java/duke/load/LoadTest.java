@@ -0,0 +1,269 @@
+package duke.load;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+import duke.core.Duke;
+import duke.core.DukeException;
+import duke.load.WorkloadGenerator.CommandType;
+import duke.monitor.Histogram;
+
+/**
+ * Drives Duke in-process with a synthetic workload to find where it stops scaling.
+ * Each run starts from a fresh data file in a temporary directory, filled with the given number of tasks.
+ */
+public class LoadTest {
+    private static final String USAGE =
+            "Usage: LoadTest <commands> [initial tasks] [commands per second] [seed] [mix, e.g. todo=50,find=50]";
+    private static final String DATA_FILE_NAME = "tasks.txt";
+
+    private int commandCount;
+    private int initialTaskCount;
+    private int commandsPerSecond;
+    private long seed;
+    private Map<CommandType, Integer> weights;
+
+    /**
+     * Constructor for LoadTest.
+     *
+     * @param commandCount Number of commands to run.
+     * @param initialTaskCount Number of tasks in the data file before the run.
+     * @param commandsPerSecond Rate to send commands at, or 0 to send each command as soon as the last one finishes.
+     * @param seed Seed for the workload, so that runs with the same settings are comparable.
+     * @param weights Relative frequency of each type of command.
+     */
+    public LoadTest(int commandCount, int initialTaskCount, int commandsPerSecond, long seed,
+            Map<CommandType, Integer> weights) {
+        assert commandCount >= 0 && initialTaskCount >= 0 && commandsPerSecond >= 0
+                : "Settings should not be negative";
+
+        this.commandCount = commandCount;
+        this.initialTaskCount = initialTaskCount;
+        this.commandsPerSecond = commandsPerSecond;
+        this.seed = seed;
+        this.weights = weights;
+    }
+
+    /**
+     * Runs the workload against a new Duke instance in the given directory.
+     *
+     * @param baseDirectory Empty directory for the data file.
+     * @return Report of the run.
+     * @throws IOException If the data file cannot be written or measured.
+     */
+    public Report run(Path baseDirectory) throws IOException {
+        WorkloadGenerator generator = new WorkloadGenerator(seed, weights, initialTaskCount);
+        Path dataFile = baseDirectory.resolve(DATA_FILE_NAME);
+
+        try (BufferedWriter writer = Files.newBufferedWriter(dataFile)) {
+            for (int i = 0; i < initialTaskCount; i++) {
+                writer.write(generator.nextTask().getDataString());
+                writer.newLine();
+            }
+        }
+
+        Report report = new Report();
+        resetPeakHeapUsage();
+
+        long loadStartTime = System.nanoTime();
+        Duke duke = new Duke(baseDirectory.toString());
+        report.loadNanos = System.nanoTime() - loadStartTime;
+
+        // With a fixed rate, latency is measured from when the command should have been sent, so that a slow
+        // command also counts against the commands queued up behind it
+        long intervalNanos = commandsPerSecond > 0 ? 1_000_000_000L / commandsPerSecond : 0;
+        long startTime = System.nanoTime();
+
+        for (int i = 0; i < commandCount; i++) {
+            CommandType type = generator.nextType();
+            String input = generator.nextCommand(type);
+            long sendTime = System.nanoTime();
+
+            if (intervalNanos > 0) {
+                long intendedSendTime = startTime + i * intervalNanos;
+
+                if (intendedSendTime > sendTime) {
+                    LockSupport.parkNanos(intendedSendTime - sendTime);
+                }
+
+                sendTime = intendedSendTime;
+            }
+
+            try {
+                duke.execute(input);
+            } catch (DukeException e) {
+                report.failedCount++;
+            }
+
+            long latency = System.nanoTime() - sendTime;
+            report.latencies.computeIfAbsent(type, key -> new Histogram()).record(latency);
+            report.totalLatency.record(latency);
+        }
+
+        report.elapsedNanos = System.nanoTime() - startTime;
+        report.taskCount = generator.getTaskCount();
+        report.heapBytes = getHeapUsage();
+        report.peakHeapBytes = getPeakHeapUsage();
+        report.dataFileBytes = Files.exists(dataFile) ? Files.size(dataFile) : 0;
+
+        return report;
+    }
+
+    private static long getHeapUsage() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static void resetPeakHeapUsage() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long getPeakHeapUsage() {
+        long peakBytes = 0;
+
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peakBytes += pool.getPeakUsage().getUsed();
+            }
+        }
+
+        return peakBytes;
+    }
+
+    /**
+     * Runs a load test in a temporary directory and prints the report.
+     *
+     * @param args Number of commands, optional initial tasks, rate, seed and command mix.
+     */
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 5) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+
+        Path baseDirectory = null;
+
+        try {
+            int commandCount = Integer.parseInt(args[0]);
+            int initialTaskCount = args.length > 1 ? Integer.parseInt(args[1]) : 0;
+            int commandsPerSecond = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+            long seed = args.length > 3 ? Long.parseLong(args[3]) : 42;
+            Map<CommandType, Integer> weights = args.length > 4
+                    ? WorkloadGenerator.parseWeights(args[4])
+                    : WorkloadGenerator.getDefaultWeights();
+
+            LoadTest loadTest = new LoadTest(Math.max(0, commandCount), Math.max(0, initialTaskCount),
+                    Math.max(0, commandsPerSecond), seed, weights);
+            baseDirectory = Files.createTempDirectory("duke-load");
+            System.out.println(loadTest.run(baseDirectory));
+        } catch (NumberFormatException e) {
+            System.err.println(USAGE);
+            System.exit(1);
+        } catch (IOException | DukeException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        } finally {
+            deleteDirectory(baseDirectory);
+        }
+    }
+
+    private static void deleteDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            System.err.println("Could not delete " + directory);
+        }
+    }
+
+    /**
+     * Report of a load test run.
+     */
+    public static class Report {
+        private Map<CommandType, Histogram> latencies = new EnumMap<>(CommandType.class);
+        private Histogram totalLatency = new Histogram();
+        private int failedCount;
+        private int taskCount;
+        private long loadNanos;
+        private long elapsedNanos;
+        private long heapBytes;
+        private long peakHeapBytes;
+        private long dataFileBytes;
+
+        public Histogram getLatency(CommandType type) {
+            return this.latencies.get(type);
+        }
+
+        public Histogram getTotalLatency() {
+            return this.totalLatency;
+        }
+
+        public int getFailedCount() {
+            return this.failedCount;
+        }
+
+        public int getTaskCount() {
+            return this.taskCount;
+        }
+
+        public long getDataFileBytes() {
+            return this.dataFileBytes;
+        }
+
+        /**
+         * Returns the number of commands executed per second.
+         */
+        public double getCommandsPerSecond() {
+            if (elapsedNanos == 0) {
+                return 0;
+            }
+
+            return totalLatency.getCount() / (elapsedNanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder report = new StringBuilder();
+            report.append(String.format("Executed %d commands (%d failed) in %.1f ms after loading for %.1f ms.\n",
+                    totalLatency.getCount(), failedCount, elapsedNanos / 1e6, loadNanos / 1e6));
+            report.append(String.format("Throughput: %.0f commands/s\n", this.getCommandsPerSecond()));
+            report.append("Latency in ms (count, p50, p99, p99.9, max):\n");
+
+            for (Map.Entry<CommandType, Histogram> latency : latencies.entrySet()) {
+                appendLatency(report, latency.getKey().getCommandWord(), latency.getValue());
+            }
+
+            appendLatency(report, "all", totalLatency);
+            report.append(String.format("Heap used: %.1f MB (peak %.1f MB)\n", heapBytes / 1e6, peakHeapBytes / 1e6));
+            report.append(String.format("Data file: %.1f KB\n", dataFileBytes / 1e3));
+            report.append(String.format("Tasks in the list: %d", taskCount));
+
+            return report.toString();
+        }
+
+        private static void appendLatency(StringBuilder report, String name, Histogram histogram) {
+            report.append(String.format("  %s: %d, %.3f, %.3f, %.3f, %.3f\n", name, histogram.getCount(),
+                    histogram.getPercentile(0.5) / 1e6, histogram.getPercentile(0.99) / 1e6,
+                    histogram.getPercentile(0.999) / 1e6, histogram.getMax() / 1e6));
+        }
+    }
+}
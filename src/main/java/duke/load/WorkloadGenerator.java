@@ -0,0 +1,226 @@
+package duke.load;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+import duke.core.DukeException;
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Task;
+import duke.task.Todo;
+
+/**
+ * Generates a reproducible stream of user commands for load tests.
+ * Keeps track of the number of tasks in the list so that every generated task number is valid.
+ */
+public class WorkloadGenerator {
+    private static final String[] WORDS = {
+        "feed", "cat", "submit", "report", "buy", "groceries", "call", "mum", "review", "pull", "request",
+        "book", "flight", "pay", "rent", "clean", "room", "read", "chapter", "fix", "bug", "meeting", "project"
+    };
+    private static final String[] SORT_ORDERS = {"name", "type", "completion", "date"};
+    private static final LocalDate START_DATE = LocalDate.of(2023, 1, 1);
+
+    /**
+     * Types of commands in a workload.
+     */
+    public enum CommandType {
+        TODO("todo", 25),
+        DEADLINE("deadline", 10),
+        EVENT("event", 10),
+        MARK("mark", 20),
+        FIND("find", 20),
+        SORT("sort", 5),
+        DELETE("delete", 10);
+
+        private String commandWord;
+        private int defaultWeight;
+
+        CommandType(String commandWord, int defaultWeight) {
+            this.commandWord = commandWord;
+            this.defaultWeight = defaultWeight;
+        }
+
+        public String getCommandWord() {
+            return this.commandWord;
+        }
+    }
+
+    private Random random;
+    private Map<CommandType, Integer> weights;
+    private int totalWeight;
+    private int taskCount;
+
+    /**
+     * Constructor for WorkloadGenerator.
+     *
+     * @param seed Seed for the random generator, so that the same workload is generated on every run.
+     * @param weights Relative frequency of each type of command. Types that are left out are never generated.
+     * @param taskCount Number of tasks already in the list.
+     */
+    public WorkloadGenerator(long seed, Map<CommandType, Integer> weights, int taskCount) {
+        assert taskCount >= 0 : "Task count should not be negative";
+
+        this.random = new Random(seed);
+        this.weights = new EnumMap<>(weights);
+        this.totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+        this.taskCount = taskCount;
+
+        assert totalWeight > 0 : "At least one type of command should have a positive weight";
+    }
+
+    /**
+     * Returns the default mix of commands, which mostly adds, marks and finds tasks.
+     */
+    public static Map<CommandType, Integer> getDefaultWeights() {
+        Map<CommandType, Integer> weights = new EnumMap<>(CommandType.class);
+
+        for (CommandType type : CommandType.values()) {
+            weights.put(type, type.defaultWeight);
+        }
+
+        return weights;
+    }
+
+    /**
+     * Parses a mix of commands such as "todo=50,find=50".
+     *
+     * @param mix Comma separated pairs of command word and weight.
+     * @return Weight of each type of command in the mix.
+     * @throws DukeException If a command word or weight is invalid.
+     */
+    public static Map<CommandType, Integer> parseWeights(String mix) throws DukeException {
+        Map<CommandType, Integer> weights = new EnumMap<>(CommandType.class);
+
+        for (String pair : mix.split(",")) {
+            String[] parts = pair.trim().split("=", 2);
+            CommandType type = null;
+
+            for (CommandType candidate : CommandType.values()) {
+                if (candidate.commandWord.equals(parts[0])) {
+                    type = candidate;
+                }
+            }
+
+            if (type == null || parts.length < 2) {
+                throw new DukeException("Invalid command mix: " + pair);
+            }
+
+            try {
+                int weight = Integer.parseInt(parts[1]);
+
+                if (weight < 0) {
+                    throw new DukeException("Weight cannot be negative: " + pair);
+                }
+
+                weights.put(type, weight);
+            } catch (NumberFormatException e) {
+                throw new DukeException("Invalid command mix: " + pair);
+            }
+        }
+
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new DukeException("Command mix should have at least one positive weight.");
+        }
+
+        return weights;
+    }
+
+    /**
+     * Returns the type of the next command.
+     * Commands that need an existing task are replaced with a todo while the list is empty.
+     */
+    public CommandType nextType() {
+        int value = random.nextInt(totalWeight);
+        CommandType type = CommandType.TODO;
+
+        for (Map.Entry<CommandType, Integer> weight : weights.entrySet()) {
+            value -= weight.getValue();
+
+            if (value < 0) {
+                type = weight.getKey();
+                break;
+            }
+        }
+
+        boolean needsTask = type == CommandType.MARK || type == CommandType.DELETE;
+        return needsTask && taskCount == 0 ? CommandType.TODO : type;
+    }
+
+    /**
+     * Returns a command of the given type, and updates the number of tasks the list will have after it runs.
+     *
+     * @param type Type of command to generate.
+     * @return User input for the command.
+     */
+    public String nextCommand(CommandType type) {
+        switch (type) {
+        case TODO:
+            taskCount++;
+            return "todo " + this.nextDescription();
+        case DEADLINE:
+            taskCount++;
+            return String.format("deadline %s /by %s 1800", this.nextDescription(),
+                    this.formatDate(this.nextDate()));
+        case EVENT:
+            taskCount++;
+            LocalDate start = this.nextDate();
+            return String.format("event %s /from %s /to %s", this.nextDescription(), this.formatDate(start),
+                    this.formatDate(start.plusDays(random.nextInt(7))));
+        case MARK:
+            return "mark " + (1 + random.nextInt(taskCount));
+        case FIND:
+            return "find " + WORDS[random.nextInt(WORDS.length)];
+        case SORT:
+            return "sort " + SORT_ORDERS[random.nextInt(SORT_ORDERS.length)];
+        case DELETE:
+            taskCount--;
+            return "delete " + (1 + random.nextInt(taskCount + 1));
+        default:
+            throw new AssertionError("Unknown command type " + type);
+        }
+    }
+
+    /**
+     * Returns a random task for filling the data file before a run, with a quarter of them completed.
+     */
+    public Task nextTask() {
+        String description = this.nextDescription();
+        boolean isCompleted = random.nextInt(4) == 0;
+        LocalDate date = this.nextDate();
+
+        switch (random.nextInt(3)) {
+        case 0:
+            return new Todo(description, isCompleted);
+        case 1:
+            return new Deadline(description, date, isCompleted);
+        default:
+            return new Event(description, date, date.plusDays(random.nextInt(7)), isCompleted);
+        }
+    }
+
+    public int getTaskCount() {
+        return this.taskCount;
+    }
+
+    private String nextDescription() {
+        StringBuilder description = new StringBuilder();
+        int wordCount = 2 + random.nextInt(4);
+
+        for (int i = 0; i < wordCount; i++) {
+            description.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+
+        return description.append(random.nextInt(100000)).toString();
+    }
+
+    private LocalDate nextDate() {
+        return START_DATE.plusDays(random.nextInt(365));
+    }
+
+    private String formatDate(LocalDate date) {
+        return String.format("%02d-%02d-%d", date.getDayOfMonth(), date.getMonthValue(), date.getYear());
+    }
+}
@@ -0,0 +1,30 @@
+package duke.monitor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted when a command is executed.
+ */
+@Name("duke.CommandExecute")
+@Label("Command Execute")
+@Category({"Duke", "Commands"})
+@Description("Execution of a command against a task list")
+public class CommandExecuteEvent extends Event {
+    @Label("Command Name")
+    private String commandName;
+
+    @Label("Task Count")
+    private int taskCount;
+
+    public void setCommandName(String commandName) {
+        this.commandName = commandName;
+    }
+
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+}
@@ -0,0 +1,30 @@
+package duke.monitor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted when user input is parsed into a command.
+ */
+@Name("duke.CommandParse")
+@Label("Command Parse")
+@Category({"Duke", "Commands"})
+@Description("Parsing of user input into a command")
+public class CommandParseEvent extends Event {
+    @Label("Command Name")
+    private String commandName;
+
+    @Label("Input Length")
+    private int inputLength;
+
+    public void setCommandName(String commandName) {
+        this.commandName = commandName;
+    }
+
+    public void setInputLength(int inputLength) {
+        this.inputLength = inputLength;
+    }
+}
@@ -0,0 +1,30 @@
+package duke.monitor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted when a structure maintained over a task list is updated.
+ */
+@Name("duke.IndexUpdate")
+@Label("Index Update")
+@Category({"Duke", "Task List"})
+@Description("Update of a structure maintained over a task list, such as its sorted order")
+public class IndexUpdateEvent extends Event {
+    @Label("Index Name")
+    private String indexName;
+
+    @Label("Task Count")
+    private int taskCount;
+
+    public void setIndexName(String indexName) {
+        this.indexName = indexName;
+    }
+
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+}
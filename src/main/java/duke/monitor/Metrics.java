@@ -0,0 +1,219 @@
+package duke.monitor;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MXBean;
+import javax.management.ObjectName;
+
+/**
+ * Process-wide latency histograms and counters for Duke.
+ * Recording is enabled by default and can be turned off with the system property "duke.metrics=false".
+ */
+public class Metrics {
+    public static final String RESPONSE = "response";
+    public static final String PARSE = "parse";
+    public static final String EXECUTE_PREFIX = "execute.";
+    public static final String STORAGE_READ = "storage.read";
+    public static final String STORAGE_WRITE = "storage.write";
+    public static final String BYTES_READ = "storage.bytesRead";
+    public static final String BYTES_WRITTEN = "storage.bytesWritten";
+    public static final String FILES_READ = "storage.filesRead";
+    public static final String FILES_WRITTEN = "storage.filesWritten";
+    public static final String FSYNCS = "storage.fsyncs";
+    public static final String SESSIONS_LOADED = "server.sessionsLoaded";
+    public static final String SESSIONS_EVICTED = "server.sessionsEvicted";
+
+    private static final String MBEAN_NAME = "duke:type=Metrics";
+
+    private static volatile boolean isEnabled = !"false".equals(System.getProperty("duke.metrics"));
+
+    private static Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private static Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    /* Caches the histogram of each command class, so the hot path does not build a name for every command. */
+    private static ClassValue<Histogram> commandHistograms = new ClassValue<>() {
+        @Override
+        protected Histogram computeValue(Class<?> commandClass) {
+            return getHistogram(EXECUTE_PREFIX + commandClass.getSimpleName());
+        }
+    };
+
+    private Metrics() {
+        // Only static methods
+    }
+
+    public static boolean isEnabled() {
+        return isEnabled;
+    }
+
+    public static void setEnabled(boolean isEnabled) {
+        Metrics.isEnabled = isEnabled;
+    }
+
+    /**
+     * Returns the current time to be passed to one of the record methods, or 0 if metrics are disabled.
+     */
+    public static long startTimer() {
+        return isEnabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the time elapsed since the timer was started.
+     *
+     * @param name Name of the histogram to record to.
+     * @param startTime Time returned by {@link #startTimer()}.
+     */
+    public static void recordTime(String name, long startTime) {
+        if (isEnabled && startTime != 0) {
+            getHistogram(name).record(System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Records the time taken to execute a command.
+     *
+     * @param commandClass Class of the command that was executed.
+     * @param startTime Time returned by {@link #startTimer()}.
+     */
+    public static void recordCommandTime(Class<?> commandClass, long startTime) {
+        if (isEnabled && startTime != 0) {
+            commandHistograms.get(commandClass).record(System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Adds to a counter.
+     *
+     * @param name Name of the counter.
+     * @param amount Amount to add.
+     */
+    public static void increment(String name, long amount) {
+        if (isEnabled) {
+            counters.computeIfAbsent(name, key -> new LongAdder()).add(amount);
+        }
+    }
+
+    public static Histogram getHistogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new Histogram());
+    }
+
+    /**
+     * Returns the current value of a counter, or 0 if it has never been incremented.
+     */
+    public static long getCounter(String name) {
+        LongAdder counter = counters.get(name);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * Clears all histograms and counters.
+     */
+    public static void reset() {
+        histograms.values().forEach(Histogram::reset);
+        counters.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * Returns a human-readable report of all histograms and counters.
+     */
+    public static String getReport() {
+        if (!isEnabled) {
+            return "Metrics are disabled.";
+        }
+
+        StringBuilder report = new StringBuilder("Latency in ms (count, p50, p99, max):");
+
+        new TreeMap<>(histograms).forEach((name, histogram) -> {
+            if (histogram.getCount() == 0) {
+                return;
+            }
+
+            report.append(String.format("\n  %s: %d, %.3f, %.3f, %.3f", name,
+                    histogram.getCount(),
+                    histogram.getPercentile(0.5) / 1e6,
+                    histogram.getPercentile(0.99) / 1e6,
+                    histogram.getMax() / 1e6));
+        });
+
+        report.append("\nCounters:");
+        new TreeMap<>(counters).forEach((name, counter) -> report.append(String.format("\n  %s: %d", name,
+                counter.sum())));
+
+        return report.toString();
+    }
+
+    /**
+     * Registers the metrics as a JMX MBean named "duke:type=Metrics", if not already registered.
+     */
+    public static synchronized void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(MBEAN_NAME);
+
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new MetricsBean(), name);
+            }
+        } catch (JMException e) {
+            // Metrics are still available through the stats command
+        }
+    }
+
+    /**
+     * JMX view of the metrics. Marked as an MXBean by the annotation rather than by the end of its name.
+     */
+    @MXBean
+    public interface MetricsMxBean {
+        boolean isEnabled();
+
+        void setEnabled(boolean isEnabled);
+
+        String getReport();
+
+        Map<String, Long> getCounters();
+
+        Map<String, Double> getP99Millis();
+
+        void reset();
+    }
+
+    private static class MetricsBean implements MetricsMxBean {
+        @Override
+        public boolean isEnabled() {
+            return Metrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean isEnabled) {
+            Metrics.setEnabled(isEnabled);
+        }
+
+        @Override
+        public String getReport() {
+            return Metrics.getReport();
+        }
+
+        @Override
+        public Map<String, Long> getCounters() {
+            Map<String, Long> values = new TreeMap<>();
+            counters.forEach((name, counter) -> values.put(name, counter.sum()));
+            return values;
+        }
+
+        @Override
+        public Map<String, Double> getP99Millis() {
+            Map<String, Double> values = new TreeMap<>();
+            histograms.forEach((name, histogram) -> values.put(name, histogram.getPercentile(0.99) / 1e6));
+            return values;
+        }
+
+        @Override
+        public void reset() {
+            Metrics.reset();
+        }
+    }
+}
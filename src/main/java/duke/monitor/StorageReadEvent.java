@@ -0,0 +1,33 @@
+package duke.monitor;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted when a data file has been read, spanning from when it is opened until its lines
+ * are closed.
+ */
+@Name("duke.StorageRead")
+@Label("Storage Read")
+@Category({"Duke", "Storage"})
+@Description("Reading of a data file, from opening it until it is closed")
+public class StorageReadEvent extends Event {
+    @Label("File Name")
+    private String fileName;
+
+    @Label("Bytes")
+    @DataAmount(DataAmount.BYTES)
+    private long bytes;
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+}
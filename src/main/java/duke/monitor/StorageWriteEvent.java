@@ -0,0 +1,39 @@
+package duke.monitor;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted when a data file is written.
+ */
+@Name("duke.StorageWrite")
+@Label("Storage Write")
+@Category({"Duke", "Storage"})
+@Description("Writing of a data file")
+public class StorageWriteEvent extends Event {
+    @Label("File Name")
+    private String fileName;
+
+    @Label("Task Count")
+    private int taskCount;
+
+    @Label("Bytes")
+    @DataAmount(DataAmount.BYTES)
+    private long bytes;
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+}
@@ -0,0 +1,30 @@
+package duke.monitor;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted when a task list is sorted by a sort command.
+ */
+@Name("duke.TaskListSort")
+@Label("Task List Sort")
+@Category({"Duke", "Task List"})
+@Description("Sorting of a task list")
+public class TaskListSortEvent extends Event {
+    @Label("Sort By")
+    private String sortBy;
+
+    @Label("Task Count")
+    private int taskCount;
+
+    public void setSortBy(String sortBy) {
+        this.sortBy = sortBy;
+    }
+
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+}
@@ -0,0 +1,328 @@
+package duke.query;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.BitSet;
+import java.util.List;
+
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Task;
+import duke.task.Task.Priority;
+import duke.task.Task.TaskType;
+import duke.task.TaskIndex;
+import duke.task.Todo;
+
+/**
+ * Condition of a query that a task either matches or not.
+ * Conditions on tags and completion are {@link IndexedCondition}s, which can also be answered from a
+ * {@link TaskIndex} without looking at the tasks.
+ */
+abstract class Condition {
+
+    /**
+     * Returns whether the task matches the condition.
+     */
+    abstract boolean matches(Task task);
+
+    /**
+     * Returns the condition that the given condition does not match, which is indexed if the condition is.
+     */
+    static Condition not(Condition condition) {
+        return condition instanceof IndexedCondition
+                ? new NotIndexed((IndexedCondition) condition)
+                : new Not(condition);
+    }
+
+    /**
+     * Condition that all of its conditions match.
+     */
+    static class And extends Condition {
+        private List<Condition> conditions;
+
+        And(List<Condition> conditions) {
+            this.conditions = List.copyOf(conditions);
+        }
+
+        List<Condition> getConditions() {
+            return this.conditions;
+        }
+
+        @Override
+        boolean matches(Task task) {
+            for (Condition condition : conditions) {
+                if (!condition.matches(task)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return join(conditions, " AND ");
+        }
+    }
+
+    /**
+     * Condition that any of its conditions match.
+     */
+    static class Or extends Condition {
+        private List<Condition> conditions;
+
+        Or(List<Condition> conditions) {
+            this.conditions = List.copyOf(conditions);
+        }
+
+        @Override
+        boolean matches(Task task) {
+            for (Condition condition : conditions) {
+                if (condition.matches(task)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return join(conditions, " OR ");
+        }
+    }
+
+    /**
+     * Condition that its condition does not match.
+     */
+    static class Not extends Condition {
+        private Condition condition;
+
+        Not(Condition condition) {
+            this.condition = condition;
+        }
+
+        @Override
+        boolean matches(Task task) {
+            return !condition.matches(task);
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + condition;
+        }
+    }
+
+    /**
+     * Condition that its indexed condition does not match, read from the index as the positions it does not match.
+     */
+    static class NotIndexed extends IndexedCondition {
+        private IndexedCondition condition;
+
+        NotIndexed(IndexedCondition condition) {
+            this.condition = condition;
+        }
+
+        @Override
+        boolean matches(Task task) {
+            return !condition.matches(task);
+        }
+
+        @Override
+        BitSet findIndexed(TaskIndex index, int size) {
+            BitSet positions = condition.findIndexed(index, size);
+            positions.flip(0, size);
+            return positions;
+        }
+
+        @Override
+        int countIndexed(TaskIndex index, int size) {
+            return size - condition.countIndexed(index, size);
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + condition;
+        }
+    }
+
+    /**
+     * Condition that the task is of a type.
+     */
+    static class TypeIs extends Condition {
+        private TaskType taskType;
+
+        TypeIs(TaskType taskType) {
+            this.taskType = taskType;
+        }
+
+        @Override
+        boolean matches(Task task) {
+            switch (taskType) {
+            case TODO:
+                return task instanceof Todo;
+            case DEADLINE:
+                return task instanceof Deadline;
+            case EVENT:
+                return task instanceof Event;
+            default:
+                return false;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "type:" + taskType.name().toLowerCase();
+        }
+    }
+
+    /**
+     * Condition that the task is done, or not done.
+     */
+    static class DoneIs extends IndexedCondition {
+        private boolean isCompleted;
+
+        DoneIs(boolean isCompleted) {
+            this.isCompleted = isCompleted;
+        }
+
+        @Override
+        boolean matches(Task task) {
+            return task.isCompleted() == isCompleted;
+        }
+
+        @Override
+        BitSet findIndexed(TaskIndex index, int size) {
+            BitSet positions = index.getCompleted();
+
+            if (!isCompleted) {
+                positions.flip(0, size);
+            }
+
+            return positions;
+        }
+
+        @Override
+        int countIndexed(TaskIndex index, int size) {
+            return isCompleted ? index.countCompleted() : size - index.countCompleted();
+        }
+
+        @Override
+        public String toString() {
+            return "done:" + (isCompleted ? "yes" : "no");
+        }
+    }
+
+    /**
+     * Condition that the description of the task contains a text, ignoring case.
+     */
+    static class TextContains extends Condition {
+        private String text;
+
+        TextContains(String text) {
+            this.text = text.toLowerCase();
+        }
+
+        @Override
+        boolean matches(Task task) {
+            return task.getDescription().toLowerCase().contains(text);
+        }
+
+        @Override
+        public String toString() {
+            return "text:\"" + text + "\"";
+        }
+    }
+
+    /**
+     * Condition that the task has a tag.
+     */
+    static class HasTag extends IndexedCondition {
+        private String tag;
+
+        HasTag(String tag) {
+            this.tag = tag;
+        }
+
+        @Override
+        boolean matches(Task task) {
+            return task.getTags().contains(tag);
+        }
+
+        @Override
+        BitSet findIndexed(TaskIndex index, int size) {
+            return index.getTagged(tag);
+        }
+
+        @Override
+        int countIndexed(TaskIndex index, int size) {
+            return index.countTagged(tag);
+        }
+
+        @Override
+        public String toString() {
+            return "tag:" + tag;
+        }
+    }
+
+    /**
+     * Condition that the task has a priority.
+     */
+    static class PriorityIs extends Condition {
+        private Priority priority;
+
+        PriorityIs(Priority priority) {
+            this.priority = priority;
+        }
+
+        @Override
+        boolean matches(Task task) {
+            return task.getPriority() == priority;
+        }
+
+        @Override
+        public String toString() {
+            return "priority:" + priority;
+        }
+    }
+
+    /**
+     * Condition that the dates of the task overlap a range of dates.
+     * A deadline is on its due date and an event lasts from its start date to its end date. A task that repeats
+     * matches if any of its occurrences is in the range. Todos have no dates, so they never match.
+     */
+    static class DateIn extends Condition {
+        private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+        /* Either bound may be null for an open range. Both bounds are inclusive. */
+        private LocalDate earliest;
+        private LocalDate latest;
+
+        DateIn(LocalDate earliest, LocalDate latest) {
+            this.earliest = earliest;
+            this.latest = latest;
+        }
+
+        @Override
+        boolean matches(Task task) {
+            // Only the occurrences that can be in the range are worked out, and the first one is enough
+            return task.getOccurrences(earliest, latest).hasNext();
+        }
+
+        @Override
+        public String toString() {
+            return "date:" + (earliest == null ? "" : earliest.format(DATE_FORMATTER)) + ".."
+                    + (latest == null ? "" : latest.format(DATE_FORMATTER));
+        }
+    }
+
+    private static String join(List<Condition> conditions, String separator) {
+        StringBuilder builder = new StringBuilder("(");
+
+        for (int i = 0; i < conditions.size(); i++) {
+            builder.append(i == 0 ? "" : separator).append(conditions.get(i));
+        }
+
+        return builder.append(')').toString();
+    }
+}
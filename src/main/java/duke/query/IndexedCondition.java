@@ -0,0 +1,25 @@
+package duke.query;
+
+import java.util.BitSet;
+
+import duke.task.TaskIndex;
+
+/**
+ * Condition whose matching tasks can also be read from a {@link TaskIndex}, so a query need not look at every task.
+ */
+abstract class IndexedCondition extends Condition {
+
+    /**
+     * Returns the positions of the matching tasks, read from the index.
+     *
+     * @param index Index over the tasks.
+     * @param size Number of tasks in the snapshot the index is over.
+     * @return New bitset of the positions.
+     */
+    abstract BitSet findIndexed(TaskIndex index, int size);
+
+    /**
+     * Returns an estimate of the number of matching tasks, read from the index.
+     */
+    abstract int countIndexed(TaskIndex index, int size);
+}
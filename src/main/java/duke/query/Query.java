@@ -0,0 +1,128 @@
+package duke.query;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import duke.core.DukeException;
+import duke.task.Task;
+import duke.task.TaskList;
+
+/**
+ * Query over the tasks of a task list: a condition built from fields combined with AND, OR and NOT, and an
+ * optional order and limit on the number of tasks returned.
+ */
+public class Query {
+    private Condition condition;
+    private Comparator<Task> comparator;
+    private String orderDescription;
+    private int limit;
+
+    /**
+     * Constructor for Query.
+     *
+     * @param expression Conditions of the query, e.g. "tag:work AND NOT done:yes". Blank to match every task.
+     * @param order Order of the tasks, e.g. "date" or "priority desc", or null to keep the order of the task list.
+     * @param limit Maximum number of tasks to return, or 0 for no limit.
+     * @throws DukeException If the conditions or the order are invalid.
+     */
+    public Query(String expression, String order, int limit) throws DukeException {
+        this.condition = QueryParser.parse(expression);
+        this.limit = limit;
+
+        if (order != null) {
+            this.parseOrder(order);
+        }
+    }
+
+    /**
+     * Result of a query.
+     */
+    public static class Result {
+        private List<Task> tasks;
+        private String plan;
+
+        private Result(List<Task> tasks, String plan) {
+            this.tasks = tasks;
+            this.plan = plan;
+        }
+
+        public List<Task> getTasks() {
+            return tasks;
+        }
+
+        /**
+         * Returns a description of how the tasks were found.
+         */
+        public String getPlan() {
+            return plan;
+        }
+    }
+
+    /**
+     * Runs the query on the task list.
+     * With both an order and a limit, only the first tasks in the order are kept while the matches are read,
+     * instead of sorting all of them.
+     *
+     * @param tasks Task list to query.
+     * @return Matching tasks and how they were found.
+     */
+    public Result execute(TaskList tasks) {
+        QueryPlanner.Plan plan = QueryPlanner.plan(tasks, condition);
+        Stream<Task> matches = plan.getMatches();
+        List<Task> results;
+        String description = plan.getDescription();
+
+        if (comparator != null && limit > 0) {
+            results = TopK.select(matches.iterator(), comparator, limit);
+            description += String.format("\nKeep the first %d by %s.", limit, orderDescription);
+        } else if (comparator != null) {
+            results = matches.sorted(comparator).collect(Collectors.toList());
+            description += String.format("\nSort by %s.", orderDescription);
+        } else if (limit > 0) {
+            results = matches.limit(limit).collect(Collectors.toList());
+            description += String.format("\nStop after %d tasks.", limit);
+        } else {
+            results = matches.collect(Collectors.toList());
+        }
+
+        return new Result(results, description);
+    }
+
+    private void parseOrder(String order) throws DukeException {
+        String[] words = order.trim().toLowerCase().split("\\s+");
+        boolean isDescending = words.length == 2 && words[1].equals("desc");
+
+        if (words.length > 2 || (words.length == 2 && !isDescending && !words[1].equals("asc"))) {
+            throw new DukeException("Please give the order as a field, optionally followed by asc or desc, "
+                    + "e.g. /sort date desc.");
+        }
+
+        switch (words[0]) {
+        case "name":
+            comparator = Task::compareByName;
+            break;
+        case "type":
+            comparator = Task::compareByType;
+            break;
+        case "done":
+            comparator = Task::compareByCompletion;
+            break;
+        case "date":
+            comparator = Task::compareByDate;
+            break;
+        case "priority":
+            comparator = Comparator.comparing(Task::getPriority);
+            break;
+        default:
+            throw new DukeException("Please sort by name, type, done, date or priority.");
+        }
+
+        if (isDescending) {
+            comparator = comparator.reversed();
+        }
+
+        orderDescription = words[0] + (isDescending ? " descending" : "");
+    }
+}
@@ -0,0 +1,275 @@
+package duke.query;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import duke.core.DukeException;
+import duke.core.Parser;
+import duke.task.Task.TaskType;
+
+/**
+ * Parses the conditions of a query, e.g. "tag:urgent AND NOT done:yes OR (type:event date:01-02-2024..)".
+ * NOT binds tightest, then AND, then OR. Conditions next to each other without an operator are combined with AND.
+ * Words without a field, or phrases in double quotes, match text in the description.
+ */
+class QueryParser {
+    private List<String> tokens;
+    private int position;
+
+    private QueryParser(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Parses the conditions of a query.
+     *
+     * @param expression Conditions of the query.
+     * @return Condition, or null if the expression is blank so that every task matches.
+     * @throws DukeException If the expression is invalid.
+     */
+    static Condition parse(String expression) throws DukeException {
+        List<String> tokens = tokenize(expression);
+
+        if (tokens.isEmpty()) {
+            return null;
+        }
+
+        QueryParser parser = new QueryParser(tokens);
+        Condition condition = parser.parseOr();
+
+        if (parser.position < tokens.size()) {
+            throw new DukeException(String.format("Unexpected \"%s\" in the query.", tokens.get(parser.position)));
+        }
+
+        return condition;
+    }
+
+    /**
+     * Splits the expression into words, parentheses and quoted phrases, which keep their quotes.
+     */
+    private static List<String> tokenize(String expression) throws DukeException {
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+
+        while (i < expression.length()) {
+            char c = expression.charAt(i);
+
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(String.valueOf(c));
+                i++;
+            } else if (c == '"') {
+                int end = expression.indexOf('"', i + 1);
+
+                if (end == -1) {
+                    throw new DukeException("A quote in the query is not closed.");
+                }
+
+                tokens.add(expression.substring(i, end + 1));
+                i = end + 1;
+            } else {
+                int start = i;
+
+                while (i < expression.length() && !Character.isWhitespace(expression.charAt(i))
+                        && "()\"".indexOf(expression.charAt(i)) == -1) {
+                    i++;
+                }
+
+                tokens.add(expression.substring(start, i));
+            }
+        }
+
+        return tokens;
+    }
+
+    private Condition parseOr() throws DukeException {
+        List<Condition> conditions = new ArrayList<>();
+        conditions.add(this.parseAnd());
+
+        while (this.acceptKeyword("OR")) {
+            conditions.add(this.parseAnd());
+        }
+
+        return conditions.size() == 1 ? conditions.get(0) : new Condition.Or(conditions);
+    }
+
+    private Condition parseAnd() throws DukeException {
+        List<Condition> conditions = new ArrayList<>();
+        conditions.add(this.parseNot());
+
+        while (position < tokens.size() && !this.isKeyword("OR") && !tokens.get(position).equals(")")) {
+            this.acceptKeyword("AND");
+            conditions.add(this.parseNot());
+        }
+
+        return conditions.size() == 1 ? conditions.get(0) : new Condition.And(conditions);
+    }
+
+    private Condition parseNot() throws DukeException {
+        if (this.acceptKeyword("NOT")) {
+            return Condition.not(this.parseNot());
+        }
+
+        if (position >= tokens.size()) {
+            throw new DukeException("The query ends where a condition was expected.");
+        }
+
+        String token = tokens.get(position++);
+
+        if (token.equals("(")) {
+            Condition condition = this.parseOr();
+
+            if (position >= tokens.size() || !tokens.get(position++).equals(")")) {
+                throw new DukeException("A parenthesis in the query is not closed.");
+            }
+
+            return condition;
+        }
+
+        return parseTerm(token);
+    }
+
+    private boolean isKeyword(String keyword) {
+        return position < tokens.size() && tokens.get(position).equalsIgnoreCase(keyword);
+    }
+
+    private boolean acceptKeyword(String keyword) {
+        if (!this.isKeyword(keyword)) {
+            return false;
+        }
+
+        position++;
+        return true;
+    }
+
+    private static Condition parseTerm(String token) throws DukeException {
+        if (token.startsWith("\"")) {
+            return new Condition.TextContains(token.substring(1, token.length() - 1));
+        }
+
+        if (token.startsWith("#")) {
+            return new Condition.HasTag(parseTag(token));
+        }
+
+        int separator = token.indexOf(':');
+
+        if (separator == -1) {
+            return new Condition.TextContains(token);
+        }
+
+        String field = token.substring(0, separator).toLowerCase();
+        String value = token.substring(separator + 1);
+
+        switch (field) {
+        case "type":
+            return new Condition.TypeIs(parseTaskType(value));
+        case "done":
+            return new Condition.DoneIs(parseBoolean(value));
+        case "text":
+            return new Condition.TextContains(value);
+        case "tag":
+            return new Condition.HasTag(parseTag(value));
+        case "priority":
+            return new Condition.PriorityIs(Parser.parsePriority(value));
+        case "date":
+            return parseDateRange(value);
+        default:
+            throw new DukeException(String.format("Unknown field \"%s\" in the query.\n"
+                    + "Use type, done, text, tag, priority or date.", field));
+        }
+    }
+
+    private static TaskType parseTaskType(String value) throws DukeException {
+        switch (value.toLowerCase()) {
+        case "todo":
+            return TaskType.TODO;
+        case "deadline":
+            return TaskType.DEADLINE;
+        case "event":
+            return TaskType.EVENT;
+        default:
+            throw new DukeException("Please use a type of todo, deadline or event.");
+        }
+    }
+
+    private static boolean parseBoolean(String value) throws DukeException {
+        switch (value.toLowerCase()) {
+        case "yes":
+        case "true":
+            return true;
+        case "no":
+        case "false":
+            return false;
+        default:
+            throw new DukeException("Please use done:yes or done:no.");
+        }
+    }
+
+    private static String parseTag(String value) throws DukeException {
+        List<String> tags = Parser.parseTags(value);
+
+        if (tags.size() != 1) {
+            throw new DukeException("Please give one tag per condition, e.g. tag:urgent tag:work.");
+        }
+
+        return tags.get(0);
+    }
+
+    /**
+     * Parses a date or a range of dates: "01-02-2024", "01-02-2024..28-02-2024", an open range such as
+     * "01-02-2024..", or a comparison such as "<01-02-2024" or ">=01-02-2024".
+     */
+    private static Condition parseDateRange(String value) throws DukeException {
+        int rangeSeparator = value.indexOf("..");
+
+        if (rangeSeparator != -1) {
+            return new Condition.DateIn(parseDate(value.substring(0, rangeSeparator)),
+                    parseDate(value.substring(rangeSeparator + 2)));
+        }
+
+        if (value.startsWith("<=")) {
+            return new Condition.DateIn(null, parseBound(value, "<="));
+        } else if (value.startsWith(">=")) {
+            return new Condition.DateIn(parseBound(value, ">="), null);
+        } else if (value.startsWith("<")) {
+            return new Condition.DateIn(null, parseBound(value, "<").minusDays(1));
+        } else if (value.startsWith(">")) {
+            return new Condition.DateIn(parseBound(value, ">").plusDays(1), null);
+        }
+
+        LocalDate date = parseDate(value);
+
+        if (date == null) {
+            throw new DukeException("Please give a date, e.g. date:01-02-2024 or date:01-02-2024..28-02-2024.");
+        }
+
+        return new Condition.DateIn(date, date);
+    }
+
+    /**
+     * Returns the date after the comparison operator that the value starts with.
+     */
+    private static LocalDate parseBound(String value, String operator) throws DukeException {
+        LocalDate date = parseDate(value.substring(operator.length()));
+
+        if (date == null) {
+            throw new DukeException(String.format("Please specify a date after %s, e.g. date:%s01-02-2024.",
+                    operator, operator));
+        }
+
+        return date;
+    }
+
+    /**
+     * Returns the date, or null if the value is empty.
+     */
+    private static LocalDate parseDate(String value) throws DukeException {
+        if (value.isEmpty()) {
+            return null;
+        }
+
+        return LocalDate.from(Parser.parseDateTimeInput(value));
+    }
+}
@@ -0,0 +1,115 @@
+package duke.query;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import duke.task.Task;
+import duke.task.TaskIndex;
+import duke.task.TaskList;
+
+/**
+ * Decides how to find the tasks that match a condition.
+ * Conditions that must all match and can be read from the index are combined as bitsets, starting from the one
+ * that matches the fewest tasks, so that the other conditions only look at the tasks that are left.
+ * Without such a condition, every task is scanned as a stream.
+ */
+class QueryPlanner {
+
+    private QueryPlanner() {
+    }
+
+    /**
+     * Tasks found for a condition, with a description of how they were found.
+     */
+    static class Plan {
+        private Stream<Task> candidates;
+        private Condition filter;
+        private String description;
+
+        private Plan(Stream<Task> candidates, Condition filter, String description) {
+            this.candidates = candidates;
+            this.filter = filter;
+            this.description = description;
+        }
+
+        /**
+         * Returns the matching tasks, in their order in the task list.
+         */
+        Stream<Task> getMatches() {
+            return filter == null ? candidates : candidates.filter(filter::matches);
+        }
+
+        String getDescription() {
+            return description;
+        }
+    }
+
+    /**
+     * Plans how to find the tasks that match the condition.
+     * Indexed conditions are read while the task list is locked, so they match the same snapshot as the tasks.
+     * The other conditions are checked afterwards, without holding the lock.
+     *
+     * @param tasks Task list to search.
+     * @param condition Condition to match, or null to match every task.
+     * @return Plan with the matching tasks.
+     */
+    static Plan plan(TaskList tasks, Condition condition) {
+        List<Condition> conjuncts = condition == null
+                ? List.of()
+                : condition instanceof Condition.And ? ((Condition.And) condition).getConditions() : List.of(condition);
+        List<IndexedCondition> indexed = new ArrayList<>();
+        List<Condition> remaining = new ArrayList<>();
+
+        for (Condition conjunct : conjuncts) {
+            if (conjunct instanceof IndexedCondition) {
+                indexed.add((IndexedCondition) conjunct);
+            } else {
+                remaining.add(conjunct);
+            }
+        }
+
+        Condition filter = remaining.isEmpty() ? null
+                : remaining.size() == 1 ? remaining.get(0) : new Condition.And(remaining);
+        String filterDescription = filter == null ? "" : ", then filter by " + filter;
+
+        if (indexed.isEmpty()) {
+            List<Task> snapshot = tasks.getSnapshot();
+            return new Plan(snapshot.stream(), filter,
+                    "Scan all " + snapshot.size() + " tasks" + filterDescription + ".");
+        }
+
+        return tasks.readIndexed((snapshot, index) -> {
+            int size = snapshot.size();
+
+            // Start from the most selective condition, so the intersection only shrinks from there
+            indexed.sort(Comparator.comparingInt(conjunct -> conjunct.countIndexed(index, size)));
+            BitSet positions = indexed.get(0).findIndexed(index, size);
+
+            for (int i = 1; i < indexed.size() && !positions.isEmpty(); i++) {
+                positions.and(indexed.get(i).findIndexed(index, size));
+            }
+
+            List<Task> candidates = new ArrayList<>(positions.cardinality());
+            positions.stream().forEach(position -> candidates.add(snapshot.get(position)));
+
+            String description = String.format("Read %s from the index: %d of %d tasks%s.",
+                    describe(indexed, index, size), candidates.size(), size, filterDescription);
+            return new Plan(candidates.stream(), filter, description);
+        });
+    }
+
+    private static String describe(List<IndexedCondition> indexed, TaskIndex index, int size) {
+        StringBuilder description = new StringBuilder();
+
+        for (int i = 0; i < indexed.size(); i++) {
+            IndexedCondition condition = indexed.get(i);
+            description.append(i == 0 ? "" : " AND ").append(condition)
+                    .append(" (").append(condition.countIndexed(index, size)).append(')');
+        }
+
+        return description.toString();
+    }
+}
@@ -0,0 +1,69 @@
+package duke.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import duke.task.Task;
+
+/**
+ * Selects the first k tasks in an order from a sequence of tasks, keeping only k tasks in memory.
+ * The tasks are kept in a bounded heap whose head is the last of the tasks kept, so each task is compared with it
+ * and either dropped or swapped in. This takes O(n log k) instead of the O(n log n) of sorting every task.
+ */
+class TopK {
+
+    private TopK() {
+    }
+
+    /**
+     * Candidate task, with its position in the sequence to keep the selection stable.
+     */
+    private static class Entry {
+        private Task task;
+        private long position;
+
+        private Entry(Task task, long position) {
+            this.task = task;
+            this.position = position;
+        }
+    }
+
+    /**
+     * Returns the first k tasks in the order. Tasks that are equal in the order stay in the order they came in.
+     *
+     * @param tasks Tasks to select from.
+     * @param comparator Order of the tasks.
+     * @param k Maximum number of tasks to select.
+     * @return Selected tasks, in order.
+     */
+    static List<Task> select(Iterator<Task> tasks, Comparator<Task> comparator, int k) {
+        Comparator<Entry> entryComparator = Comparator.<Entry, Task>comparing(entry -> entry.task, comparator)
+                .thenComparingLong(entry -> entry.position);
+        PriorityQueue<Entry> kept = new PriorityQueue<>(entryComparator.reversed());
+        long position = 0;
+
+        while (tasks.hasNext()) {
+            Entry entry = new Entry(tasks.next(), position++);
+
+            if (kept.size() < k) {
+                kept.add(entry);
+            } else if (entryComparator.compare(entry, kept.peek()) < 0) {
+                kept.poll();
+                kept.add(entry);
+            }
+        }
+
+        List<Task> selected = new ArrayList<>(kept.size());
+
+        while (!kept.isEmpty()) {
+            selected.add(kept.poll().task);
+        }
+
+        Collections.reverse(selected);
+        return selected;
+    }
+}
@@ -0,0 +1,213 @@
+package duke.reminder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Task;
+import duke.task.TaskObserver;
+
+/**
+ * Schedules a reminder for the next due time of each open deadline and the next start time of each open event,
+ * and sends each reminder when its time comes.
+ * Reminders are kept in a timing wheel, so they are scheduled and cancelled in constant time as tasks are added,
+ * marked, deleted and changed. A single thread advances the wheel once a second.
+ */
+public class ReminderScheduler implements TaskObserver {
+    private static final long TICK_MILLIS = 1000;
+
+    /* Tasks with a date but no time are reminded of at this time on the day. */
+    private static final LocalTime DATE_REMINDER_TIME = LocalTime.of(9, 0);
+
+    private Duration leadTime;
+    private Consumer<String> onReminder;
+    private Clock clock;
+
+    private TimingWheel<Reminder> wheel;
+
+    /* Scheduled reminder of each task. Tasks are matched by identity, as equal copies are different tasks. */
+    private Map<Task, TimingWheel.Timer<Reminder>> timers = new IdentityHashMap<>();
+
+    private Thread thread;
+
+    /**
+     * Reminder of one occurrence of a task.
+     */
+    private static class Reminder {
+        private Task task;
+        private Task occurrence;
+        private LocalDateTime startTime;
+
+        private Reminder(Task task, Task occurrence, LocalDateTime startTime) {
+            this.task = task;
+            this.occurrence = occurrence;
+            this.startTime = startTime;
+        }
+    }
+
+    /**
+     * Constructor for ReminderScheduler.
+     *
+     * @param leadTime How long before a time the reminder for it is sent.
+     * @param onReminder Called with the message of each reminder, from the thread of the scheduler.
+     * @param clock Clock to read the current time from.
+     */
+    public ReminderScheduler(Duration leadTime, Consumer<String> onReminder, Clock clock) {
+        this.leadTime = leadTime;
+        this.onReminder = onReminder;
+        this.clock = clock;
+        this.wheel = new TimingWheel<>(this.getCurrentTick());
+    }
+
+    /**
+     * Starts the thread that sends the reminders. Does nothing if it is already started.
+     */
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+
+        thread = new Thread(this::run, "duke-reminders");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the thread that sends the reminders. Scheduled reminders are kept.
+     */
+    public synchronized void stop() {
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+    /**
+     * Returns the number of scheduled reminders.
+     */
+    public synchronized int size() {
+        return wheel.size();
+    }
+
+    @Override
+    public synchronized void taskUpdated(Task task) {
+        this.cancel(task);
+        this.schedule(task, LocalDateTime.now(clock));
+    }
+
+    @Override
+    public synchronized void taskRemoved(Task task) {
+        this.cancel(task);
+    }
+
+    private void cancel(Task task) {
+        TimingWheel.Timer<Reminder> timer = timers.remove(task);
+
+        if (timer != null) {
+            wheel.cancel(timer);
+        }
+    }
+
+    /**
+     * Schedules a reminder of the first occurrence of the task that starts after the given time, if the task is not
+     * done. An occurrence that is closer than the lead time is reminded of straight away.
+     */
+    private void schedule(Task task, LocalDateTime after) {
+        if (task.isCompleted()) {
+            return;
+        }
+
+        Iterator<Task> occurrences = task.getOccurrences(after.toLocalDate(), null);
+
+        while (occurrences.hasNext()) {
+            Task occurrence = occurrences.next();
+            LocalDateTime startTime = getStartTime(occurrence);
+
+            if (startTime.isAfter(after)) {
+                long reminderMillis = this.getReminderTime(occurrence).atZone(clock.getZone()).toInstant()
+                        .toEpochMilli();
+                long tick = Math.floorDiv(reminderMillis, TICK_MILLIS);
+                timers.put(task, wheel.schedule(new Reminder(task, occurrence, startTime), tick));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sends the reminders that are due, and schedules the next reminder of each task that repeats.
+     */
+    void sendDueReminders() {
+        List<Reminder> dueReminders = new ArrayList<>();
+
+        synchronized (this) {
+            wheel.advanceTo(this.getCurrentTick(), dueReminders::add);
+
+            for (Reminder reminder : dueReminders) {
+                timers.remove(reminder.task);
+
+                // Repeating tasks are reminded of again for their next occurrence
+                this.schedule(reminder.task, reminder.startTime);
+            }
+        }
+
+        for (Reminder reminder : dueReminders) {
+            onReminder.accept(createMessage(reminder.occurrence));
+        }
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(TICK_MILLIS - Math.floorMod(clock.millis(), TICK_MILLIS));
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            this.sendDueReminders();
+        }
+    }
+
+    private long getCurrentTick() {
+        return Math.floorDiv(clock.millis(), TICK_MILLIS);
+    }
+
+    private LocalDateTime getReminderTime(Task occurrence) {
+        TemporalAccessor start = getStart(occurrence);
+        return start instanceof LocalDateTime ? ((LocalDateTime) start).minus(leadTime) : getStartTime(occurrence);
+    }
+
+    /**
+     * Returns the due time of a deadline or the start time of an event. Dates without a time are taken to be at
+     * the time reminders of dates are sent, so they are reminded of until then.
+     */
+    private static LocalDateTime getStartTime(Task occurrence) {
+        TemporalAccessor start = getStart(occurrence);
+        return start instanceof LocalDateTime
+                ? (LocalDateTime) start
+                : ((LocalDate) start).atTime(DATE_REMINDER_TIME);
+    }
+
+    private static TemporalAccessor getStart(Task occurrence) {
+        return occurrence instanceof Deadline
+                ? ((Deadline) occurrence).getDueDatetime()
+                : ((Event) occurrence).getStartDatetime();
+    }
+
+    private static String createMessage(Task occurrence) {
+        String heading = occurrence instanceof Deadline
+                ? "Reminder: this deadline is due soon:"
+                : "Reminder: this event is starting soon:";
+        return String.format("%s\n  %s", heading, occurrence);
+    }
+}
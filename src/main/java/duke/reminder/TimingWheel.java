@@ -0,0 +1,197 @@
+package duke.reminder;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel: timers are kept in rings of slots, one ring for each level of precision, so that
+ * scheduling and cancelling a timer take constant time however many timers there are.
+ * The first level has one slot per tick. Each level above covers 64 times the span of the one below with the
+ * same number of slots, and its timers move down a level when the wheel reaches their slot.
+ * Not thread-safe.
+ *
+ * @param <T> Type of the value of each timer.
+ */
+class TimingWheel<T> {
+    private static final int BITS_PER_LEVEL = 6;
+    private static final int SLOT_COUNT = 1 << BITS_PER_LEVEL;
+    private static final long SLOT_MASK = SLOT_COUNT - 1;
+    private static final int LEVEL_COUNT = 6;
+
+    /* Timers further away than this are kept in the top level until they come within it. */
+    private static final long MAX_SPAN = 1L << (BITS_PER_LEVEL * LEVEL_COUNT);
+
+    private Timer<T>[][] slots;
+    private long nextTick;
+    private int size;
+
+    /**
+     * Timer in the wheel. Each slot is a circular list of timers headed by an empty timer, so a timer can remove
+     * itself from its slot without searching it.
+     *
+     * @param <T> Type of the value of the timer.
+     */
+    static class Timer<T> {
+        private T value;
+        private long expiryTick;
+        private Timer<T> previous;
+        private Timer<T> next;
+
+        private Timer(T value, long expiryTick) {
+            this.value = value;
+            this.expiryTick = expiryTick;
+        }
+
+        T getValue() {
+            return value;
+        }
+
+        long getExpiryTick() {
+            return expiryTick;
+        }
+
+        private boolean isScheduled() {
+            return previous != null;
+        }
+
+        private void unlink() {
+            previous.next = next;
+            next.previous = previous;
+            previous = null;
+            next = null;
+        }
+    }
+
+    /**
+     * Constructor for TimingWheel.
+     *
+     * @param startTick First tick the wheel will advance to.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    TimingWheel(long startTick) {
+        this.nextTick = startTick;
+        this.slots = new Timer[LEVEL_COUNT][SLOT_COUNT];
+
+        for (Timer<T>[] level : slots) {
+            for (int i = 0; i < SLOT_COUNT; i++) {
+                Timer<T> head = new Timer<>(null, 0);
+                head.previous = head;
+                head.next = head;
+                level[i] = head;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Schedules a timer. A timer for a tick the wheel has already passed expires on the next tick.
+     *
+     * @param value Value of the timer, passed back when it expires.
+     * @param expiryTick Tick the timer expires on.
+     * @return Timer, which can be cancelled.
+     */
+    Timer<T> schedule(T value, long expiryTick) {
+        Timer<T> timer = new Timer<>(value, expiryTick);
+        this.place(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Cancels a timer. Does nothing if it has already expired or been cancelled.
+     */
+    void cancel(Timer<T> timer) {
+        if (timer.isScheduled()) {
+            timer.unlink();
+            size--;
+        }
+    }
+
+    /**
+     * Advances the wheel to the tick, passing the value of each timer that expires on or before it to the consumer,
+     * in the order of their ticks.
+     *
+     * @param tick Tick to advance to.
+     * @param onExpiry Called with the value of each expired timer.
+     */
+    void advanceTo(long tick, Consumer<T> onExpiry) {
+        while (nextTick <= tick) {
+            if (size == 0) {
+                // Nothing can expire, so the ticks in between do not need to be visited
+                nextTick = tick + 1;
+                return;
+            }
+
+            this.processTick(onExpiry);
+            nextTick++;
+        }
+    }
+
+    private void processTick(Consumer<T> onExpiry) {
+        int index = (int) (nextTick & SLOT_MASK);
+
+        // When a level completes a turn, the next slot of the level above is spread over the levels below
+        if (index == 0) {
+            for (int level = 1; level < LEVEL_COUNT; level++) {
+                int slot = (int) ((nextTick >>> (BITS_PER_LEVEL * level)) & SLOT_MASK);
+                this.cascade(level, slot);
+
+                if (slot != 0) {
+                    break;
+                }
+            }
+        }
+
+        Timer<T> head = slots[0][index];
+
+        while (head.next != head) {
+            Timer<T> timer = head.next;
+            timer.unlink();
+
+            if (timer.expiryTick > nextTick) {
+                // Was too far away to be placed exactly
+                this.place(timer);
+            } else {
+                size--;
+                onExpiry.accept(timer.value);
+            }
+        }
+    }
+
+    private void cascade(int level, int slot) {
+        Timer<T> head = slots[level][slot];
+
+        while (head.next != head) {
+            Timer<T> timer = head.next;
+            timer.unlink();
+            this.place(timer);
+        }
+    }
+
+    /**
+     * Puts the timer in the lowest level that spans its expiry tick, in the slot for that tick.
+     */
+    private void place(Timer<T> timer) {
+        long tick = Math.max(timer.expiryTick, nextTick);
+        long delay = tick - nextTick;
+
+        if (delay >= MAX_SPAN) {
+            tick = nextTick + MAX_SPAN - 1;
+            delay = MAX_SPAN - 1;
+        }
+
+        int level = 0;
+
+        while (delay >= 1L << (BITS_PER_LEVEL * (level + 1))) {
+            level++;
+        }
+
+        Timer<T> head = slots[level][(int) ((tick >>> (BITS_PER_LEVEL * level)) & SLOT_MASK)];
+        timer.previous = head.previous;
+        timer.next = head;
+        head.previous.next = timer;
+        head.previous = timer;
+    }
+}
@@ -0,0 +1,368 @@
+package duke.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import duke.command.Command;
+import duke.core.Duke;
+import duke.core.DukeException;
+import duke.core.Parser;
+import duke.task.Task;
+import duke.transfer.TaskFormat;
+
+/**
+ * Serves Duke's commands as JSON endpoints on localhost, either for a single user or for many users.
+ * Each request runs on its own virtual thread when the runtime supports them.
+ * Requests that change tasks must send a JSON body, which browsers cannot do for another site without the server
+ * allowing it, and requests from pages of other origins are refused.
+ */
+public class DukeServer {
+    private static final int DEFAULT_PORT = 8080;
+    private static final int BACKLOG = 4096;
+    private static final int MAX_BODY_LENGTH = 64 * 1024;
+    private static final String USER_HEADER = "X-Duke-User";
+    private static final String USER_PARAMETER = "user";
+    private static final String ARGUMENTS_KEY = "args";
+
+    /* Maps each endpoint to the command word it runs. The add endpoint takes the task type from the arguments. */
+    private static final Map<String, String> COMMANDS = Map.of(
+            "add", "",
+            "list", "list",
+            "find", "find",
+            "mark", "mark",
+            "unmark", "unmark",
+            "delete", "delete",
+            "sort", "sort");
+
+    /* Task types accepted by the add endpoint. */
+    private static final Set<String> TASK_TYPES = Set.of("todo", "deadline", "event");
+
+    /* Endpoints that do not change the task list, and so may also be called with GET. */
+    private static final Set<String> READ_ONLY_COMMANDS = Set.of("list", "find");
+
+    /* Exactly one of these is set, depending on whether the server is for one user or many. */
+    private Duke duke;
+    private SessionCache sessions;
+
+    private HttpServer httpServer;
+    private ExecutorService executor;
+
+    /**
+     * Constructor for DukeServer.
+     *
+     * @param duke Duke instance to run the commands on.
+     * @param port Port to listen on, or 0 to pick any free port.
+     * @throws IOException If the server cannot be bound to the port.
+     */
+    public DukeServer(Duke duke, int port) throws IOException {
+        this(port);
+        this.duke = duke;
+    }
+
+    /**
+     * Constructor for DukeServer that serves many users, each with their own task lists.
+     * Requests name their user with the X-Duke-User header or the user query parameter.
+     *
+     * @param sessions Cache of the loaded users.
+     * @param port Port to listen on, or 0 to pick any free port.
+     * @throws IOException If the server cannot be bound to the port.
+     */
+    public DukeServer(SessionCache sessions, int port) throws IOException {
+        this(port);
+        this.sessions = sessions;
+    }
+
+    private DukeServer(int port) throws IOException {
+        this.httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        this.executor = createExecutor();
+
+        for (Map.Entry<String, String> endpoint : COMMANDS.entrySet()) {
+            String commandWord = endpoint.getValue();
+            httpServer.createContext("/" + endpoint.getKey(), exchange -> this.handle(exchange, commandWord));
+        }
+
+        httpServer.setExecutor(executor);
+    }
+
+    /**
+     * Creates an executor that runs every request on a new virtual thread.
+     * Virtual threads are only available from Java 21, so older runtimes fall back to a fixed thread pool.
+     */
+    private static ExecutorService createExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 4);
+        }
+    }
+
+    public void start() {
+        httpServer.start();
+    }
+
+    /**
+     * Stops accepting requests and waits up to the given delay for running requests to finish.
+     *
+     * @param delaySeconds Maximum number of seconds to wait.
+     */
+    public void stop(int delaySeconds) {
+        httpServer.stop(delaySeconds);
+        executor.shutdown();
+
+        if (sessions != null) {
+            sessions.closeAll();
+        }
+    }
+
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange, String commandWord) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            boolean isGet = method.equals("GET");
+            boolean isAllowed = method.equals("POST") || isGet && READ_ONLY_COMMANDS.contains(commandWord);
+
+            if (!isAllowed) {
+                sendJson(exchange, 405, "{\"ok\":false,\"error\":\"Method not allowed.\"}");
+                return;
+            }
+
+            if (!this.isSameOrigin(exchange)) {
+                sendJson(exchange, 403, "{\"ok\":false,\"error\":\"Requests from other sites are not allowed.\"}");
+                return;
+            }
+
+            if (!isGet && !isJson(exchange)) {
+                sendJson(exchange, 415, "{\"ok\":false,\"error\":\"Please send a JSON body.\"}");
+                return;
+            }
+
+            String body = isGet ? null : readBody(exchange);
+
+            if (!isGet && body == null) {
+                sendJson(exchange, 413, "{\"ok\":false,\"error\":\"The request body is too long.\"}");
+                return;
+            }
+
+            try {
+                String arguments = isGet ? readQueryParameter(exchange, ARGUMENTS_KEY) : readArguments(body);
+                String input = (commandWord + " " + arguments).trim();
+
+                if (commandWord.isEmpty() && !TASK_TYPES.contains(input.split(" ", 2)[0])) {
+                    throw new DukeException("Please start with todo, deadline or event.");
+                }
+
+                Command command = Parser.parseCommand(input);
+
+                if (command == null) {
+                    throw new DukeException("Please enter a valid command.");
+                }
+
+                String response = this.execute(exchange, command);
+                sendJson(exchange, 200, toJsonResponse(response, command.getResultTasks()));
+            } catch (DukeException e) {
+                sendJson(exchange, 400, "{\"ok\":false,\"error\":" + toJsonString(e.getMessage()) + "}");
+            }
+        } catch (RuntimeException e) {
+            // A bug in a command fails only its own request. Errors such as running out of memory are left to stop
+            // the request, as the server may not be able to go on after them.
+            sendJson(exchange, 500, "{\"ok\":false,\"error\":\"An unexpected error occured.\"}");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Returns whether the request comes from the server's own origin, or is not sent by a page at all.
+     * Browsers name the page a request comes from in the Origin header, so pages of other sites that try to use the
+     * server are refused.
+     */
+    private boolean isSameOrigin(HttpExchange exchange) {
+        String origin = exchange.getRequestHeaders().getFirst("Origin");
+
+        if (origin == null) {
+            return true;
+        }
+
+        int port = this.getPort();
+        return origin.equals("http://localhost:" + port) || origin.equals("http://127.0.0.1:" + port);
+    }
+
+    private static boolean isJson(HttpExchange exchange) {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        return contentType != null && contentType.split(";", 2)[0].trim().equalsIgnoreCase("application/json");
+    }
+
+    /**
+     * Returns the arguments of the command in a JSON body, e.g. {"args":"todo Feed my cat"}.
+     */
+    private static String readArguments(String body) throws DukeException {
+        String arguments = TaskFormat.readJsonObject(body).get(ARGUMENTS_KEY);
+        return arguments == null ? "" : arguments;
+    }
+
+    /**
+     * Executes the command for the user of the request.
+     */
+    private String execute(HttpExchange exchange, Command command) throws DukeException {
+        if (sessions == null) {
+            return duke.execute(command);
+        }
+
+        String userId = exchange.getRequestHeaders().getFirst(USER_HEADER);
+
+        if (userId == null) {
+            userId = readQueryParameter(exchange, USER_PARAMETER);
+        }
+
+        if (userId.isEmpty()) {
+            throw new DukeException("Please name the user with the " + USER_HEADER + " header or the "
+                    + USER_PARAMETER + " query parameter.");
+        }
+
+        return sessions.execute(userId, command);
+    }
+
+    /**
+     * Returns the response of a command, with the tasks it showed or changed as JSON objects.
+     */
+    private static String toJsonResponse(String response, List<Task> tasks) {
+        StringBuilder json = new StringBuilder("{\"ok\":true,\"response\":");
+        json.append(response == null ? "null" : toJsonString(response)).append(",\"tasks\":[");
+
+        for (int i = 0; i < tasks.size(); i++) {
+            TaskFormat.appendJson(json.append(i == 0 ? "" : ","), tasks.get(i));
+        }
+
+        return json.append("]}").toString();
+    }
+
+    /**
+     * Returns the value of a query parameter, or an empty string if it is not given.
+     */
+    private static String readQueryParameter(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+
+        if (query == null) {
+            return "";
+        }
+
+        String prefix = name + "=";
+
+        for (String parameter : query.split("&")) {
+            if (parameter.startsWith(prefix)) {
+                return URLDecoder.decode(parameter.substring(prefix.length()), StandardCharsets.UTF_8);
+            }
+        }
+
+        return "";
+    }
+
+    /**
+     * Returns the body of the request, or null if it is too long to be run as a command.
+     * At most one byte more than the limit is read, so a long body is never held in memory.
+     */
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            byte[] bytes = body.readNBytes(MAX_BODY_LENGTH + 1);
+            return bytes.length > MAX_BODY_LENGTH ? null : new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    /**
+     * Returns the string as a quoted JSON string literal.
+     */
+    static String toJsonString(String string) {
+        StringBuilder json = new StringBuilder(string.length() + 2);
+        json.append('"');
+
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+
+            switch (c) {
+            case '"':
+                json.append("\\\"");
+                break;
+            case '\\':
+                json.append("\\\\");
+                break;
+            case '\n':
+                json.append("\\n");
+                break;
+            case '\r':
+                json.append("\\r");
+                break;
+            case '\t':
+                json.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    json.append(String.format("\\u%04x", (int) c));
+                } else {
+                    json.append(c);
+                }
+            }
+        }
+
+        return json.append('"').toString();
+    }
+
+    /**
+     * Starts the server.
+     * When a maximum number of users is given, the server serves many users, with the data of each user in its own
+     * directory under the base directory.
+     *
+     * @param args Optional port, optional base directory for the data files and optional maximum number of users
+     *     to keep loaded.
+     */
+    public static void main(String[] args) {
+        try {
+            int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+            String baseDirectory = args.length > 1 ? args[1] : "./data/";
+            int maxSessions = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+
+            if (args.length > 2 && maxSessions < 1) {
+                throw new NumberFormatException("The maximum number of users should be positive.");
+            }
+
+            DukeServer server = maxSessions > 0
+                    ? new DukeServer(new SessionCache(baseDirectory, maxSessions), port)
+                    : new DukeServer(new Duke(baseDirectory), port);
+            server.start();
+            System.out.printf("Listening on http://localhost:%d%n", server.getPort());
+        } catch (NumberFormatException e) {
+            System.err.println("Usage: DukeServer [port] [base directory] [max loaded users]");
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("An error occured while starting the server: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
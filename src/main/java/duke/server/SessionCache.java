@@ -0,0 +1,247 @@
+package duke.server;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import duke.command.Command;
+import duke.core.Duke;
+import duke.core.DukeException;
+import duke.monitor.Metrics;
+
+/**
+ * Bounded cache of the Duke instances of many users, each with its own base directory.
+ * Users are kept in order of last use, and the least recently used idle users are evicted once there are more
+ * than the maximum number of users. Evicted users are closed so that nothing is lost, and loaded again on their
+ * next request.
+ */
+public class SessionCache {
+    /* User IDs become directory names, so they are kept to characters that are safe in a file name on every system. */
+    private static final Pattern USER_ID_PATTERN = Pattern.compile("[a-z0-9_-]{1,64}");
+
+    private int maxSessions;
+    private Function<String, Duke> loader;
+
+    /* Sessions in order of last use, from least to most recent. Guarded by the lock on this cache. */
+    private LinkedHashMap<String, Session> sessions = new LinkedHashMap<>(16, 0.75f, true);
+
+    /* Evicted sessions that may still be closing, by user ID. Guarded by the lock on this cache. */
+    private Map<String, Session> closingSessions = new HashMap<>();
+
+    /**
+     * Loaded Duke instance of a user and the number of requests currently using it.
+     */
+    private static class Session {
+        private String userId;
+        private Duke duke;
+        private int activeRequests;
+
+        /* Evicted session of the same user that must be closed before this one loads, or null if there is none. */
+        private Session evictedSession;
+
+        private Session(String userId) {
+            this.userId = userId;
+        }
+    }
+
+    /**
+     * Constructor for SessionCache that keeps the data of each user in its own directory under a root directory.
+     *
+     * @param rootDirectory Directory containing a directory for each user.
+     * @param maxSessions Maximum number of users to keep loaded while they are idle.
+     */
+    public SessionCache(String rootDirectory, int maxSessions) {
+        this(userId -> new Duke(Path.of(rootDirectory, userId).toString()), maxSessions);
+    }
+
+    /**
+     * Constructor for SessionCache.
+     *
+     * @param loader Creates the Duke instance of a user from their ID.
+     * @param maxSessions Maximum number of users to keep loaded while they are idle.
+     */
+    SessionCache(Function<String, Duke> loader, int maxSessions) {
+        assert maxSessions > 0 : "Session cache should hold at least one user";
+
+        this.loader = loader;
+        this.maxSessions = maxSessions;
+    }
+
+    /**
+     * Executes the user input with the Duke instance of a user, loading it if the user is not loaded.
+     * Requests of different users run in parallel, and a user cannot be evicted while running a request.
+     *
+     * @param userId ID of the user.
+     * @param input User input.
+     * @return Response to the user input.
+     * @throws DukeException If the user ID is invalid, or the input is invalid or fails.
+     */
+    public String execute(String userId, String input) throws DukeException {
+        Session session = this.acquire(normalizeUserId(userId));
+
+        try {
+            return this.getDuke(session).execute(input);
+        } finally {
+            this.release(session);
+        }
+    }
+
+    /**
+     * Executes a parsed command with the Duke instance of a user, loading it if the user is not loaded.
+     *
+     * @param userId ID of the user.
+     * @param command Command to execute.
+     * @return Response of the command.
+     * @throws DukeException If the user ID is invalid, or the command fails.
+     */
+    public String execute(String userId, Command command) throws DukeException {
+        Session session = this.acquire(normalizeUserId(userId));
+
+        try {
+            return this.getDuke(session).execute(command);
+        } finally {
+            this.release(session);
+        }
+    }
+
+    /**
+     * Returns the number of users currently loaded.
+     */
+    public synchronized int size() {
+        return sessions.size();
+    }
+
+    /**
+     * Closes every loaded user, e.g. when the server stops.
+     */
+    public synchronized void closeAll() {
+        for (Session session : sessions.values()) {
+            close(session);
+        }
+
+        sessions.clear();
+    }
+
+    private static String normalizeUserId(String userId) throws DukeException {
+        String normalizedUserId = userId == null ? "" : userId.trim().toLowerCase();
+
+        if (!USER_ID_PATTERN.matcher(normalizedUserId).matches()) {
+            throw new DukeException("User IDs can only have letters, digits, \"-\" and \"_\", "
+                    + "and be at most 64 characters long.");
+        }
+
+        return normalizedUserId;
+    }
+
+    private Session acquire(String userId) {
+        Session session;
+        List<Session> evictedSessions;
+
+        synchronized (this) {
+            session = sessions.computeIfAbsent(userId, id -> {
+                Session newSession = new Session(id);
+                newSession.evictedSession = closingSessions.get(id);
+                return newSession;
+            });
+            session.activeRequests++;
+            evictedSessions = this.evictIdleSessions();
+        }
+
+        this.closeEvicted(evictedSessions);
+        return session;
+    }
+
+    private void release(Session session) {
+        List<Session> evictedSessions;
+
+        synchronized (this) {
+            session.activeRequests--;
+            evictedSessions = this.evictIdleSessions();
+        }
+
+        this.closeEvicted(evictedSessions);
+    }
+
+    /**
+     * Loads the Duke instance of the session if it is not loaded yet.
+     * Only the session is locked while loading, so other users are not held up by a slow load.
+     */
+    private Duke getDuke(Session session) {
+        synchronized (session) {
+            if (session.evictedSession != null) {
+                // The user was evicted moments ago, so the data it is still writing must be on disk before loading
+                close(session.evictedSession);
+                session.evictedSession = null;
+            }
+
+            if (session.duke == null) {
+                session.duke = loader.apply(session.userId);
+                Metrics.increment(Metrics.SESSIONS_LOADED, 1);
+            }
+
+            return session.duke;
+        }
+    }
+
+    /**
+     * Removes the least recently used sessions that have no active requests until the cache is within its bound.
+     * Sessions with active requests are skipped, so the cache can briefly hold more users while they are all busy.
+     * Must be called while holding the lock on this cache. The removed sessions are closed by
+     * {@link #closeEvicted(List)} once the lock is released, so other users are not held up while they are written.
+     *
+     * @return Sessions that were removed.
+     */
+    private List<Session> evictIdleSessions() {
+        List<Session> evictedSessions = new ArrayList<>();
+        Iterator<Map.Entry<String, Session>> iterator = sessions.entrySet().iterator();
+
+        while (sessions.size() > maxSessions && iterator.hasNext()) {
+            Session session = iterator.next().getValue();
+
+            if (session.activeRequests == 0) {
+                iterator.remove();
+                closingSessions.put(session.userId, session);
+                evictedSessions.add(session);
+                Metrics.increment(Metrics.SESSIONS_EVICTED, 1);
+            }
+        }
+
+        return evictedSessions;
+    }
+
+    /**
+     * Closes sessions removed by {@link #evictIdleSessions()}, without holding the lock on this cache.
+     * A new session of the same user closes the old one itself before loading, so it never reads stale data.
+     */
+    private void closeEvicted(List<Session> evictedSessions) {
+        for (Session session : evictedSessions) {
+            close(session);
+
+            synchronized (this) {
+                closingSessions.remove(session.userId, session);
+            }
+        }
+    }
+
+    private static void close(Session session) {
+        synchronized (session) {
+            if (session.duke == null) {
+                return;
+            }
+
+            try {
+                session.duke.close();
+            } catch (DukeException e) {
+                System.err.println("An error occured while closing a session: " + e.getMessage());
+            }
+
+            session.duke = null;
+        }
+    }
+}
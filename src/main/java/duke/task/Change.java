@@ -0,0 +1,183 @@
+package duke.task;
+
+import java.util.BitSet;
+import java.util.List;
+
+import duke.core.DukeException;
+import duke.task.TaskList.SortBy;
+
+/**
+ * Record of a change made to a task list that can be undone and redone.
+ * Each record only holds what the change touched, rather than a copy of the whole task list.
+ */
+public abstract class Change {
+    private String description;
+
+    private Change(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Reverts the change. The task list must be in the state right after the change was made.
+     *
+     * @param tasks Task list the change was made to.
+     * @throws DukeException If the change cannot be reverted.
+     */
+    public abstract void undo(TaskList tasks) throws DukeException;
+
+    /**
+     * Applies the change again. The task list must be in the state right before the change was made.
+     *
+     * @param tasks Task list the change was made to.
+     * @throws DukeException If the change cannot be applied.
+     */
+    public abstract void redo(TaskList tasks) throws DukeException;
+
+    /**
+     * Returns a short description of the change, e.g. "adding [T][ ] Feed my cat".
+     */
+    public String getDescription() {
+        return this.description;
+    }
+
+    /**
+     * Returns a record of a task being added.
+     *
+     * @param task Task that was added.
+     */
+    public static Change ofAdd(Task task) {
+        return new Change("adding " + task) {
+            @Override
+            public void undo(TaskList tasks) {
+                tasks.removeTasks(List.of(task));
+            }
+
+            @Override
+            public void redo(TaskList tasks) {
+                tasks.addTask(task);
+            }
+        };
+    }
+
+    /**
+     * Returns a record of tasks being imported from a file.
+     * The tasks are found by their positions, so the record only holds them while the import is undone.
+     *
+     * @param positions Positions of the imported tasks in the task list after they were added.
+     * @param fileName Name of the file the tasks were imported from.
+     */
+    public static Change ofImport(BitSet positions, String fileName) {
+        return new Change(String.format("importing %d tasks from %s", positions.cardinality(), fileName)) {
+            private List<Task> removedTasks;
+
+            @Override
+            public void undo(TaskList tasks) throws DukeException {
+                removedTasks = tasks.deleteTasks(positions);
+            }
+
+            @Override
+            public void redo(TaskList tasks) {
+                tasks.insertTasks(removedTasks, positions);
+                removedTasks = null;
+            }
+        };
+    }
+
+    /**
+     * Returns a record of tasks being deleted.
+     *
+     * @param deletedTasks Tasks that were deleted, in the order of their positions.
+     * @param positions Positions of the tasks before they were deleted.
+     */
+    public static Change ofDelete(List<Task> deletedTasks, BitSet positions) {
+        assert deletedTasks.size() == positions.cardinality() : "Every deleted task should have a position";
+
+        String description = deletedTasks.size() == 1
+                ? "deleting " + deletedTasks.get(0)
+                : String.format("deleting %d tasks", deletedTasks.size());
+
+        return new Change(description) {
+            @Override
+            public void undo(TaskList tasks) {
+                tasks.insertTasks(deletedTasks, positions);
+            }
+
+            @Override
+            public void redo(TaskList tasks) {
+                tasks.removeTasks(deletedTasks);
+            }
+        };
+    }
+
+    /**
+     * Returns a record of tasks being marked as done or not done.
+     * Marking replaces each task with a changed copy, so undoing puts the tasks back as they were, including the
+     * dates they were completed on, and redoing puts the copies back.
+     *
+     * @param previousTasks Tasks before their completion status was changed.
+     * @param changedTasks Copies with the new completion status that replaced them, in the same order.
+     * @param isCompleted Completion status the tasks were changed to.
+     */
+    public static Change ofMark(List<Task> previousTasks, List<Task> changedTasks, boolean isCompleted) {
+        assert previousTasks.size() == changedTasks.size() : "Every changed task should have a previous task";
+
+        String action = isCompleted ? "marking" : "unmarking";
+        String description = changedTasks.size() == 1
+                ? String.format("%s %s", action, changedTasks.get(0))
+                : String.format("%s %d tasks", action, changedTasks.size());
+
+        return new Change(description) {
+            @Override
+            public void undo(TaskList tasks) {
+                tasks.replaceTasks(changedTasks, previousTasks);
+            }
+
+            @Override
+            public void redo(TaskList tasks) {
+                tasks.replaceTasks(previousTasks, changedTasks);
+            }
+        };
+    }
+
+    /**
+     * Returns a record of the description or dates of a task being edited.
+     *
+     * @param previousTask Task before the edit.
+     * @param task Edited copy of the task that replaced it.
+     */
+    public static Change ofEdit(Task previousTask, Task task) {
+        return new Change("editing " + task) {
+            @Override
+            public void undo(TaskList tasks) {
+                tasks.replaceTasks(List.of(task), List.of(previousTask));
+            }
+
+            @Override
+            public void redo(TaskList tasks) {
+                tasks.replaceTasks(List.of(previousTask), List.of(task));
+            }
+        };
+    }
+
+    /**
+     * Returns a record of the task list being sorted.
+     * Sorting moves every task, so the previous order is kept as a whole.
+     *
+     * @param previousOrder Snapshot of the tasks before sorting.
+     * @param previousSortBy Sort type before sorting.
+     * @param sortBy Sort type that was applied.
+     */
+    public static Change ofSort(List<Task> previousOrder, SortBy previousSortBy, SortBy sortBy) {
+        return new Change("sorting by " + sortBy) {
+            @Override
+            public void undo(TaskList tasks) {
+                tasks.restoreOrder(previousOrder, previousSortBy);
+            }
+
+            @Override
+            public void redo(TaskList tasks) {
+                tasks.sort(sortBy);
+            }
+        };
+    }
+}
@@ -2,8 +2,10 @@ package duke.task;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAccessor;
+import java.util.Iterator;
+import java.util.function.BiFunction;
 
 /**
  * Class to represent a deadline task.
@@ -11,7 +13,7 @@ import java.time.temporal.TemporalAccessor;
 public class Deadline extends Task implements Comparable<Deadline> {
     private static final String SYMBOL = "D";
 
-    protected TemporalAccessor dueDatetime;
+    protected volatile TemporalAccessor dueDatetime;
 
     /**
      * Constructor for Deadline.
@@ -35,22 +37,47 @@ public class Deadline extends Task implements Comparable<Deadline> {
         this.dueDatetime = dueDatetime;
     }
 
+    public TemporalAccessor getDueDatetime() {
+        return this.dueDatetime;
+    }
+
+    @Override
+    public TaskDetails getDetails() {
+        return new TaskDetails(description, dueDatetime, null);
+    }
+
+    @Override
+    Task copy() {
+        return this.copyStateTo(new Deadline(description, dueDatetime, isCompleted));
+    }
+
+    @Override
+    void setDetails(TaskDetails details) {
+        super.setDetails(details);
+        this.dueDatetime = details.getDate1();
+    }
+
+    @Override
+    public Iterator<Task> getOccurrences(LocalDate earliest, LocalDate latest) {
+        Temporal due = (Temporal) this.dueDatetime;
+        BiFunction<Temporal, Temporal, Task> copier = (start, end) ->
+                this.copyLabelsTo(new Deadline(description, start, isCompleted));
+        return new OccurrenceIterator(this, due, due, copier, earliest, latest);
+    }
+
     @Override
-    public String getDataString() {
-        DateTimeFormatter parser = DateTimeFormatter.ofPattern("dd-MM-yyyy[ HHmm]");
-        return String.join(" | ",
-                Deadline.SYMBOL,
-                super.isCompleted ? "1" : "0",
-                super.getDescription(),
-                parser.format(this.dueDatetime));
+    public StringBuilder appendDataString(StringBuilder builder) {
+        super.appendDataPrefix(builder, Deadline.SYMBOL).append(" | ");
+        super.appendDataDateTime(builder, this.dueDatetime);
+        return super.appendDataMetadata(builder);
     }
 
     @Override
-    public String toString() {
-        return String.format("[%s]%s (by: %s)",
-                Deadline.SYMBOL,
-                super.toString(),
-                super.formatDateTime(this.dueDatetime));
+    public StringBuilder appendTo(StringBuilder builder) {
+        builder.append('[').append(Deadline.SYMBOL).append(']');
+        super.appendTo(builder).append(" (by: ");
+        super.appendDateTime(builder, this.dueDatetime).append(')');
+        return super.appendLabels(builder);
     }
 
     @Override
@@ -1,7 +1,10 @@
 package duke.task;
 
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDate;
+import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAccessor;
+import java.util.Iterator;
+import java.util.function.BiFunction;
 
 /**
  * Class to represent an event task.
@@ -9,8 +12,8 @@ import java.time.temporal.TemporalAccessor;
 public class Event extends Task {
     private static final String SYMBOL = "E";
 
-    protected TemporalAccessor startDatetime;
-    protected TemporalAccessor endDatetime;
+    protected volatile TemporalAccessor startDatetime;
+    protected volatile TemporalAccessor endDatetime;
 
     /**
      * Constructor for Event.
@@ -38,21 +41,53 @@ public class Event extends Task {
         this.endDatetime = endDatetime;
     }
 
+    public TemporalAccessor getStartDatetime() {
+        return this.startDatetime;
+    }
+
+    public TemporalAccessor getEndDatetime() {
+        return this.endDatetime;
+    }
+
+    @Override
+    public TaskDetails getDetails() {
+        return new TaskDetails(description, startDatetime, endDatetime);
+    }
+
+    @Override
+    Task copy() {
+        return this.copyStateTo(new Event(description, startDatetime, endDatetime, isCompleted));
+    }
+
+    @Override
+    void setDetails(TaskDetails details) {
+        super.setDetails(details);
+        this.startDatetime = details.getDate1();
+        this.endDatetime = details.getDate2();
+    }
+
+    @Override
+    public Iterator<Task> getOccurrences(LocalDate earliest, LocalDate latest) {
+        BiFunction<Temporal, Temporal, Task> copier = (start, end) ->
+                this.copyLabelsTo(new Event(description, start, end, isCompleted));
+        return new OccurrenceIterator(this, (Temporal) this.startDatetime, (Temporal) this.endDatetime, copier,
+                earliest, latest);
+    }
+
     @Override
-    public String getDataString() {
-        DateTimeFormatter parser = DateTimeFormatter.ofPattern("dd-MM-yyyy[ HHmm]");
-        return String.join(" | ",
-                Event.SYMBOL, super.isCompleted ? "1" : "0",
-                super.getDescription(),
-                parser.format(startDatetime),
-                parser.format(endDatetime));
+    public StringBuilder appendDataString(StringBuilder builder) {
+        super.appendDataPrefix(builder, Event.SYMBOL).append(" | ");
+        super.appendDataDateTime(builder, this.startDatetime).append(" | ");
+        super.appendDataDateTime(builder, this.endDatetime);
+        return super.appendDataMetadata(builder);
     }
 
     @Override
-    public String toString() {
-        return String.format("[%s]%s (%s - %s)",
-                Event.SYMBOL, super.toString(),
-                super.formatDateTime(this.startDatetime),
-                super.formatDateTime(this.endDatetime));
+    public StringBuilder appendTo(StringBuilder builder) {
+        builder.append('[').append(Event.SYMBOL).append(']');
+        super.appendTo(builder).append(" (");
+        super.appendDateTime(builder, this.startDatetime).append(" - ");
+        super.appendDateTime(builder, this.endDatetime).append(')');
+        return super.appendLabels(builder);
     }
 }
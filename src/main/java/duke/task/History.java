@@ -0,0 +1,85 @@
+package duke.task;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import duke.core.DukeException;
+
+/**
+ * Bounded history of changes made to a task list, used to undo and redo them.
+ */
+public class History {
+    private int capacity;
+    private Deque<Change> undoStack = new ArrayDeque<>();
+    private Deque<Change> redoStack = new ArrayDeque<>();
+
+    /**
+     * Constructor for History.
+     *
+     * @param capacity Maximum number of changes that can be undone. Older changes are forgotten.
+     */
+    public History(int capacity) {
+        assert capacity > 0 : "History capacity should be positive";
+        this.capacity = capacity;
+    }
+
+    /**
+     * Records a change that was just made. Changes that were undone can no longer be redone.
+     *
+     * @param change Change that was made.
+     */
+    public synchronized void record(Change change) {
+        if (undoStack.size() == capacity) {
+            undoStack.removeLast();
+        }
+
+        undoStack.push(change);
+        redoStack.clear();
+    }
+
+    /**
+     * Undoes the most recent change.
+     *
+     * @param tasks Task list the change was made to.
+     * @return Change that was undone, or null if there is nothing to undo.
+     * @throws DukeException If the change cannot be undone.
+     */
+    public synchronized Change undo(TaskList tasks) throws DukeException {
+        Change change = undoStack.poll();
+
+        if (change == null) {
+            return null;
+        }
+
+        change.undo(tasks);
+        redoStack.push(change);
+        return change;
+    }
+
+    /**
+     * Redoes the most recently undone change.
+     *
+     * @param tasks Task list the change was made to.
+     * @return Change that was redone, or null if there is nothing to redo.
+     * @throws DukeException If the change cannot be redone.
+     */
+    public synchronized Change redo(TaskList tasks) throws DukeException {
+        Change change = redoStack.poll();
+
+        if (change == null) {
+            return null;
+        }
+
+        change.redo(tasks);
+        undoStack.push(change);
+        return change;
+    }
+
+    /**
+     * Forgets all changes, e.g. after tasks leave the task list in a way that cannot be undone.
+     */
+    public synchronized void clear() {
+        undoStack.clear();
+        redoStack.clear();
+    }
+}
@@ -0,0 +1,195 @@
+package duke.task;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Immutable list of tasks backed by the contents of a data file.
+ * Only the position of each line is found up front. A task is decoded from its line the first time it is read,
+ * so opening a large file costs a scan for line breaks rather than parsing every task.
+ */
+public class LazyTaskList extends AbstractList<Task> implements RandomAccess {
+    private ByteBuffer data;
+    private int[] lineStarts;
+    private int[] lineEnds;
+    private AtomicReferenceArray<Task> decodedTasks;
+    private volatile boolean hasDecodingError;
+
+    /* Told about each task and its index once, by the thread that decodes it. Null if none. */
+    private volatile ObjIntConsumer<Task> decodeListener;
+
+    /**
+     * Constructor for LazyTaskList.
+     *
+     * @param data Contents of the data file in UTF-8, one task per line. Blank lines are skipped.
+     */
+    LazyTaskList(ByteBuffer data) {
+        this.data = data.duplicate();
+        this.indexLines();
+        this.decodedTasks = new AtomicReferenceArray<>(lineStarts.length);
+    }
+
+    private void indexLines() {
+        int capacity = 1024;
+        int[] starts = new int[capacity];
+        int[] ends = new int[capacity];
+        int lineCount = 0;
+        int lineStart = 0;
+        int limit = data.limit();
+
+        for (int i = 0; i <= limit; i++) {
+            if (i < limit && data.get(i) != '\n') {
+                continue;
+            }
+
+            // Lines written on Windows end with "\r\n"
+            int lineEnd = i > lineStart && data.get(i - 1) == '\r' ? i - 1 : i;
+
+            if (lineEnd > lineStart) {
+                if (lineCount == starts.length) {
+                    starts = Arrays.copyOf(starts, lineCount * 2);
+                    ends = Arrays.copyOf(ends, lineCount * 2);
+                }
+
+                starts[lineCount] = lineStart;
+                ends[lineCount] = lineEnd;
+                lineCount++;
+            }
+
+            lineStart = i + 1;
+        }
+
+        this.lineStarts = Arrays.copyOf(starts, lineCount);
+        this.lineEnds = Arrays.copyOf(ends, lineCount);
+    }
+
+    @Override
+    public int size() {
+        return lineStarts.length;
+    }
+
+    /**
+     * Returns the task at the given index, decoding it if it has not been read before.
+     * Every call returns the same task object for an index, even when called from multiple threads.
+     */
+    @Override
+    public Task get(int index) {
+        Task task = decodedTasks.get(index);
+
+        if (task != null) {
+            return task;
+        }
+
+        Task newTask = this.decode(index);
+        Task existingTask = decodedTasks.compareAndExchange(index, null, newTask);
+
+        if (existingTask != null) {
+            return existingTask;
+        }
+
+        ObjIntConsumer<Task> listener = this.decodeListener;
+
+        if (listener != null) {
+            listener.accept(newTask, index);
+        }
+
+        return newTask;
+    }
+
+    /**
+     * Returns the task at the given index if it has been decoded, or null if it has not been read yet.
+     */
+    Task getIfDecoded(int index) {
+        return decodedTasks.get(index);
+    }
+
+    /**
+     * Sets the listener to tell about each task and its index the first time it is decoded.
+     *
+     * @param decodeListener Listener of decoded tasks, or null to stop telling the current listener.
+     */
+    void setDecodeListener(ObjIntConsumer<Task> decodeListener) {
+        this.decodeListener = decodeListener;
+    }
+
+    /**
+     * Calls the action with each task decoded so far, without decoding any other task.
+     *
+     * @param action Action to call with each decoded task.
+     */
+    void forEachDecoded(Consumer<Task> action) {
+        for (int i = 0; i < decodedTasks.length(); i++) {
+            Task task = decodedTasks.get(i);
+
+            if (task != null) {
+                action.accept(task);
+            }
+        }
+    }
+
+    /**
+     * Appends the data file representation of the task at the given index.
+     * A task that has not been decoded is unchanged since it was loaded, so its line is copied as it is.
+     *
+     * @param index Index of the task.
+     * @param builder Builder to append to.
+     * @return The builder.
+     */
+    public StringBuilder appendDataString(int index, StringBuilder builder) {
+        Task task = decodedTasks.get(index);
+
+        if (task != null) {
+            return task.appendDataString(builder);
+        }
+
+        int startLength = builder.length();
+
+        for (int i = lineStarts[index]; i < lineEnds[index]; i++) {
+            byte b = data.get(i);
+
+            if (b < 0) {
+                // Not ASCII, so the line needs a proper UTF-8 decode
+                builder.setLength(startLength);
+                return builder.append(this.readLine(index));
+            }
+
+            builder.append((char) b);
+        }
+
+        return builder;
+    }
+
+    /**
+     * Returns whether any line read so far could not be decoded into a task.
+     */
+    boolean hasDecodingError() {
+        return this.hasDecodingError;
+    }
+
+    /**
+     * Decodes the line at the given index the same way as a data file that is loaded at once.
+     */
+    private Task decode(int index) {
+        Task task = TaskList.decodeTask(this.readLine(index));
+
+        if (task instanceof UnreadableTodo) {
+            this.hasDecodingError = true;
+        }
+
+        return task;
+    }
+
+    private String readLine(int index) {
+        byte[] bytes = new byte[lineEnds[index] - lineStarts[index]];
+        ByteBuffer line = data.duplicate();
+        line.position(lineStarts[index]);
+        line.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,102 @@
+package duke.task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+
+/**
+ * Iterator over the occurrences of a deadline or event that take place in a range of dates.
+ * Occurrences are worked out one at a time as the iterator is advanced, starting from the first one that can be in
+ * the range, so only the occurrences that are asked for are created.
+ */
+class OccurrenceIterator implements Iterator<Task> {
+    private Task task;
+    private Temporal first;
+    private Recurrence recurrence;
+    private BiFunction<Temporal, Temporal, Task> copier;
+    private LocalDate earliest;
+    private LocalDate latest;
+
+    /* Length of each occurrence, in days for dates or minutes for dates with times. */
+    private ChronoUnit unit;
+    private long length;
+
+    private long number;
+    private Task next;
+    private boolean isDone;
+
+    /**
+     * Constructor for OccurrenceIterator.
+     *
+     * @param task Task the occurrences are of. Returned itself if it does not repeat.
+     * @param start Start of the first occurrence.
+     * @param end End of the first occurrence.
+     * @param copier Creates an occurrence from its start and end.
+     * @param earliest Earliest date an occurrence may end on, or null for no limit.
+     * @param latest Latest date an occurrence may start on, or null for no limit.
+     */
+    OccurrenceIterator(Task task, Temporal start, Temporal end, BiFunction<Temporal, Temporal, Task> copier,
+            LocalDate earliest, LocalDate latest) {
+        this.task = task;
+        this.first = start;
+        this.recurrence = task.getRecurrence();
+        this.copier = copier;
+        this.earliest = earliest;
+        this.latest = latest;
+        this.unit = start instanceof LocalDateTime ? ChronoUnit.MINUTES : ChronoUnit.DAYS;
+        this.length = start.until(end, unit);
+
+        if (recurrence != null && earliest != null) {
+            // Occurrences that start more than their length before the range cannot reach into it
+            LocalDate firstDate = LocalDate.from(start);
+            long lengthInDays = ChronoUnit.DAYS.between(firstDate, LocalDate.from(end));
+            this.number = recurrence.skipTo(firstDate, earliest.minusDays(lengthInDays + 1));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !isDone) {
+            next = this.findNext();
+            isDone = next == null;
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public Task next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        Task occurrence = next;
+        next = null;
+        return occurrence;
+    }
+
+    private Task findNext() {
+        while (recurrence != null || number == 0) {
+            Temporal start = recurrence == null ? first : recurrence.getOccurrence(first, number);
+            LocalDate startDate = LocalDate.from(start);
+
+            if ((latest != null && startDate.isAfter(latest))
+                    || (recurrence != null && recurrence.hasEndedBefore(startDate))) {
+                return null;
+            }
+
+            number++;
+            Temporal end = start.plus(length, unit);
+
+            if (earliest == null || !LocalDate.from(end).isBefore(earliest)) {
+                return recurrence == null ? task : copier.apply(start, end);
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,117 @@
+package duke.task;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+
+/**
+ * Rule for a deadline or event that repeats every few weeks or months, optionally until a date.
+ * Only the rule is stored with the task. Its occurrences are worked out from the first one when they are needed,
+ * so a task that repeats forever takes no more space than one that does not.
+ */
+public class Recurrence {
+    private static final DateTimeFormatter DISPLAY_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd LLL yyyy");
+
+    private Frequency frequency;
+    private int interval;
+    private LocalDate until;
+
+    /** Enum to represent how often a task repeats. */
+    public enum Frequency {
+        WEEKLY(ChronoUnit.WEEKS),
+        MONTHLY(ChronoUnit.MONTHS);
+
+        private ChronoUnit unit;
+
+        private Frequency(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        @Override
+        public String toString() {
+            return this.name().toLowerCase();
+        }
+    }
+
+    /**
+     * Constructor for Recurrence.
+     *
+     * @param frequency How often the task repeats.
+     * @param interval Number of weeks or months between occurrences. Must be at least 1.
+     * @param until Date after which there are no more occurrences, or null to repeat forever.
+     */
+    public Recurrence(Frequency frequency, int interval, LocalDate until) {
+        assert interval >= 1 : "Interval should be at least 1";
+
+        this.frequency = frequency;
+        this.interval = interval;
+        this.until = until;
+    }
+
+    public Frequency getFrequency() {
+        return this.frequency;
+    }
+
+    public int getInterval() {
+        return this.interval;
+    }
+
+    public LocalDate getUntil() {
+        return this.until;
+    }
+
+    /**
+     * Returns the date (and time) of an occurrence.
+     * Each occurrence is counted from the first rather than from the one before, so a task on the 31st of a month
+     * moves to the last day of shorter months and goes back to the 31st after them.
+     *
+     * @param first Date (and time) of the first occurrence.
+     * @param number Number of the occurrence, from 0 for the first.
+     * @return Date (and time) of the occurrence, of the same type as the first.
+     */
+    Temporal getOccurrence(Temporal first, long number) {
+        return first.plus(number * interval, frequency.unit);
+    }
+
+    /**
+     * Returns the number of an occurrence that is no later than the first occurrence on or after the date.
+     * Occurrences before it all start before the date, so they can be skipped without working each of them out.
+     *
+     * @param first Date of the first occurrence.
+     * @param date Date to skip to.
+     */
+    long skipTo(LocalDate first, LocalDate date) {
+        return Math.max(0, Math.floorDiv(frequency.unit.between(first, date), interval) - 1);
+    }
+
+    /**
+     * Returns whether the rule has no occurrences on the date because it ended before it.
+     */
+    boolean hasEndedBefore(LocalDate date) {
+        return until != null && date.isAfter(until);
+    }
+
+    /**
+     * Appends the rule shown to the user, e.g. " (every 2 weeks until 01 Jun 2024)".
+     *
+     * @param builder Builder to append to.
+     * @return The builder.
+     */
+    public StringBuilder appendTo(StringBuilder builder) {
+        String unitName = frequency == Frequency.WEEKLY ? "week" : "month";
+        builder.append(" (every ");
+
+        if (interval == 1) {
+            builder.append(unitName);
+        } else {
+            builder.append(interval).append(' ').append(unitName).append('s');
+        }
+
+        if (until != null) {
+            DISPLAY_DATE_FORMATTER.formatTo(until, builder.append(" until "));
+        }
+
+        return builder.append(')');
+    }
+}
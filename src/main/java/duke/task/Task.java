@@ -4,19 +4,50 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * Abstract class to represent a task.
  */
 public abstract class Task {
-    protected String description;
-    protected boolean isCompleted;
+    /* Formatters are immutable and thread-safe, so they are shared rather than built for every task. */
+    private static final DateTimeFormatter DATA_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy[ HHmm]");
+    private static final DateTimeFormatter DISPLAY_DATE_TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("dd LLL yyyy, KK:mma");
+    private static final DateTimeFormatter DISPLAY_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd LLL yyyy");
+
+    /* Volatile like the dates of deadlines and events, as an edit changes them in place while others read. */
+    protected volatile String description;
+    protected volatile boolean isCompleted;
+
+    /* Date the task was marked as done, or null if it is not done or the date is not known. */
+    protected volatile LocalDate completedDate;
+
+    /* Tags of the task in lowercase, in the order they were given. Immutable. */
+    protected List<String> tags = List.of();
+
+    protected Priority priority = Priority.NONE;
+
+    /* Rule the task repeats by, or null if it does not repeat. Only deadlines and events repeat. */
+    protected Recurrence recurrence;
 
     /** Enum to represent the type of task to be added. */
     public enum TaskType {
         TODO, DEADLINE, EVENT
     }
 
+    /** Enum to represent the priority of a task, from the most urgent. */
+    public enum Priority {
+        HIGH, MEDIUM, LOW, NONE;
+
+        @Override
+        public String toString() {
+            return this.name().toLowerCase();
+        }
+    }
+
     /**
      * Constructor for Task.
      *
@@ -29,28 +60,274 @@ public abstract class Task {
     }
 
     /** Returns a string representation of the task to be stored in the data file. */
-    public abstract String getDataString();
+    public String getDataString() {
+        return this.appendDataString(new StringBuilder()).toString();
+    }
+
+    /**
+     * Appends the representation of the task to be stored in the data file.
+     *
+     * @param builder Builder to append to.
+     * @return The builder.
+     */
+    public abstract StringBuilder appendDataString(StringBuilder builder);
+
+    /**
+     * Appends the fields shared by all types of task to the data file representation.
+     */
+    protected StringBuilder appendDataPrefix(StringBuilder builder, String symbol) {
+        return builder.append(symbol).append(" | ").append(isCompleted ? '1' : '0').append(" | ").append(description);
+    }
+
+    /**
+     * Appends the optional "key=value" fields that follow the dates in the data file representation.
+     */
+    protected StringBuilder appendDataMetadata(StringBuilder builder) {
+        LocalDate currentCompletedDate = this.completedDate;
+
+        if (this.isCompleted && currentCompletedDate != null) {
+            this.appendDataDateTime(builder.append(" | done="), currentCompletedDate);
+        }
+
+        if (priority != Priority.NONE) {
+            builder.append(" | priority=").append(priority);
+        }
+
+        Recurrence currentRecurrence = this.recurrence;
+
+        if (currentRecurrence != null) {
+            builder.append(" | repeat=").append(currentRecurrence.getFrequency());
+
+            if (currentRecurrence.getInterval() != 1) {
+                builder.append(" | every=").append(currentRecurrence.getInterval());
+            }
+
+            if (currentRecurrence.getUntil() != null) {
+                this.appendDataDateTime(builder.append(" | until="), currentRecurrence.getUntil());
+            }
+        }
+
+        if (!tags.isEmpty()) {
+            builder.append(" | tags=");
+
+            for (int i = 0; i < tags.size(); i++) {
+                builder.append(i == 0 ? "" : ",").append(tags.get(i));
+            }
+        }
+
+        return builder;
+    }
+
+    /**
+     * Appends a date (and time) in the data file format "dd-MM-yyyy[ HHmm]".
+     * The fields are appended directly, since formatting with a DateTimeFormatter allocates on every call.
+     */
+    protected StringBuilder appendDataDateTime(StringBuilder builder, TemporalAccessor temporalAccessor) {
+        LocalDate date = temporalAccessor instanceof LocalDateTime
+                ? ((LocalDateTime) temporalAccessor).toLocalDate()
+                : (LocalDate) temporalAccessor;
+
+        if (date.getYear() < 1000 || date.getYear() > 9999) {
+            DATA_FORMATTER.formatTo(temporalAccessor, builder);
+            return builder;
+        }
+
+        appendTwoDigits(builder, date.getDayOfMonth()).append('-');
+        appendTwoDigits(builder, date.getMonthValue()).append('-').append(date.getYear());
+
+        if (temporalAccessor instanceof LocalDateTime) {
+            LocalDateTime dateTime = (LocalDateTime) temporalAccessor;
+            appendTwoDigits(builder.append(' '), dateTime.getHour());
+            appendTwoDigits(builder, dateTime.getMinute());
+        }
+
+        return builder;
+    }
+
+    private static StringBuilder appendTwoDigits(StringBuilder builder, int value) {
+        return builder.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    /**
+     * Appends the representation of the task shown to the user.
+     *
+     * @param builder Builder to append to.
+     * @return The builder.
+     */
+    public StringBuilder appendTo(StringBuilder builder) {
+        return builder.append('[').append(this.getStatusIcon()).append("] ").append(this.getDescription());
+    }
+
+    /**
+     * Appends the recurrence, priority and tags of the task shown to the user, e.g.
+     * " (every week) !high #urgent #work".
+     */
+    protected StringBuilder appendLabels(StringBuilder builder) {
+        Recurrence currentRecurrence = this.recurrence;
+
+        if (currentRecurrence != null) {
+            currentRecurrence.appendTo(builder);
+        }
+
+        if (priority != Priority.NONE) {
+            builder.append(" !").append(priority);
+        }
+
+        for (String tag : tags) {
+            builder.append(" #").append(tag);
+        }
+
+        return builder;
+    }
+
+    public boolean isCompleted() {
+        return this.isCompleted;
+    }
+
+    public LocalDate getCompletedDate() {
+        return this.completedDate;
+    }
+
+    /**
+     * Sets the date the task was marked as done, e.g. when loading it from the data file.
+     * Ignored if the task is not done.
+     *
+     * @param completedDate Date the task was marked as done.
+     * @return The task itself.
+     */
+    public Task setCompletedDate(LocalDate completedDate) {
+        if (this.isCompleted) {
+            this.completedDate = completedDate;
+        }
+
+        return this;
+    }
+
+    public List<String> getTags() {
+        return this.tags;
+    }
+
+    /**
+     * Sets the tags of the task, e.g. when adding or loading it.
+     *
+     * @param tags Tags in lowercase, without duplicates.
+     * @return The task itself.
+     */
+    public Task setTags(List<String> tags) {
+        this.tags = List.copyOf(tags);
+        return this;
+    }
+
+    public Priority getPriority() {
+        return this.priority;
+    }
+
+    /**
+     * Sets the priority of the task, e.g. when adding or loading it.
+     *
+     * @param priority Priority of the task.
+     * @return The task itself.
+     */
+    public Task setPriority(Priority priority) {
+        this.priority = priority;
+        return this;
+    }
+
+    public Recurrence getRecurrence() {
+        return this.recurrence;
+    }
+
+    /**
+     * Sets the rule the task repeats by, e.g. when adding or loading it.
+     *
+     * @param recurrence Rule the task repeats by, or null if it does not repeat.
+     * @return The task itself.
+     */
+    public Task setRecurrence(Recurrence recurrence) {
+        this.recurrence = recurrence;
+        return this;
+    }
+
+    /**
+     * Returns the description and dates of the task, which are the parts that can be edited.
+     */
+    public TaskDetails getDetails() {
+        return new TaskDetails(description, null, null);
+    }
+
+    /**
+     * Returns a copy of the task with the same details, completion and labels.
+     * A task in a task list is never changed in place. The task list changes a copy instead and puts it in the
+     * place of the task, so that readers of a snapshot never see a task half changed.
+     */
+    abstract Task copy();
+
+    /**
+     * Copies the completion date, labels and recurrence of the task to a copy of it.
+     */
+    protected Task copyStateTo(Task copy) {
+        copy.recurrence = this.recurrence;
+        return this.copyLabelsTo(copy);
+    }
+
+    /**
+     * Changes the description and dates of the task in place. Only called by the task list on a copy of a task
+     * that is not in the task list yet.
+     *
+     * @param details New description and dates, which must suit the type of the task.
+     */
+    void setDetails(TaskDetails details) {
+        this.description = details.getDescription();
+    }
+
+    /**
+     * Returns the occurrences of the task that take place in a range of dates, in order.
+     * A task that does not repeat is its own only occurrence. Each occurrence of a repeating task is a copy with
+     * the dates of that occurrence, created only when the iterator reaches it. Tasks without dates have none.
+     *
+     * @param earliest Earliest date an occurrence may end on, or null for no limit.
+     * @param latest Latest date an occurrence may start on, or null for no limit.
+     * @return Iterator over the occurrences.
+     */
+    public Iterator<Task> getOccurrences(LocalDate earliest, LocalDate latest) {
+        return Collections.emptyIterator();
+    }
+
+    /**
+     * Copies the completion date, priority and tags of the task to an occurrence of it.
+     */
+    protected Task copyLabelsTo(Task occurrence) {
+        occurrence.completedDate = this.completedDate;
+        return occurrence.setTags(tags).setPriority(priority);
+    }
+
+    /**
+     * Returns whether the task was marked as done on or before the given date.
+     * Tasks that are done without a known completion date are never considered done before a date.
+     *
+     * @param date Latest completion date to accept.
+     */
+    public boolean isCompletedOnOrBefore(LocalDate date) {
+        LocalDate currentCompletedDate = this.completedDate;
+        return this.isCompleted && currentCompletedDate != null && !currentCompletedDate.isAfter(date);
+    }
 
     protected String getStatusIcon() {
         return (isCompleted ? "X" : " ");
     }
 
-    protected String getDescription() {
+    public String getDescription() {
         return this.description;
     }
 
-    protected String formatDateTime(TemporalAccessor temporalAccessor) {
+    protected StringBuilder appendDateTime(StringBuilder builder, TemporalAccessor temporalAccessor) {
         if (temporalAccessor instanceof LocalDateTime) {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd LLL yyyy, KK:mma");
-            return formatter.format(temporalAccessor);
-        }
-
-        if (temporalAccessor instanceof LocalDate) {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd LLL yyyy");
-            return formatter.format(temporalAccessor);
+            DISPLAY_DATE_TIME_FORMATTER.formatTo(temporalAccessor, builder);
+        } else if (temporalAccessor instanceof LocalDate) {
+            DISPLAY_DATE_FORMATTER.formatTo(temporalAccessor, builder);
         }
 
-        return "";
+        return builder;
     }
 
     /**
@@ -59,6 +336,10 @@ public abstract class Task {
      * @return The task itself.
      */
     public Task markAsDone() {
+        if (!this.isCompleted) {
+            this.completedDate = LocalDate.now();
+        }
+
         this.isCompleted = true;
         return this;
     }
@@ -69,13 +350,14 @@ public abstract class Task {
      * @return The task itself.
      */
     public Task markAsUndone() {
+        this.completedDate = null;
         this.isCompleted = false;
         return this;
     }
 
     @Override
     public String toString() {
-        return String.format("[%s] %s", this.getStatusIcon(), this.getDescription());
+        return this.appendTo(new StringBuilder()).toString();
     }
 
     /**
@@ -126,29 +408,22 @@ public abstract class Task {
 
     /**
      * Compares two tasks by their date.
+     * Deadlines come first in order of their due dates, followed by all other tasks.
      */
     public static int compareByDate(Task task1, Task task2) {
-        if (task1 instanceof Todo && task2 instanceof Todo) {
-            return 0;
-        }
+        boolean isDeadline1 = task1 instanceof Deadline;
+        boolean isDeadline2 = task2 instanceof Deadline;
 
-        if (task1 instanceof Event && task2 instanceof Event) {
-            return 0;
+        if (isDeadline1 && isDeadline2) {
+            return ((Deadline) task1).compareTo((Deadline) task2);
         }
 
-        if (task1 instanceof Todo || task1 instanceof Event) {
+        if (isDeadline1) {
             return -1;
         }
 
-        if (task2 instanceof Todo || task2 instanceof Event) {
-            return -1;
-        }
-
-        if (task1 instanceof Deadline && task2 instanceof Deadline) {
-            Deadline deadline1 = (Deadline) task1;
-            Deadline deadline2 = (Deadline) task2;
-
-            return deadline1.compareTo(deadline2);
+        if (isDeadline2) {
+            return 1;
         }
 
         return 0;
@@ -0,0 +1,157 @@
+package duke.task;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import duke.task.Task.TaskType;
+
+/**
+ * Counts of the tasks of a task list by type and completion, and the dates of the open deadlines and events.
+ * The counts are changed as each task is added, changed or removed, so a summary does not look at the tasks.
+ */
+class TaskCounter {
+    private int[] counts = new int[TaskType.values().length];
+    private int[] completedCounts = new int[TaskType.values().length];
+    private DateCounts openDueDates = new DateCounts();
+    private DateCounts openEventStarts = new DateCounts();
+    private DateCounts openEventEnds = new DateCounts();
+
+    /* How each task was counted, so that its old counts can be taken back when it changes. Matched by identity. */
+    private Map<Task, Entry> entries = new IdentityHashMap<>();
+
+    /**
+     * Type, completion and dates of a task when it was counted.
+     */
+    private static class Entry {
+        private TaskType taskType;
+        private boolean isCompleted;
+        private LocalDate startDate;
+        private LocalDate endDate;
+
+        private Entry(Task task) {
+            this.isCompleted = task.isCompleted();
+
+            if (task instanceof Deadline) {
+                this.taskType = TaskType.DEADLINE;
+                this.startDate = LocalDate.from(((Deadline) task).getDueDatetime());
+                this.endDate = startDate;
+            } else if (task instanceof Event) {
+                this.taskType = TaskType.EVENT;
+                this.startDate = LocalDate.from(((Event) task).getStartDatetime());
+                this.endDate = LocalDate.from(((Event) task).getEndDatetime());
+            } else {
+                this.taskType = TaskType.TODO;
+            }
+        }
+    }
+
+    /**
+     * Number of tasks on each date, with a running count of the tasks before a cut-off date.
+     * As the cut-off only moves forward as days pass, each date is added to the running count once, so counting the
+     * tasks before today takes amortized constant time.
+     */
+    private static class DateCounts {
+        private TreeMap<LocalDate, Integer> counts = new TreeMap<>();
+        private LocalDate cutoff;
+        private int countBeforeCutoff;
+
+        private void add(LocalDate date, int delta) {
+            counts.merge(date, delta, (count1, count2) -> count1 + count2 == 0 ? null : count1 + count2);
+
+            if (cutoff != null && date.isBefore(cutoff)) {
+                countBeforeCutoff += delta;
+            }
+        }
+
+        private int countBefore(LocalDate date) {
+            if (cutoff == null || date.isBefore(cutoff)) {
+                // Only happens on first use or if the clock is turned back
+                countBeforeCutoff = sum(counts.headMap(date));
+            } else {
+                countBeforeCutoff += sum(counts.subMap(cutoff, date));
+            }
+
+            cutoff = date;
+            return countBeforeCutoff;
+        }
+
+        private static int sum(Map<LocalDate, Integer> counts) {
+            int sum = 0;
+
+            for (int count : counts.values()) {
+                sum += count;
+            }
+
+            return sum;
+        }
+    }
+
+    /**
+     * Constructor for TaskCounter.
+     *
+     * @param tasks Tasks to count.
+     */
+    TaskCounter(List<Task> tasks) {
+        for (Task task : tasks) {
+            this.update(task);
+        }
+    }
+
+    /**
+     * Counts the task again after it is added or changed.
+     */
+    void update(Task task) {
+        Entry entry = new Entry(task);
+        this.count(entries.put(task, entry), -1);
+        this.count(entry, 1);
+    }
+
+    /**
+     * Stops counting the task after it is removed.
+     */
+    void remove(Task task) {
+        this.count(entries.remove(task), -1);
+    }
+
+    /**
+     * Returns a summary of the counts.
+     *
+     * @param today Date that deadlines before it are overdue, and whose week is the current week.
+     * @return Summary of the tasks.
+     */
+    TaskSummary summarize(LocalDate today) {
+        LocalDate startOfWeek = today.with(DayOfWeek.MONDAY);
+        LocalDate endOfWeek = startOfWeek.plusDays(7);
+
+        // Events that start before the week ends, less those that also ended before it started
+        int eventsThisWeekCount = openEventStarts.countBefore(endOfWeek) - openEventEnds.countBefore(startOfWeek);
+
+        return new TaskSummary(counts.clone(), completedCounts.clone(), openDueDates.countBefore(today),
+                eventsThisWeekCount);
+    }
+
+    private void count(Entry entry, int delta) {
+        if (entry == null) {
+            return;
+        }
+
+        int ordinal = entry.taskType.ordinal();
+        counts[ordinal] += delta;
+
+        if (entry.isCompleted) {
+            completedCounts[ordinal] += delta;
+            return;
+        }
+
+        if (entry.taskType == TaskType.DEADLINE) {
+            openDueDates.add(entry.startDate, delta);
+        } else if (entry.taskType == TaskType.EVENT) {
+            openEventStarts.add(entry.startDate, delta);
+            openEventEnds.add(entry.endDate, delta);
+        }
+    }
+}
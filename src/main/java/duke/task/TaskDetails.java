@@ -0,0 +1,39 @@
+package duke.task;
+
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * Description and dates of a task, which are the parts of a task that can be edited.
+ * The first date is the due date of a deadline or the start date of an event, and the second date is the end date
+ * of an event. Dates a task does not have are null.
+ */
+public class TaskDetails {
+    private final String description;
+    private final TemporalAccessor date1;
+    private final TemporalAccessor date2;
+
+    /**
+     * Constructor for TaskDetails.
+     *
+     * @param description Description of the task.
+     * @param date1 Due date (and time) of a deadline or start date (and time) of an event, or null for a todo.
+     * @param date2 End date (and time) of an event, or null for other tasks.
+     */
+    public TaskDetails(String description, TemporalAccessor date1, TemporalAccessor date2) {
+        this.description = description;
+        this.date1 = date1;
+        this.date2 = date2;
+    }
+
+    public String getDescription() {
+        return this.description;
+    }
+
+    public TemporalAccessor getDate1() {
+        return this.date1;
+    }
+
+    public TemporalAccessor getDate2() {
+        return this.date2;
+    }
+}
@@ -0,0 +1,186 @@
+package duke.task;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Indexed binary min-heap of the open tasks of a task list, ordered by how urgent they are.
+ * The heap position of every task is kept in a map, so a task can be removed or moved in O(log n) when it is
+ * deleted or marked, without searching the heap.
+ */
+class TaskHeap {
+    private List<Entry> heap = new ArrayList<>();
+
+    /* Position of each task in the heap. Tasks are matched by identity, as equal copies are different tasks. */
+    private Map<Task, Integer> positions = new IdentityHashMap<>();
+
+    /* Breaks ties between equally urgent tasks in the order they were added. */
+    private long nextSequence;
+
+    /**
+     * Task in the heap, with the order it was added in.
+     */
+    private static class Entry {
+        private Task task;
+        private long sequence;
+
+        private Entry(Task task, long sequence) {
+            this.task = task;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * Constructor for TaskHeap.
+     *
+     * @param tasks Tasks to add, in their current order. Only open tasks are kept.
+     */
+    TaskHeap(List<Task> tasks) {
+        for (Task task : tasks) {
+            this.update(task);
+        }
+    }
+
+    int size() {
+        return heap.size();
+    }
+
+    /**
+     * Adds the task if it is open, or removes it if it is done, e.g. after it is added or marked.
+     */
+    void update(Task task) {
+        Integer position = positions.get(task);
+
+        if (task.isCompleted()) {
+            if (position != null) {
+                this.removeAt(position);
+            }
+
+            return;
+        }
+
+        if (position != null) {
+            // The urgency of the task may have changed
+            this.siftDown(this.siftUp(position));
+            return;
+        }
+
+        heap.add(new Entry(task, nextSequence++));
+        positions.put(task, heap.size() - 1);
+        this.siftUp(heap.size() - 1);
+    }
+
+    /**
+     * Removes the task if it is in the heap, e.g. after it is deleted.
+     */
+    void remove(Task task) {
+        Integer position = positions.get(task);
+
+        if (position != null) {
+            this.removeAt(position);
+        }
+    }
+
+    /**
+     * Returns the most urgent tasks without removing them.
+     * Only the part of the heap above the returned tasks is visited, so this takes O(k log k) for k tasks.
+     *
+     * @param count Maximum number of tasks to return.
+     * @return Tasks from the most urgent.
+     */
+    List<Task> peek(int count) {
+        List<Task> mostUrgent = new ArrayList<>(Math.min(count, heap.size()));
+        PriorityQueue<Integer> candidates = new PriorityQueue<>(Comparator.comparing(heap::get, TaskHeap::compare));
+
+        if (!heap.isEmpty()) {
+            candidates.add(0);
+        }
+
+        while (mostUrgent.size() < count && !candidates.isEmpty()) {
+            int position = candidates.poll();
+            mostUrgent.add(heap.get(position).task);
+
+            // The children of a task are the only tasks that can be next
+            for (int child = 2 * position + 1; child <= 2 * position + 2 && child < heap.size(); child++) {
+                candidates.add(child);
+            }
+        }
+
+        return mostUrgent;
+    }
+
+    /**
+     * Compares tasks by priority, then deadlines by due date before other tasks, then by the order they were added.
+     */
+    private static int compare(Entry entry1, Entry entry2) {
+        int result = entry1.task.getPriority().compareTo(entry2.task.getPriority());
+
+        if (result == 0) {
+            result = Task.compareByDate(entry1.task, entry2.task);
+        }
+
+        return result != 0 ? result : Long.compare(entry1.sequence, entry2.sequence);
+    }
+
+    private void removeAt(int position) {
+        Entry removed = heap.get(position);
+        Entry last = heap.remove(heap.size() - 1);
+        positions.remove(removed.task);
+
+        if (position < heap.size()) {
+            this.set(position, last);
+            this.siftDown(this.siftUp(position));
+        }
+    }
+
+    /**
+     * Moves the entry at the position up until its parent is more urgent, and returns its new position.
+     */
+    private int siftUp(int position) {
+        Entry entry = heap.get(position);
+
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+
+            if (compare(heap.get(parent), entry) <= 0) {
+                break;
+            }
+
+            this.set(position, heap.get(parent));
+            position = parent;
+        }
+
+        this.set(position, entry);
+        return position;
+    }
+
+    private void siftDown(int position) {
+        Entry entry = heap.get(position);
+
+        while (2 * position + 1 < heap.size()) {
+            int child = 2 * position + 1;
+
+            if (child + 1 < heap.size() && compare(heap.get(child + 1), heap.get(child)) < 0) {
+                child++;
+            }
+
+            if (compare(entry, heap.get(child)) <= 0) {
+                break;
+            }
+
+            this.set(position, heap.get(child));
+            position = child;
+        }
+
+        this.set(position, entry);
+    }
+
+    private void set(int position, Entry entry) {
+        heap.set(position, entry);
+        positions.put(entry.task, position);
+    }
+}
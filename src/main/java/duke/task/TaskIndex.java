@@ -0,0 +1,106 @@
+package duke.task;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bitsets over the positions of the tasks in a task list, one per tag and one for completed tasks.
+ * Filters on tags and completion are answered by combining bitsets rather than scanning the tasks.
+ * Positions refer to one order of the tasks, so the index must be rebuilt when tasks are removed or reordered.
+ */
+public class TaskIndex {
+    private Map<String, BitSet> tagBitSets = new HashMap<>();
+    private BitSet completedBitSet = new BitSet();
+
+    /**
+     * Constructor for TaskIndex.
+     *
+     * @param tasks Tasks to index, in their current order.
+     */
+    TaskIndex(List<Task> tasks) {
+        for (int i = 0; i < tasks.size(); i++) {
+            this.add(i, tasks.get(i));
+        }
+    }
+
+    /**
+     * Indexes a task at the given position, which must not be indexed yet.
+     */
+    void add(int position, Task task) {
+        for (String tag : task.getTags()) {
+            tagBitSets.computeIfAbsent(tag, key -> new BitSet()).set(position);
+        }
+
+        completedBitSet.set(position, task.isCompleted());
+    }
+
+    void setCompleted(int position, boolean isCompleted) {
+        completedBitSet.set(position, isCompleted);
+    }
+
+    /**
+     * Returns the positions of the tasks that have all of the required tags, none of the excluded tags and,
+     * if requested, are not done.
+     *
+     * @param requiredTags Tags that every task must have. Must not be empty.
+     * @param excludedTags Tags that no task may have.
+     * @param isOnlyUndone Whether tasks that are done are left out.
+     * @return New bitset of the matching positions.
+     */
+    BitSet find(List<String> requiredTags, List<String> excludedTags, boolean isOnlyUndone) {
+        assert !requiredTags.isEmpty() : "At least one tag should be required";
+
+        BitSet result = (BitSet) this.getTagBitSet(requiredTags.get(0)).clone();
+
+        for (int i = 1; i < requiredTags.size() && !result.isEmpty(); i++) {
+            result.and(this.getTagBitSet(requiredTags.get(i)));
+        }
+
+        for (String tag : excludedTags) {
+            result.andNot(this.getTagBitSet(tag));
+        }
+
+        if (isOnlyUndone) {
+            result.andNot(completedBitSet);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the positions of the tasks that have the tag.
+     *
+     * @param tag Tag in lowercase.
+     * @return New bitset of the positions.
+     */
+    public BitSet getTagged(String tag) {
+        return (BitSet) this.getTagBitSet(tag).clone();
+    }
+
+    /**
+     * Returns the number of tasks that have the tag, without copying its bitset.
+     */
+    public int countTagged(String tag) {
+        return this.getTagBitSet(tag).cardinality();
+    }
+
+    /**
+     * Returns the positions of the tasks that are done.
+     *
+     * @return New bitset of the positions.
+     */
+    public BitSet getCompleted() {
+        return (BitSet) completedBitSet.clone();
+    }
+
+    public int countCompleted() {
+        return completedBitSet.cardinality();
+    }
+
+    private BitSet getTagBitSet(String tag) {
+        BitSet bitSet = tagBitSets.get(tag);
+        return bitSet == null ? new BitSet() : bitSet;
+    }
+}
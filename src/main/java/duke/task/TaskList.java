@@ -1,19 +1,73 @@
 package duke.task;
 
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.stream.Stream;
 
+import duke.command.AddCommand;
 import duke.core.DukeException;
 import duke.core.Parser;
 import duke.core.Storage;
+import duke.monitor.IndexUpdateEvent;
+import duke.monitor.TaskListSortEvent;
 
 /**
  * Class to store and handle tasks.
+ * Safe to use from multiple threads. Readers get an immutable snapshot of the tasks and never block,
+ * while changes are made one at a time on a copy that replaces the snapshot once complete.
+ * The snapshot shares its structure with the one before it, so adding or changing a task does not copy every
+ * task, and a changed task is a new task in the place of the old one, which is left as it was.
  */
 public class TaskList {
+    /** Name of the task list used when no other list is chosen. */
+    public static final String DEFAULT_NAME = "tasks";
+
+    /* Extension of the data file of a task list, which is named after the list. */
+    static final String FILE_EXTENSION = ".txt";
+
+    private static final String DEFAULT_ARCHIVE_FILE_NAME = "archive.txt.gz";
+    private static final String ARCHIVE_FILE_SUFFIX = ".archive.txt.gz";
+    private static final int HISTORY_CAPACITY = 10000;
+
+    private String name = DEFAULT_NAME;
+    private History history = new History(HISTORY_CAPACITY);
     private boolean hasLoadingError;
+    private boolean isDeferringStores;
+    private boolean hasUnsavedChanges;
     private SortBy sortBy = SortBy.NONE;
-    private ArrayList<Task> taskArray = new ArrayList<>();
+
+    /* Tasks loaded from the data file when they are decoded lazily, even after later changes replace the snapshot. */
+    private LazyTaskList lazyTasks;
+
+    /* Lines of the lazily decoded tasks that changes removed or replaced, so they are not told about. Null if none. */
+    private BitSet droppedLines;
+
+    /* Immutable snapshot of the tasks. Only replaced while holding the lock on this TaskList. */
+    private volatile List<Task> taskArray = TaskVector.empty();
+
+    /* Tag and completion bitsets over the current snapshot, built on first use. Null when it must be rebuilt. */
+    private TaskIndex index;
+
+    /* Open tasks by urgency, built on first use. Null until then, after which every change keeps it up to date. */
+    private TaskHeap urgencyHeap;
+
+    /* Counts of the tasks for summaries, built on first use and kept up to date like the urgency heap. */
+    private TaskCounter counter;
+
+    /* Told about every task that is added, changed or removed, e.g. to schedule reminders. Null if none. */
+    private TaskObserver observer;
 
     /**
      * Enum to represent the sort setting of the task list.
@@ -46,21 +100,97 @@ public class TaskList {
 
     /**
      * Constructor for TaskList with tasks.
+     * Lines that cannot be parsed are kept the same way as in a lazily decoded list. Blank lines are skipped.
      *
      * @param taskDataStream Stream of task data strings.
      */
     public TaskList(Stream<String> taskDataStream) {
+        ArrayList<Task> loadedTasks = new ArrayList<>();
+
         taskDataStream.forEach(taskData -> {
-            try {
-                Parser.parseTaskDataString(taskData).execute(this, null);
-            } catch (DukeException e) {
-                this.hasLoadingError = true;
+            if (taskData.isBlank()) {
+                return;
             }
+
+            Task task = decodeTask(taskData);
+            this.hasLoadingError |= task instanceof UnreadableTodo;
+            loadedTasks.add(task);
         });
+
+        this.taskArray = TaskVector.of(loadedTasks);
+    }
+
+    /**
+     * Constructor for TaskList with tasks that are decoded lazily.
+     * Each task is only parsed the first time it is read, so the list is ready as soon as its lines are found.
+     * Lines that cannot be parsed are shown as todos with the line as their description, and saved as they were.
+     *
+     * @param taskData Contents of the data file in UTF-8. Must not change later.
+     */
+    public TaskList(ByteBuffer taskData) {
+        this.lazyTasks = new LazyTaskList(taskData);
+        this.taskArray = lazyTasks;
+        lazyTasks.setDecodeListener(this::taskDecoded);
+    }
+
+    /**
+     * Returns the task in a line of the data file, however the file is loaded.
+     * A line that is not a valid task is kept as a todo that is written back as the same line, so that it is not lost.
+     */
+    static Task decodeTask(String taskData) {
+        Task task = parseTask(taskData);
+        return task == null ? new UnreadableTodo(taskData) : task;
+    }
+
+    /**
+     * Returns the task in the task data string, or null if it is invalid.
+     */
+    private static Task parseTask(String taskData) {
+        try {
+            AddCommand addCommand = Parser.parseTaskDataString(taskData);
+            return addCommand == null ? null : addCommand.createTask();
+        } catch (DukeException | RuntimeException e) {
+            return null;
+        }
     }
 
+    /**
+     * Returns whether any line of the data file could not be loaded.
+     * For a lazily decoded list, only the lines read so far are known.
+     */
     public boolean hasLoadingError() {
-        return this.hasLoadingError;
+        return this.hasLoadingError || lazyTasks != null && lazyTasks.hasDecodingError();
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the name of the data file the task list is stored in.
+     */
+    public String getFileName() {
+        return this.name + FILE_EXTENSION;
+    }
+
+    /**
+     * Returns the name of the compressed file that completed tasks of the task list are archived to.
+     * The default list keeps the archive file it had before other lists existed.
+     */
+    public String getArchiveFileName() {
+        return DEFAULT_NAME.equals(this.name) ? DEFAULT_ARCHIVE_FILE_NAME : this.name + ARCHIVE_FILE_SUFFIX;
+    }
+
+    public History getHistory() {
+        return this.history;
+    }
+
+    public synchronized SortBy getSortBy() {
+        return this.sortBy;
     }
 
     /**
@@ -74,6 +204,7 @@ public class TaskList {
 
     /**
      * Returns a stream of tasks in the task list.
+     * The stream is backed by a snapshot, so it is not affected by later changes to the task list.
      *
      * @return Stream of tasks in the task list.
      */
@@ -81,14 +212,124 @@ public class TaskList {
         return this.taskArray.stream();
     }
 
+    /**
+     * Returns an immutable snapshot of the tasks in the task list.
+     *
+     * @return Tasks in the task list, in their current order.
+     */
+    public List<Task> getSnapshot() {
+        return this.taskArray;
+    }
+
     /**
      * Adds a task to the task list.
      *
      * @param task Task to be added.
      */
-    public void addTask(Task task) {
-        taskArray.add(task);
-        this.sort(this.sortBy);
+    public synchronized void addTask(Task task) {
+        TaskIndex currentIndex = this.index;
+        this.taskArray = this.getVector().append(task);
+        this.index = null;
+        this.updateTracked(task);
+
+        Comparator<Task> comparator = getComparator(sortBy);
+
+        if (comparator != null) {
+            // The other tasks are already in order, so only the new task may have to move
+            this.moveIntoOrder(taskArray.size() - 1, comparator);
+        } else if (currentIndex != null) {
+            // Without a sort order, the task is appended, so the positions of the other tasks are unchanged
+            currentIndex.add(taskArray.size() - 1, task);
+            this.index = currentIndex;
+        }
+    }
+
+    /**
+     * Adds tasks to the task list, sorting it once for all of them rather than once for each task.
+     *
+     * @param tasksToAdd Tasks to be added, in order.
+     * @return Positions of the added tasks.
+     */
+    public synchronized BitSet addTasks(List<Task> tasksToAdd) {
+        int previousSize = taskArray.size();
+        this.appendTasks(tasksToAdd);
+        return this.sortAddedTasks(previousSize);
+    }
+
+    /**
+     * Adds tasks to the end of the task list without sorting it, e.g. to add a large number of tasks in batches.
+     * Once every batch is added, {@link #sortAddedTasks(int)} must be called to put the tasks in order.
+     *
+     * @param tasksToAdd Tasks to be added, in order.
+     */
+    public synchronized void appendTasks(List<Task> tasksToAdd) {
+        if (tasksToAdd.isEmpty()) {
+            return;
+        }
+
+        TaskIndex currentIndex = this.index;
+        int previousSize = taskArray.size();
+        TaskVector newTasks = this.getVector();
+
+        for (Task task : tasksToAdd) {
+            newTasks = newTasks.append(task);
+        }
+
+        this.taskArray = newTasks;
+        this.index = null;
+        tasksToAdd.forEach(this::updateTracked);
+
+        if (sortBy == SortBy.NONE && currentIndex != null) {
+            for (int i = 0; i < tasksToAdd.size(); i++) {
+                currentIndex.add(previousSize + i, tasksToAdd.get(i));
+            }
+
+            this.index = currentIndex;
+        }
+    }
+
+    /**
+     * Puts the tasks appended from a position onwards in the order of the task list. The tasks before them are
+     * already in order, so the appended tasks are sorted on their own and merged into them.
+     *
+     * @param start Position of the first appended task, which is the size of the task list before they were added.
+     * @return Positions of the appended tasks once they are in order.
+     */
+    public synchronized BitSet sortAddedTasks(int start) {
+        TaskVector currentTasks = this.getVector();
+        int size = currentTasks.size();
+        BitSet positions = new BitSet(size);
+        Comparator<Task> comparator = getComparator(sortBy);
+
+        if (comparator == null) {
+            positions.set(start, size);
+            return positions;
+        }
+
+        List<Task> addedTasks = new ArrayList<>(currentTasks.subList(start, size));
+        addedTasks.sort(comparator);
+        TaskVector.Builder newTasks = new TaskVector.Builder(size);
+        int existingIndex = 0;
+
+        for (int i = 0; i < addedTasks.size(); i++) {
+            Task task = addedTasks.get(i);
+
+            // Tasks that were already in the list go first among equal tasks, as they would in a stable sort
+            while (existingIndex < start && comparator.compare(currentTasks.get(existingIndex), task) <= 0) {
+                newTasks.addFrom(currentTasks, existingIndex++);
+            }
+
+            positions.set(existingIndex + i);
+            newTasks.add(task);
+        }
+
+        while (existingIndex < start) {
+            newTasks.addFrom(currentTasks, existingIndex++);
+        }
+
+        this.taskArray = newTasks.build();
+        this.index = null;
+        return positions;
     }
 
     /**
@@ -98,16 +339,28 @@ public class TaskList {
      * @return Task that was marked as done.
      * @throws DukeException If index provided is out of bounds.
      */
-    public Task markAsDone(int taskIndex) throws DukeException {
+    public synchronized Task markAsDone(int taskIndex) throws DukeException {
         try {
-            Task markedTask = taskArray.get(taskIndex).markAsDone();
-            this.sort(this.sortBy);
+            Task markedTask = this.replaceCompletion(taskIndex, true);
+            this.resortIfCompletionMatters();
             return markedTask;
         } catch (IndexOutOfBoundsException e) {
             throw new DukeException("Task number provided does not exist.");
         }
     }
 
+    /**
+     * Marks multiple tasks as done in a single pass.
+     * The task list is only re-sorted once all tasks have been marked.
+     *
+     * @param taskIndices Indices of tasks to be marked as done.
+     * @return Tasks that were marked as done, in the order of their indices.
+     * @throws DukeException If any index provided is out of bounds.
+     */
+    public synchronized List<Task> markAsDone(BitSet taskIndices) throws DukeException {
+        return this.replaceCompletion(taskIndices, true);
+    }
+
     /**
      * Marks a task as not done.
      *
@@ -115,16 +368,153 @@ public class TaskList {
      * @return Task that was marked as not done.
      * @throws DukeException If index provided is out of bounds.
      */
-    public Task markAsUndone(int taskIndex) throws DukeException {
+    public synchronized Task markAsUndone(int taskIndex) throws DukeException {
         try {
-            Task unmarkedTask = taskArray.get(taskIndex).markAsUndone();
-            this.sort(this.sortBy);
+            Task unmarkedTask = this.replaceCompletion(taskIndex, false);
+            this.resortIfCompletionMatters();
             return unmarkedTask;
         } catch (IndexOutOfBoundsException e) {
             throw new DukeException("Task number provided does not exist.");
         }
     }
 
+    /**
+     * Marks multiple tasks as not done in a single pass.
+     * The task list is only re-sorted once all tasks have been unmarked.
+     *
+     * @param taskIndices Indices of tasks to be marked as not done.
+     * @return Tasks that were marked as not done, in the order of their indices.
+     * @throws DukeException If any index provided is out of bounds.
+     */
+    public synchronized List<Task> markAsUndone(BitSet taskIndices) throws DukeException {
+        return this.replaceCompletion(taskIndices, false);
+    }
+
+    private List<Task> replaceCompletion(BitSet taskIndices, boolean isCompleted) throws DukeException {
+        List<Task> currentTasks = this.getTasksAt(taskIndices);
+        List<Task> changedTasks = new ArrayList<>(currentTasks.size());
+        taskIndices.stream().forEach(taskIndex -> changedTasks.add(this.replaceCompletion(taskIndex, isCompleted)));
+        this.resortIfCompletionMatters();
+        return changedTasks;
+    }
+
+    /**
+     * Replaces the task at a position with a copy that has the given completion status.
+     * A task that already has the status is kept as it is, along with the date it was completed on.
+     *
+     * @return Task now at the position.
+     */
+    private Task replaceCompletion(int taskIndex, boolean isCompleted) {
+        Task task = taskArray.get(taskIndex);
+
+        if (task.isCompleted == isCompleted) {
+            return task;
+        }
+
+        Task changedTask = isCompleted ? task.copy().markAsDone() : task.copy().markAsUndone();
+        this.replace(taskIndex, task, changedTask);
+        return changedTask;
+    }
+
+    /**
+     * Puts a changed copy of a task in its place, keeping the tag index, the urgency heap, the counts and the
+     * observer up to date. The copy must have the same tags as the task.
+     */
+    private void replace(int taskIndex, Task task, Task changedTask) {
+        this.dropLine(this.getVector(), taskIndex);
+        this.taskArray = this.getVector().with(taskIndex, changedTask);
+        this.removeTracked(task);
+        this.updateTracked(changedTask);
+
+        if (index != null) {
+            index.setCompleted(taskIndex, changedTask.isCompleted);
+        }
+    }
+
+    /**
+     * Returns the snapshot as a vector that changes can be made to.
+     * A lazily decoded list is replaced by a vector of its line numbers the first time, which decodes none of them.
+     */
+    private TaskVector getVector() {
+        if (!(taskArray instanceof TaskVector)) {
+            this.taskArray = TaskVector.of(taskArray);
+        }
+
+        return (TaskVector) taskArray;
+    }
+
+    /**
+     * Notes that the task at an index of the vector is removed or replaced, if it is still the line it was loaded
+     * from, so that the observer is not told about it if it is decoded later.
+     */
+    private void dropLine(TaskVector tasks, int taskIndex) {
+        int line = tasks.getLine(taskIndex);
+
+        if (line < 0) {
+            return;
+        }
+
+        if (droppedLines == null) {
+            droppedLines = new BitSet();
+        }
+
+        droppedLines.set(line);
+    }
+
+    /**
+     * Updates the urgency heap and the counts, if they have been built, and tells the observer after the task is
+     * added or changed.
+     */
+    private void updateTracked(Task task) {
+        if (urgencyHeap != null) {
+            urgencyHeap.update(task);
+        }
+
+        if (counter != null) {
+            counter.update(task);
+        }
+
+        if (observer != null) {
+            observer.taskUpdated(task);
+        }
+    }
+
+    private void removeTracked(Task task) {
+        if (urgencyHeap != null) {
+            urgencyHeap.remove(task);
+        }
+
+        if (counter != null) {
+            counter.remove(task);
+        }
+
+        if (observer != null) {
+            observer.taskRemoved(task);
+        }
+    }
+
+    /**
+     * Re-sorts the task list if its order depends on the completion status of the tasks.
+     * Other sort orders are not affected by marking, as sorting is stable.
+     */
+    private void resortIfCompletionMatters() {
+        if (sortBy == SortBy.COMPLETION) {
+            this.publish(taskArray);
+        }
+    }
+
+    private List<Task> getTasksAt(BitSet taskIndices) throws DukeException {
+        List<Task> currentTasks = this.taskArray;
+
+        if (taskIndices.length() > currentTasks.size()) {
+            throw new DukeException("Task number provided does not exist.");
+        }
+
+        List<Task> selectedTasks = new ArrayList<>(taskIndices.cardinality());
+        taskIndices.stream().forEach(taskIndex -> selectedTasks.add(currentTasks.get(taskIndex)));
+        return selectedTasks;
+    }
+
     /**
      * Deletes a task from the task list.
      *
@@ -132,22 +522,662 @@ public class TaskList {
      * @return Task that was deleted.
      * @throws DukeException If index provided is out of bounds.
      */
-    public Task deleteTask(int taskIndex) throws DukeException {
+    public synchronized Task deleteTask(int taskIndex) throws DukeException {
         try {
-            Task removedTask = taskArray.remove(taskIndex);
+            Task removedTask = taskArray.get(taskIndex);
+            BitSet indicesToRemove = new BitSet(taskIndex + 1);
+            indicesToRemove.set(taskIndex);
+            this.compact(indicesToRemove);
             return removedTask;
         } catch (IndexOutOfBoundsException e) {
             throw new DukeException("Task number provided does not exist.");
         }
     }
 
+    /**
+     * Deletes multiple tasks from the task list in a single pass.
+     * Indices refer to the positions before any task is removed.
+     *
+     * @param taskIndices Indices of tasks to be deleted.
+     * @return Tasks that were deleted, in the order of their indices.
+     * @throws DukeException If any index provided is out of bounds.
+     */
+    public synchronized List<Task> deleteTasks(BitSet taskIndices) throws DukeException {
+        List<Task> removedTasks = this.getTasksAt(taskIndices);
+        this.compact(taskIndices);
+        return removedTasks;
+    }
+
+    /**
+     * Deletes all tasks that are marked as done in a single pass.
+     *
+     * @return Tasks that were deleted.
+     */
+    public synchronized List<Task> deleteCompletedTasks() {
+        BitSet completedIndices = this.findCompletedIndices();
+
+        List<Task> removedTasks = new ArrayList<>(completedIndices.cardinality());
+        completedIndices.stream().forEach(taskIndex -> removedTasks.add(taskArray.get(taskIndex)));
+        this.compact(completedIndices);
+        return removedTasks;
+    }
+
+    /**
+     * Moves completed tasks to an archive file and removes them from the task list.
+     * The tasks are appended to the archive before the task list is stored, so a failure in between leaves the
+     * tasks in both files rather than in neither. Archiving cannot be undone, so the history is cleared.
+     *
+     * @param storage Storage to write the archive and task list to.
+     * @param archiveFileName Name of the compressed archive file.
+     * @param latestCompletedDate Only tasks completed on or before this date are archived, or all completed tasks
+     *     if null.
+     * @return Tasks that were archived.
+     * @throws DukeException If there is an error writing to either file.
+     */
+    public synchronized List<Task> archiveCompletedTasks(Storage storage, String archiveFileName,
+            LocalDate latestCompletedDate) throws DukeException {
+        BitSet indicesToArchive = new BitSet(taskArray.size());
+
+        for (int i = 0; i < taskArray.size(); i++) {
+            Task task = taskArray.get(i);
+            boolean isArchived = latestCompletedDate == null
+                    ? task.isCompleted
+                    : task.isCompletedOnOrBefore(latestCompletedDate);
+
+            if (isArchived) {
+                indicesToArchive.set(i);
+            }
+        }
+
+        if (indicesToArchive.isEmpty()) {
+            return List.of();
+        }
+
+        List<Task> archivedTasks = this.getTasksAt(indicesToArchive);
+        storage.appendCompressed(archiveFileName, archivedTasks);
+        this.compact(indicesToArchive);
+        history.clear();
+        this.storeTasks(storage);
+
+        return archivedTasks;
+    }
+
+    /**
+     * Applies changes made to the data file outside of the program, such as by editing it by hand.
+     * Lines are matched against the data strings of the current tasks, so tasks whose lines are unchanged are kept
+     * as they are and only new lines are parsed. Changed lines count as a removed task and an added task.
+     * The tasks end up in the order of the file, re-sorted if a sort is set. Changes from before cannot be undone
+     * across the new file, so the history is cleared if anything changed.
+     *
+     * @param lines Lines of the data file.
+     * @return Tasks that were added and removed.
+     * @throws DukeException If there are changes that have not been written to the file yet.
+     */
+    public synchronized ExternalChanges applyExternalChanges(List<String> lines) throws DukeException {
+        if (hasUnsavedChanges) {
+            throw new DukeException(this.getFileName()
+                    + " was changed outside of A-CAT while there were unsaved changes.\n"
+                    + "The outside changes were not loaded, and will be overwritten when the changes are saved.");
+        }
+
+        List<Task> currentTasks = this.taskArray;
+        Map<String, ArrayDeque<Integer>> indicesByLine = new HashMap<>(currentTasks.size() * 2);
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < currentTasks.size(); i++) {
+            builder.setLength(0);
+            appendDataString(currentTasks, i, builder);
+            indicesByLine.computeIfAbsent(builder.toString(), line -> new ArrayDeque<>(1)).add(i);
+        }
+
+        BitSet keptIndices = new BitSet(currentTasks.size());
+        int[] newOrder = new int[lines.size()];
+        List<Task> addedTasks = new ArrayList<>();
+        boolean isReordered = false;
+        int newSize = 0;
+
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            ArrayDeque<Integer> matchingIndices = indicesByLine.get(line);
+
+            if (matchingIndices != null && !matchingIndices.isEmpty()) {
+                int index = matchingIndices.poll();
+                isReordered |= index != newSize;
+                keptIndices.set(index);
+                newOrder[newSize++] = index;
+                continue;
+            }
+
+            Task task = parseTask(line);
+
+            if (task == null) {
+                this.hasLoadingError = true;
+                continue;
+            }
+
+            addedTasks.add(task);
+            // Marks an added task, which is taken from addedTasks in order
+            newOrder[newSize++] = -1;
+        }
+
+        List<Task> removedTasks = new ArrayList<>(currentTasks.size() - keptIndices.cardinality());
+
+        for (int i = keptIndices.nextClearBit(0); i < currentTasks.size(); i = keptIndices.nextClearBit(i + 1)) {
+            removedTasks.add(currentTasks.get(i));
+        }
+
+        if (addedTasks.isEmpty() && removedTasks.isEmpty() && !isReordered) {
+            // Leaves a lazily decoded list as it is
+            return new ExternalChanges(addedTasks, removedTasks);
+        }
+
+        // Kept tasks are copied as they are, so that those not read yet stay undecoded
+        TaskVector keptTasks = this.getVector();
+        TaskVector.Builder newTasks = new TaskVector.Builder(newSize);
+        int addedIndex = 0;
+
+        for (int i = 0; i < newSize; i++) {
+            if (newOrder[i] < 0) {
+                newTasks.add(addedTasks.get(addedIndex++));
+            } else {
+                newTasks.addFrom(keptTasks, newOrder[i]);
+            }
+        }
+
+        for (int i = keptIndices.nextClearBit(0); i < keptTasks.size(); i = keptIndices.nextClearBit(i + 1)) {
+            this.dropLine(keptTasks, i);
+        }
+
+        this.publish(newTasks.build());
+        addedTasks.forEach(this::updateTracked);
+        removedTasks.forEach(this::removeTracked);
+        history.clear();
+
+        return new ExternalChanges(addedTasks, removedTasks);
+    }
+
+    /**
+     * Appends the data string of the task at an index of a snapshot of a task list.
+     * A task that was loaded lazily and has not been read is copied from its line rather than decoded.
+     *
+     * @param tasks Snapshot of a task list, or any other list of tasks.
+     * @param index Index of the task.
+     * @param builder Builder to append to.
+     * @return The builder.
+     */
+    public static StringBuilder appendDataString(List<? extends Task> tasks, int index, StringBuilder builder) {
+        if (tasks instanceof TaskVector) {
+            TaskVector taskVector = (TaskVector) tasks;
+            return taskVector.appendDataString(index, builder);
+        }
+
+        if (tasks instanceof LazyTaskList) {
+            LazyTaskList lazyTaskList = (LazyTaskList) tasks;
+            return lazyTaskList.appendDataString(index, builder);
+        }
+
+        return tasks.get(index).appendDataString(builder);
+    }
+
+    /**
+     * Tasks added and removed by changes made to the data file outside of the program.
+     */
+    public static class ExternalChanges {
+        private List<Task> addedTasks;
+        private List<Task> removedTasks;
+
+        private ExternalChanges(List<Task> addedTasks, List<Task> removedTasks) {
+            this.addedTasks = Collections.unmodifiableList(addedTasks);
+            this.removedTasks = Collections.unmodifiableList(removedTasks);
+        }
+
+        public List<Task> getAddedTasks() {
+            return this.addedTasks;
+        }
+
+        public List<Task> getRemovedTasks() {
+            return this.removedTasks;
+        }
+
+        /**
+         * Returns whether any task was added or removed.
+         */
+        public boolean isEmpty() {
+            return addedTasks.isEmpty() && removedTasks.isEmpty();
+        }
+    }
+
+    /**
+     * Returns the tasks that have all of the required tags and none of the excluded tags.
+     * The tasks are found by combining the bitsets of an index over the tags, which is kept up to date as tasks are
+     * added and marked, and rebuilt after other changes the first time it is needed.
+     *
+     * @param requiredTags Tags that every task must have. Must not be empty.
+     * @param excludedTags Tags that no task may have.
+     * @param isOnlyUndone Whether tasks that are done are left out.
+     * @return Matching tasks, in their current order.
+     */
+    public synchronized List<Task> findTagged(List<String> requiredTags, List<String> excludedTags,
+            boolean isOnlyUndone) {
+        BitSet positions = this.getIndex().find(requiredTags, excludedTags, isOnlyUndone);
+        List<Task> taggedTasks = new ArrayList<>(positions.cardinality());
+        positions.stream().forEach(position -> taggedTasks.add(taskArray.get(position)));
+        return taggedTasks;
+    }
+
+    /**
+     * Runs the reader with the current snapshot and the index over it, which are guaranteed to match.
+     * Changes wait until the reader returns, so the reader should only look up positions and not hold on to the
+     * index afterwards.
+     *
+     * @param reader Reads from the snapshot and the index.
+     * @return Result of the reader.
+     */
+    public synchronized <T> T readIndexed(BiFunction<List<Task>, TaskIndex, T> reader) {
+        return reader.apply(taskArray, this.getIndex());
+    }
+
+    /**
+     * Returns the index over the current snapshot, building it if it was dropped by a change.
+     */
+    private TaskIndex getIndex() {
+        if (index == null) {
+            IndexUpdateEvent event = new IndexUpdateEvent();
+            event.begin();
+
+            index = new TaskIndex(taskArray);
+
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.setIndexName("tags");
+                event.setTaskCount(taskArray.size());
+                event.commit();
+            }
+        }
+
+        return index;
+    }
+
+    /**
+     * Returns the most urgent open tasks: by priority, then deadlines by due date before other tasks.
+     * The tasks are read from a heap that is kept up to date as tasks change, so the task list is not sorted.
+     * The heap is built from all tasks the first time this is called.
+     *
+     * @param count Maximum number of tasks to return.
+     * @return Open tasks from the most urgent.
+     */
+    public synchronized List<Task> getMostUrgent(int count) {
+        if (urgencyHeap == null) {
+            IndexUpdateEvent event = new IndexUpdateEvent();
+            event.begin();
+
+            urgencyHeap = new TaskHeap(taskArray);
+
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.setIndexName("urgency");
+                event.setTaskCount(taskArray.size());
+                event.commit();
+            }
+        }
+
+        return urgencyHeap.peek(count);
+    }
+
+    /**
+     * Returns a summary of the tasks: how many there are of each type, how many are done, how many deadlines are
+     * overdue and how many events take place this week.
+     * The counts are kept up to date as tasks change, so the tasks are only looked at the first time this is called.
+     *
+     * @param today Date that deadlines before it are overdue, and whose week is the current week.
+     * @return Summary of the tasks.
+     */
+    public synchronized TaskSummary getSummary(LocalDate today) {
+        if (counter == null) {
+            IndexUpdateEvent event = new IndexUpdateEvent();
+            event.begin();
+
+            counter = new TaskCounter(taskArray);
+
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.setIndexName("summary");
+                event.setTaskCount(taskArray.size());
+                event.commit();
+            }
+        }
+
+        return counter.summarize(today);
+    }
+
+    /**
+     * Sets the observer to tell about every task that is added, changed or removed from now on.
+     * The observer is told about every task already in the task list first, as if they had just been added.
+     * While the tasks are decoded lazily, only the tasks decoded so far are told about, and each other task is told
+     * about when it is first read, so that setting an observer does not decode the whole data file.
+     *
+     * @param observer Observer of the tasks, or null to stop telling the current observer.
+     */
+    public synchronized void setObserver(TaskObserver observer) {
+        this.observer = observer;
+
+        if (observer == null) {
+            return;
+        }
+
+        if (taskArray instanceof TaskVector) {
+            TaskVector taskVector = (TaskVector) taskArray;
+            taskVector.forEachDecoded(observer::taskUpdated);
+        } else {
+            lazyTasks.forEachDecoded(observer::taskUpdated);
+        }
+    }
+
+    /**
+     * Tells the observer about a task of the lazily decoded list the first time it is read.
+     * A task whose line a change meanwhile removed or replaced is left out.
+     */
+    private synchronized void taskDecoded(Task task, int line) {
+        if (observer != null && (droppedLines == null || !droppedLines.get(line))) {
+            observer.taskUpdated(task);
+        }
+    }
+
+    /**
+     * Returns the indices of all tasks that are marked as done.
+     *
+     * @return BitSet with the index of every completed task.
+     */
+    public BitSet findCompletedIndices() {
+        List<Task> currentTasks = this.taskArray;
+        BitSet completedIndices = new BitSet(currentTasks.size());
+
+        for (int i = 0; i < currentTasks.size(); i++) {
+            if (currentTasks.get(i).isCompleted) {
+                completedIndices.set(i);
+            }
+        }
+
+        return completedIndices;
+    }
+
+    /**
+     * Removes the given tasks from the task list, wherever they currently are.
+     * Tasks are matched by identity, so equal copies of a task are not removed.
+     *
+     * @param tasksToRemove Tasks to be removed.
+     */
+    public synchronized void removeTasks(Collection<Task> tasksToRemove) {
+        Set<Task> taskSet = Collections.newSetFromMap(new IdentityHashMap<>(tasksToRemove.size()));
+        taskSet.addAll(tasksToRemove);
+
+        // Tasks that have not been decoded cannot be any of the given tasks
+        TaskVector currentTasks = this.getVector();
+        BitSet indicesToRemove = new BitSet(currentTasks.size());
+
+        for (int i = 0; i < currentTasks.size(); i++) {
+            Task task = currentTasks.getIfDecoded(i);
+
+            if (task != null && taskSet.contains(task)) {
+                indicesToRemove.set(i);
+            }
+        }
+
+        this.compact(indicesToRemove);
+    }
+
+    /**
+     * Inserts tasks back at the given positions, e.g. to restore deleted tasks.
+     *
+     * @param tasksToInsert Tasks to be inserted, in the order of their positions.
+     * @param positions Positions of the tasks in the task list after they are inserted.
+     */
+    public synchronized void insertTasks(List<Task> tasksToInsert, BitSet positions) {
+        TaskVector currentTasks = this.getVector();
+        int newSize = currentTasks.size() + tasksToInsert.size();
+        TaskVector.Builder newTasks = new TaskVector.Builder(newSize);
+        int insertIndex = 0;
+        int existingIndex = 0;
+
+        for (int i = 0; i < newSize; i++) {
+            boolean isInsertedHere = positions.get(i) && insertIndex < tasksToInsert.size()
+                    || existingIndex == currentTasks.size();
+
+            if (isInsertedHere) {
+                newTasks.add(tasksToInsert.get(insertIndex++));
+            } else {
+                newTasks.addFrom(currentTasks, existingIndex++);
+            }
+        }
+
+        this.publish(newTasks.build());
+        tasksToInsert.forEach(this::updateTracked);
+    }
+
+    /**
+     * Sets the completion status of the given tasks, wherever they currently are. Tasks marked as done are
+     * completed today. Tasks are matched by identity, and each changed task is replaced by a copy.
+     *
+     * @param tasksToChange Tasks to be changed.
+     * @param isCompleted Completion status to set.
+     * @return Tasks with the completion status, in the same order.
+     */
+    public synchronized List<Task> setCompletion(List<Task> tasksToChange, boolean isCompleted) {
+        Map<Task, Integer> positions = this.findPositions(tasksToChange);
+        List<Task> changedTasks = new ArrayList<>(tasksToChange.size());
+
+        for (Task task : tasksToChange) {
+            Integer position = positions.get(task);
+            changedTasks.add(position == null ? task : this.replaceCompletion(position, isCompleted));
+        }
+
+        this.resortIfCompletionMatters();
+        return changedTasks;
+    }
+
+    /**
+     * Puts tasks back in the place of the tasks that replaced them, or the other way round, e.g. to undo or redo
+     * marking or editing them. Tasks are matched by identity.
+     *
+     * @param tasksToReplace Tasks to be replaced.
+     * @param replacements Tasks to put in their places, in the same order, with the same tags.
+     */
+    public synchronized void replaceTasks(List<Task> tasksToReplace, List<Task> replacements) {
+        assert tasksToReplace.size() == replacements.size() : "Every task should have a replacement";
+
+        Map<Task, Integer> positions = this.findPositions(tasksToReplace);
+        boolean isCompletionChanged = false;
+        int lastPosition = -1;
+
+        for (int i = 0; i < tasksToReplace.size(); i++) {
+            Task task = tasksToReplace.get(i);
+            Integer position = positions.get(task);
+
+            if (position != null) {
+                this.replace(position, task, replacements.get(i));
+                isCompletionChanged |= task.isCompleted != replacements.get(i).isCompleted;
+                lastPosition = position;
+            }
+        }
+
+        Comparator<Task> comparator = getComparator(sortBy);
+
+        if (comparator == null || lastPosition < 0) {
+            return;
+        }
+
+        if (isCompletionChanged) {
+            this.resortIfCompletionMatters();
+        } else if (replacements.size() == 1) {
+            this.moveIntoOrder(lastPosition, comparator);
+        } else {
+            this.publish(taskArray);
+        }
+    }
+
+    /**
+     * Returns the current positions of the given tasks, found by identity. Tasks that are not in the task list are
+     * left out.
+     */
+    private Map<Task, Integer> findPositions(List<Task> tasksToFind) {
+        Set<Task> remainingTasks = Collections.newSetFromMap(new IdentityHashMap<>(tasksToFind.size()));
+        remainingTasks.addAll(tasksToFind);
+        Map<Task, Integer> positions = new IdentityHashMap<>(tasksToFind.size());
+        TaskVector currentTasks = this.getVector();
+
+        for (int i = 0; i < currentTasks.size() && !remainingTasks.isEmpty(); i++) {
+            Task task = currentTasks.getIfDecoded(i);
+
+            if (task != null && remainingTasks.remove(task)) {
+                positions.put(task, i);
+            }
+        }
+
+        return positions;
+    }
+
+    /**
+     * Changes the description and dates of a task, e.g. to edit it. The task is replaced by an edited copy.
+     * The copy keeps the position of the task unless the sort order needs it to move, in which case only the copy
+     * is moved, rather than the whole task list being sorted again. The tag index is kept as it is unless the copy
+     * moves, and the urgency heap, the counts and the observer are updated for the task alone.
+     *
+     * @param task Task to be changed, which must be in the task list.
+     * @param details New description and dates, which must suit the type of the task.
+     * @return Edited copy of the task, which is now in the task list instead.
+     */
+    public synchronized Task editTask(Task task, TaskDetails details) {
+        Task editedTask = task.copy();
+        editedTask.setDetails(details);
+        this.replaceTasks(List.of(task), List.of(editedTask));
+        return editedTask;
+    }
+
+    /**
+     * Moves a task that may be out of order to where it belongs, leaving the snapshot as it is if it is not.
+     * The other tasks are already in order, so its place is found by binary search.
+     */
+    private void moveIntoOrder(int position, Comparator<Task> comparator) {
+        Task task = taskArray.get(position);
+        boolean isAfterPrevious = position == 0 || comparator.compare(taskArray.get(position - 1), task) <= 0;
+        boolean isBeforeNext = position == taskArray.size() - 1
+                || comparator.compare(task, taskArray.get(position + 1)) <= 0;
+
+        if (isAfterPrevious && isBeforeNext) {
+            return;
+        }
+
+        ArrayList<Task> newTasks = new ArrayList<>(taskArray);
+        newTasks.remove(position);
+
+        // Goes after any tasks it is equal to, like a task appended and then sorted
+        int low = 0;
+        int high = newTasks.size();
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (comparator.compare(newTasks.get(middle), task) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        newTasks.add(low, task);
+        this.taskArray = TaskVector.of(newTasks);
+        this.index = null;
+    }
+
+    /**
+     * Replaces the order of the tasks, e.g. to revert a sort.
+     * The given tasks must be the same tasks as those currently in the task list.
+     *
+     * @param order Tasks in the order to restore.
+     * @param sortType Sort type to restore.
+     */
+    public synchronized void restoreOrder(List<Task> order, SortBy sortType) {
+        assert order.size() == taskArray.size() : "Restored order should contain the same tasks";
+
+        this.sortBy = sortType;
+        this.taskArray = TaskVector.of(order);
+        this.index = null;
+    }
+
+    /**
+     * Removes the tasks at the given indices, copying the remaining tasks into a new snapshot once.
+     * Tasks that have not been decoded are neither decoded nor tracked, so they are dropped without being read.
+     */
+    private void compact(BitSet indicesToRemove) {
+        TaskVector currentTasks = this.getVector();
+        TaskVector.Builder newTasks = new TaskVector.Builder(currentTasks.size() - indicesToRemove.cardinality());
+
+        for (int i = 0; i < currentTasks.size(); i++) {
+            if (!indicesToRemove.get(i)) {
+                newTasks.addFrom(currentTasks, i);
+                continue;
+            }
+
+            this.dropLine(currentTasks, i);
+            Task removedTask = currentTasks.getIfDecoded(i);
+
+            if (removedTask != null) {
+                this.removeTracked(removedTask);
+            }
+        }
+
+        this.publish(newTasks.build());
+    }
+
     /**
      * Stores tasks in the task list to a file.
      *
      * @throws DukeException If there is an error writing to the file.
      */
-    public void storeTasks(Storage storage) throws DukeException {
-        storage.writeFile("tasks.txt", taskArray.stream().map(task -> task.getDataString()));
+    public synchronized void storeTasks(Storage storage) throws DukeException {
+        if (isDeferringStores) {
+            hasUnsavedChanges = true;
+            return;
+        }
+
+        storage.writeTasks(this.getFileName(), taskArray);
+        hasUnsavedChanges = false;
+    }
+
+    /**
+     * Sets whether calls to {@link #storeTasks(Storage)} should be deferred.
+     * While deferred, changes are only written to the file when {@link #flush(Storage)} is called.
+     *
+     * @param isDeferringStores Whether stores should be deferred.
+     */
+    public synchronized void setDeferringStores(boolean isDeferringStores) {
+        this.isDeferringStores = isDeferringStores;
+    }
+
+    public synchronized boolean hasUnsavedChanges() {
+        return this.hasUnsavedChanges;
+    }
+
+    /**
+     * Writes any deferred changes to the file.
+     *
+     * @return Whether anything was written.
+     * @throws DukeException If there is an error writing to the file.
+     */
+    public synchronized boolean flush(Storage storage) throws DukeException {
+        if (!hasUnsavedChanges) {
+            return false;
+        }
+
+        storage.writeTasks(this.getFileName(), taskArray);
+        hasUnsavedChanges = false;
+        return true;
     }
 
     /**
@@ -155,25 +1185,67 @@ public class TaskList {
      *
      * @param sortType Sort type to sort the task list by.
      */
-    public void sort(SortBy sortType) {
+    public synchronized void sort(SortBy sortType) {
+        TaskListSortEvent event = new TaskListSortEvent();
+        event.begin();
+
         this.sortBy = sortType;
+        this.publish(taskArray);
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.setSortBy(sortType.name());
+            event.setTaskCount(taskArray.size());
+            event.commit();
+        }
+    }
+
+    /**
+     * Sorts the new list of tasks by the current sort type and replaces the snapshot with it.
+     * Without a sort order, a vector is used as it is, so its tasks that have not been read stay undecoded.
+     */
+    private void publish(List<Task> newTasks) {
+        IndexUpdateEvent event = new IndexUpdateEvent();
+        event.begin();
+
+        Comparator<Task> comparator = getComparator(sortBy);
+
+        if (comparator != null) {
+            ArrayList<Task> sortedTasks = new ArrayList<>(newTasks);
+            sortedTasks.sort(comparator);
+            this.taskArray = TaskVector.of(sortedTasks);
+        } else {
+            this.taskArray = TaskVector.of(newTasks);
+        }
+
+        this.index = null;
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.setIndexName("order");
+            event.setTaskCount(newTasks.size());
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the order of the tasks for a sort type, or null if the tasks are kept in the order they were added.
+     */
+    private static Comparator<Task> getComparator(SortBy sortType) {
         switch (sortType) {
-        case NONE:
-            break;
         case NAME:
-            taskArray.sort(Task::compareByName);
-            break;
+            return Task::compareByName;
         case TASK:
-            taskArray.sort(Task::compareByType);
-            break;
+            return Task::compareByType;
         case COMPLETION:
-            taskArray.sort(Task::compareByCompletion);
-            break;
+            return Task::compareByCompletion;
         case DATE:
-            taskArray.sort(Task::compareByDate);
-            break;
+            return Task::compareByDate;
+        case NONE:
         default:
-            break;
+            return null;
         }
     }
 }
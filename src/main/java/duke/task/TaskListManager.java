@@ -0,0 +1,195 @@
+package duke.task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import duke.core.DukeException;
+import duke.core.Storage;
+
+/**
+ * Class to hold the named task lists of a user, each stored in its own data file in the base directory.
+ * A list is only loaded the first time it is used, so lists that are never opened cost nothing.
+ * Exactly one list is current at a time, which is the list that commands work on.
+ */
+public class TaskListManager {
+    /* Data files at least this large are decoded lazily instead of parsed up front, with the same result. */
+    private static final long LAZY_LOADING_THRESHOLD = 4 * 1024 * 1024;
+    /* Largest file that fits in a byte array. */
+    private static final long MAX_LAZY_LOADING_FILE_SIZE = Integer.MAX_VALUE - 8;
+
+    /* List names become file names, so they are kept to characters that are safe in a file name on every system. */
+    private static final Pattern LIST_NAME_PATTERN = Pattern.compile("[a-z0-9_-]{1,64}");
+
+    private Storage storage;
+    private Map<String, TaskList> loadedLists = new ConcurrentHashMap<>();
+    private volatile TaskList currentList;
+    private boolean isDeferringStores;
+    private TaskObserver observer;
+
+    /**
+     * Constructor for TaskListManager. Loads the default list and makes it the current list.
+     *
+     * @param storage Storage the task lists are loaded from and stored to.
+     * @throws DukeException If the default list cannot be loaded.
+     */
+    public TaskListManager(Storage storage) throws DukeException {
+        this.storage = storage;
+        this.currentList = this.getOrLoad(TaskList.DEFAULT_NAME);
+    }
+
+    /**
+     * Returns the list that commands currently work on.
+     *
+     * @return Current task list.
+     */
+    public TaskList getCurrent() {
+        return this.currentList;
+    }
+
+    /**
+     * Makes the named list the current list, loading it if it has not been used before.
+     * A list that does not exist yet starts out empty, and its file is created when it is first changed.
+     *
+     * @param name Name of the list.
+     * @return Task list switched to.
+     * @throws DukeException If the name is invalid or the list cannot be loaded.
+     */
+    public synchronized TaskList switchTo(String name) throws DukeException {
+        TaskList taskList = this.getOrLoad(normalizeName(name));
+        this.currentList = taskList;
+        return taskList;
+    }
+
+    /**
+     * Returns whether the named list exists, either as a data file or as a list that has been loaded.
+     *
+     * @param name Name of the list.
+     * @throws DukeException If the name is invalid or the base directory cannot be read.
+     */
+    public boolean hasList(String name) throws DukeException {
+        return this.getListNames().contains(normalizeName(name));
+    }
+
+    /**
+     * Returns the loaded list that is stored in the given data file.
+     *
+     * @param fileName Name of the data file.
+     * @return Task list, or null if no loaded list is stored in the file.
+     */
+    public TaskList getLoadedList(String fileName) {
+        if (!fileName.endsWith(TaskList.FILE_EXTENSION)) {
+            return null;
+        }
+
+        return loadedLists.get(fileName.substring(0, fileName.length() - TaskList.FILE_EXTENSION.length()));
+    }
+
+    /**
+     * Returns the names of all lists, including those that have not been loaded, in alphabetical order.
+     * Only the names of the data files are read.
+     *
+     * @return Names of the lists.
+     * @throws DukeException If the base directory cannot be read.
+     */
+    public List<String> getListNames() throws DukeException {
+        List<String> names = new ArrayList<>();
+
+        for (String fileName : storage.listFileNames(TaskList.FILE_EXTENSION)) {
+            String name = fileName.substring(0, fileName.length() - TaskList.FILE_EXTENSION.length());
+
+            if (LIST_NAME_PATTERN.matcher(name).matches()) {
+                names.add(name);
+            }
+        }
+
+        // Lists that were loaded but never stored have no file yet
+        for (String name : loadedLists.keySet()) {
+            if (!names.contains(name)) {
+                names.add(name);
+            }
+        }
+
+        names.sort(null);
+        return names;
+    }
+
+    /**
+     * Sets whether stores of every list, including lists loaded later, should be deferred.
+     *
+     * @param isDeferringStores Whether stores should be deferred.
+     * @see TaskList#setDeferringStores(boolean)
+     */
+    public synchronized void setDeferringStores(boolean isDeferringStores) {
+        this.isDeferringStores = isDeferringStores;
+        loadedLists.values().forEach(taskList -> taskList.setDeferringStores(isDeferringStores));
+    }
+
+    /**
+     * Sets the observer of the tasks of every list, including lists loaded later.
+     *
+     * @param observer Observer of the tasks, or null for none.
+     * @see TaskList#setObserver(TaskObserver)
+     */
+    public synchronized void setObserver(TaskObserver observer) {
+        this.observer = observer;
+        loadedLists.values().forEach(taskList -> taskList.setObserver(observer));
+    }
+
+    /**
+     * Writes any deferred changes of every list to their files. Lists without changes are not written.
+     *
+     * @return Whether anything was written.
+     * @throws DukeException If there is an error writing to a file.
+     */
+    public synchronized boolean flush() throws DukeException {
+        boolean isWritten = false;
+
+        for (TaskList taskList : loadedLists.values()) {
+            isWritten |= taskList.flush(storage);
+        }
+
+        return isWritten;
+    }
+
+    private static String normalizeName(String name) throws DukeException {
+        String normalizedName = name.trim().toLowerCase();
+
+        if (!LIST_NAME_PATTERN.matcher(normalizedName).matches()) {
+            throw new DukeException("List names can only have letters, digits, \"-\" and \"_\", "
+                    + "and be at most 64 characters long.");
+        }
+
+        return normalizedName;
+    }
+
+    private TaskList getOrLoad(String name) throws DukeException {
+        TaskList taskList = loadedLists.get(name);
+
+        if (taskList != null) {
+            return taskList;
+        }
+
+        taskList = this.load(name + TaskList.FILE_EXTENSION);
+        taskList.setName(name);
+        taskList.setDeferringStores(isDeferringStores);
+        taskList.setObserver(observer);
+        loadedLists.put(name, taskList);
+        return taskList;
+    }
+
+    private TaskList load(String fileName) throws DukeException {
+        long fileSize = storage.getFileSize(fileName);
+
+        if (fileSize >= LAZY_LOADING_THRESHOLD && fileSize <= MAX_LAZY_LOADING_FILE_SIZE) {
+            return new TaskList(storage.readBytes(fileName));
+        }
+
+        try (Stream<String> taskData = storage.readFile(fileName)) {
+            return new TaskList(taskData);
+        }
+    }
+}
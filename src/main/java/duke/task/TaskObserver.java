@@ -0,0 +1,22 @@
+package duke.task;
+
+/**
+ * Observer of the tasks in a task list, told about each task that is added, changed or removed.
+ * Calls are made while the task list is locked, so they should return quickly.
+ */
+public interface TaskObserver {
+
+    /**
+     * Called after a task is added to the task list, or after a task in it is changed, e.g. marked as done.
+     *
+     * @param task Task that was added or changed.
+     */
+    void taskUpdated(Task task);
+
+    /**
+     * Called after a task is removed from the task list.
+     *
+     * @param task Task that was removed.
+     */
+    void taskRemoved(Task task);
+}
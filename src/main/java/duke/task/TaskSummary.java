@@ -0,0 +1,74 @@
+package duke.task;
+
+import duke.task.Task.TaskType;
+
+/**
+ * Counts of the tasks in a task list at one point in time.
+ */
+public class TaskSummary {
+    private int[] counts;
+    private int[] completedCounts;
+    private int overdueCount;
+    private int eventsThisWeekCount;
+
+    TaskSummary(int[] counts, int[] completedCounts, int overdueCount, int eventsThisWeekCount) {
+        this.counts = counts;
+        this.completedCounts = completedCounts;
+        this.overdueCount = overdueCount;
+        this.eventsThisWeekCount = eventsThisWeekCount;
+    }
+
+    /**
+     * Returns the number of tasks of the type.
+     */
+    public int getCount(TaskType taskType) {
+        return counts[taskType.ordinal()];
+    }
+
+    /**
+     * Returns the number of tasks of the type that are done.
+     */
+    public int getCompletedCount(TaskType taskType) {
+        return completedCounts[taskType.ordinal()];
+    }
+
+    /**
+     * Returns the number of tasks of any type that are done.
+     */
+    public int getCompletedCount() {
+        int completedCount = 0;
+
+        for (int count : completedCounts) {
+            completedCount += count;
+        }
+
+        return completedCount;
+    }
+
+    /**
+     * Returns the number of tasks of any type.
+     */
+    public int getTotalCount() {
+        int totalCount = 0;
+
+        for (int count : counts) {
+            totalCount += count;
+        }
+
+        return totalCount;
+    }
+
+    /**
+     * Returns the number of deadlines that are not done and were due before today.
+     */
+    public int getOverdueCount() {
+        return overdueCount;
+    }
+
+    /**
+     * Returns the number of events that are not done and take place on any day of this week, from Monday to Sunday.
+     */
+    public int getEventsThisWeekCount() {
+        return eventsThisWeekCount;
+    }
+}
@@ -0,0 +1,338 @@
+package duke.task;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * Immutable list of tasks that shares most of its structure with the lists it is derived from.
+ * The tasks are kept in a tree of arrays with 32 children per node, with the last few tasks in a separate tail, so
+ * that appending a task or replacing the task at a position only copies the path to it rather than the whole list.
+ * Tasks of a lazily decoded list are kept as the number of their line until they are read, so that changing the
+ * list does not decode the tasks that are not changed.
+ */
+final class TaskVector extends AbstractList<Task> implements RandomAccess {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final TaskVector EMPTY = new TaskVector(0, BITS, new Object[0], new Object[0], null);
+
+    private final int size;
+    /* Number of bits of a position used below the root, which is a multiple of BITS. */
+    private final int shift;
+    /* Nodes hold the arrays below them, and the lowest nodes hold WIDTH entries each. */
+    private final Object[] root;
+    /* Last 1 to WIDTH entries, or none if the vector is empty. */
+    private final Object[] tail;
+    /* List that entries which are line numbers rather than tasks are decoded from, or null if there are none. */
+    private final LazyTaskList source;
+
+    private TaskVector(int size, int shift, Object[] root, Object[] tail, LazyTaskList source) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+        this.source = source;
+    }
+
+    /**
+     * Returns a vector without any tasks.
+     */
+    static TaskVector empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a vector of the given tasks, built in a single pass.
+     * The tasks of a lazily decoded list are not decoded.
+     *
+     * @param tasks Tasks in order.
+     */
+    static TaskVector of(List<? extends Task> tasks) {
+        if (tasks instanceof TaskVector) {
+            return (TaskVector) tasks;
+        }
+
+        if (tasks instanceof LazyTaskList) {
+            Object[] lines = new Object[tasks.size()];
+
+            for (int i = 0; i < lines.length; i++) {
+                lines[i] = i;
+            }
+
+            return build(lines, lines.length, (LazyTaskList) tasks);
+        }
+
+        return build(tasks.toArray(), tasks.size(), null);
+    }
+
+    /**
+     * Returns a vector of the first entries of the array, which must not be changed afterwards.
+     */
+    private static TaskVector build(Object[] entries, int size, LazyTaskList source) {
+        if (size == 0) {
+            return EMPTY;
+        }
+
+        int tailOffset = getTailOffset(size);
+        Object[] tail = Arrays.copyOfRange(entries, tailOffset, size);
+        Object[][] nodes = new Object[tailOffset / WIDTH][];
+
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = Arrays.copyOfRange(entries, i * WIDTH, (i + 1) * WIDTH);
+        }
+
+        int shift = BITS;
+
+        // Groups the nodes into parents until they fit under a single root
+        while (nodes.length > WIDTH) {
+            Object[][] parents = new Object[(nodes.length + MASK) / WIDTH][];
+
+            for (int i = 0; i < parents.length; i++) {
+                parents[i] = Arrays.copyOfRange(nodes, i * WIDTH, Math.min((i + 1) * WIDTH, nodes.length),
+                        Object[].class);
+            }
+
+            nodes = parents;
+            shift += BITS;
+        }
+
+        return new TaskVector(size, shift, Arrays.copyOf(nodes, nodes.length, Object[].class), tail, source);
+    }
+
+    /**
+     * Returns the position of the first task in the tail of a vector of the given size.
+     */
+    private static int getTailOffset(int size) {
+        return size == 0 ? 0 : (size - 1) & ~MASK;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Task get(int index) {
+        Object entry = this.getEntry(index);
+        return entry instanceof Task ? (Task) entry : source.get((Integer) entry);
+    }
+
+    /**
+     * Returns the task at the given index if it has been decoded, or null if it is a line that has not been read.
+     */
+    Task getIfDecoded(int index) {
+        Object entry = this.getEntry(index);
+        return entry instanceof Task ? (Task) entry : source.getIfDecoded((Integer) entry);
+    }
+
+    /**
+     * Returns the line of the lazily decoded list that the task at the given index was loaded from, or -1 if it was
+     * added or changed since.
+     */
+    int getLine(int index) {
+        Object entry = this.getEntry(index);
+        return entry instanceof Task ? -1 : (Integer) entry;
+    }
+
+    /**
+     * Appends the data file representation of the task at the given index, copying the line of a task that has not
+     * been decoded rather than decoding it.
+     *
+     * @param index Index of the task.
+     * @param builder Builder to append to.
+     * @return The builder.
+     */
+    StringBuilder appendDataString(int index, StringBuilder builder) {
+        Object entry = this.getEntry(index);
+        return entry instanceof Task
+                ? ((Task) entry).appendDataString(builder)
+                : source.appendDataString((Integer) entry, builder);
+    }
+
+    /**
+     * Calls the action with each task decoded so far, in order, without decoding any other task.
+     *
+     * @param action Action to call with each decoded task.
+     */
+    void forEachDecoded(Consumer<Task> action) {
+        for (int i = 0; i < size; i++) {
+            Task task = this.getIfDecoded(i);
+
+            if (task != null) {
+                action.accept(task);
+            }
+        }
+    }
+
+    private Object getEntry(int index) {
+        Objects.checkIndex(index, size);
+        return this.getNodeOf(index)[index & MASK];
+    }
+
+    /**
+     * Returns the array that holds the task at a position, which is either the tail or one of the lowest nodes.
+     */
+    private Object[] getNodeOf(int index) {
+        if (index >= getTailOffset(size)) {
+            return tail;
+        }
+
+        Object[] node = root;
+
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+
+        return node;
+    }
+
+    /**
+     * Returns a vector with the task added to the end.
+     *
+     * @param task Task to be added.
+     */
+    TaskVector append(Task task) {
+        if (size - getTailOffset(size) < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = task;
+            return new TaskVector(size + 1, shift, root, newTail, source);
+        }
+
+        // The tail is full, so it moves into the tree and the task starts a new tail
+        Object[] newRoot;
+        int newShift = shift;
+
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[] {root, newPath(shift, tail)};
+            newShift += BITS;
+        } else {
+            newRoot = this.pushTail(shift, root, tail);
+        }
+
+        return new TaskVector(size + 1, newShift, newRoot, new Object[] {task}, source);
+    }
+
+    /**
+     * Returns a copy of the node with the full tail added as its last lowest node.
+     */
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int childIndex = ((size - 1) >>> level) & MASK;
+        Object[] newParent = Arrays.copyOf(parent, Math.max(parent.length, childIndex + 1));
+
+        if (level == BITS) {
+            newParent[childIndex] = tailNode;
+        } else if (childIndex < parent.length) {
+            newParent[childIndex] = this.pushTail(level - BITS, (Object[]) parent[childIndex], tailNode);
+        } else {
+            newParent[childIndex] = newPath(level - BITS, tailNode);
+        }
+
+        return newParent;
+    }
+
+    /**
+     * Returns a chain of nodes with a single child each, down to the given node.
+     */
+    private static Object[] newPath(int level, Object[] node) {
+        return level == 0 ? node : new Object[] {newPath(level - BITS, node)};
+    }
+
+    /**
+     * Returns a vector with the task at a position replaced.
+     *
+     * @param index Position of the task to replace.
+     * @param task Task to put in its place.
+     */
+    TaskVector with(int index, Task task) {
+        Objects.checkIndex(index, size);
+
+        if (index >= getTailOffset(size)) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = task;
+            return new TaskVector(size, shift, root, newTail, source);
+        }
+
+        return new TaskVector(size, shift, replaceIn(shift, root, index, task), tail, source);
+    }
+
+    private static Object[] replaceIn(int level, Object[] node, int index, Task task) {
+        Object[] newNode = node.clone();
+
+        if (level == 0) {
+            newNode[index & MASK] = task;
+        } else {
+            int childIndex = (index >>> level) & MASK;
+            newNode[childIndex] = replaceIn(level - BITS, (Object[]) node[childIndex], index, task);
+        }
+
+        return newNode;
+    }
+
+    /**
+     * Builder of a vector from tasks and the entries of other vectors, which keeps tasks that have not been decoded
+     * as they are.
+     */
+    static class Builder {
+        private Object[] entries;
+        private int size;
+        private LazyTaskList source;
+
+        /**
+         * Constructor for Builder.
+         *
+         * @param capacity Expected number of tasks.
+         */
+        Builder(int capacity) {
+            this.entries = new Object[Math.max(capacity, 1)];
+        }
+
+        /**
+         * Adds a task to the end.
+         *
+         * @param task Task to be added.
+         * @return The builder.
+         */
+        Builder add(Task task) {
+            return this.addEntry(task);
+        }
+
+        /**
+         * Adds the task at an index of another vector to the end, without decoding it.
+         *
+         * @param vector Vector the task is in.
+         * @param index Index of the task in the vector.
+         * @return The builder.
+         */
+        Builder addFrom(TaskVector vector, int index) {
+            assert source == null || vector.source == null || source == vector.source
+                    : "Tasks should only be decoded from one list";
+
+            if (vector.source != null) {
+                this.source = vector.source;
+            }
+
+            return this.addEntry(vector.getEntry(index));
+        }
+
+        private Builder addEntry(Object entry) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+
+            entries[size++] = entry;
+            return this;
+        }
+
+        /**
+         * Returns the vector of the tasks added so far. The builder must not be used afterwards.
+         */
+        TaskVector build() {
+            return TaskVector.build(entries, size, source);
+        }
+    }
+}
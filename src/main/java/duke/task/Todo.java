@@ -26,12 +26,19 @@ public class Todo extends Task {
     }
 
     @Override
-    public String getDataString() {
-        return String.join(" | ", Todo.SYMBOL, super.isCompleted ? "1" : "0", super.getDescription());
+    Task copy() {
+        return this.copyStateTo(new Todo(description, isCompleted));
     }
 
     @Override
-    public String toString() {
-        return String.format("[%s]%s", Todo.SYMBOL, super.toString());
+    public StringBuilder appendDataString(StringBuilder builder) {
+        super.appendDataPrefix(builder, Todo.SYMBOL);
+        return super.appendDataMetadata(builder);
+    }
+
+    @Override
+    public StringBuilder appendTo(StringBuilder builder) {
+        builder.append('[').append(Todo.SYMBOL).append(']');
+        return super.appendLabels(super.appendTo(builder));
     }
 }
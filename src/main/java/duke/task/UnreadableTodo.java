@@ -0,0 +1,46 @@
+package duke.task;
+
+/**
+ * Represents a line of the data file that could not be decoded into a task.
+ * It is shown as a todo with the line as its description, but it is written back to the data file as the
+ * original line until the user changes it, so that loading and saving the file does not rewrite the line.
+ */
+class UnreadableTodo extends Todo {
+    private String line;
+
+    /**
+     * Constructor for UnreadableTodo.
+     *
+     * @param line Line of the data file, without its line break.
+     */
+    UnreadableTodo(String line) {
+        super(line);
+        this.line = line;
+    }
+
+    /**
+     * Returns a copy that still writes back the original line while it is unchanged.
+     */
+    @Override
+    Task copy() {
+        UnreadableTodo copy = new UnreadableTodo(line);
+        copy.description = description;
+        copy.isCompleted = isCompleted;
+        return this.copyStateTo(copy);
+    }
+
+    /**
+     * Appends the original line if the task is unchanged since it was loaded, or the todo it became otherwise.
+     */
+    @Override
+    public StringBuilder appendDataString(StringBuilder builder) {
+        boolean isUnchanged = line.equals(description) && !isCompleted && tags.isEmpty()
+                && priority == Priority.NONE && recurrence == null;
+
+        if (isUnchanged) {
+            return builder.append(line);
+        }
+
+        return super.appendDataString(builder);
+    }
+}
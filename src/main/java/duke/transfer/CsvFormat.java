@@ -0,0 +1,199 @@
+package duke.transfer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import duke.core.DukeException;
+import duke.task.Task;
+
+/**
+ * Comma separated values, with a row of column names followed by a row for each task, as read by spreadsheets.
+ * Fields with commas, quotes or line breaks are quoted as in RFC 4180. Columns are matched by name when importing,
+ * so they may be in any order and columns that are not task fields are ignored.
+ */
+class CsvFormat extends TaskFormat {
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    /* A quote that is never closed would otherwise read the rest of the file into one row. */
+    private static final int MAX_ROW_LENGTH = 1024 * 1024;
+
+    @Override
+    public String getExtension() {
+        return ".csv";
+    }
+
+    @Override
+    public Stream<String> encode(Stream<Task> tasks) {
+        StringBuilder header = new StringBuilder();
+        appendRow(header, TaskFields.NAMES.toArray(new String[0]));
+
+        StringBuilder row = new StringBuilder();
+        return Stream.concat(Stream.of(header.toString()), tasks.map(task -> {
+            row.setLength(0);
+            return appendRow(row, TaskFields.toFields(task)).toString();
+        }));
+    }
+
+    private static StringBuilder appendRow(StringBuilder builder, String[] fields) {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+
+            if (fields[i] != null) {
+                appendField(builder, fields[i]);
+            }
+        }
+
+        return builder.append(LINE_SEPARATOR);
+    }
+
+    private static void appendField(StringBuilder builder, String field) {
+        boolean isQuoted = field.isEmpty() || field.charAt(0) == ' ' || field.charAt(field.length() - 1) == ' ';
+
+        for (int i = 0; i < field.length() && !isQuoted; i++) {
+            char c = field.charAt(i);
+            isQuoted = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+
+        if (!isQuoted) {
+            builder.append(field);
+            return;
+        }
+
+        builder.append('"');
+
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+
+            // Quotes in a quoted field are doubled
+            if (c == '"') {
+                builder.append('"');
+            }
+
+            builder.append(c);
+        }
+
+        builder.append('"');
+    }
+
+    @Override
+    public TaskReader createReader(Iterator<String> lines) {
+        return new Reader(lines);
+    }
+
+    /**
+     * Reader of the rows of a CSV file, which finds the columns from the first row.
+     */
+    private static class Reader extends TaskReader {
+        private List<String> columnNames;
+
+        private Reader(Iterator<String> lines) {
+            super(lines);
+        }
+
+        @Override
+        public Task readTask() throws DukeException {
+            if (columnNames == null) {
+                List<String> header = this.readRow();
+
+                if (header == null) {
+                    return null;
+                }
+
+                columnNames = new ArrayList<>(header.size());
+                header.forEach(columnName -> columnNames.add(columnName.trim().toLowerCase()));
+
+                if (!columnNames.contains(TaskFields.DESCRIPTION)) {
+                    throw new DukeException(String.format("The first row should name the columns, e.g. %s.",
+                            String.join(",", TaskFields.NAMES)));
+                }
+            }
+
+            List<String> row = this.readRow();
+
+            if (row == null) {
+                return null;
+            }
+
+            Map<String, String> fields = new HashMap<>();
+
+            for (int i = 0; i < row.size() && i < columnNames.size(); i++) {
+                fields.put(columnNames.get(i), row.get(i));
+            }
+
+            return TaskFields.toTask(fields);
+        }
+
+        /**
+         * Reads the fields of the next row that is not empty, joining lines while a quoted field is open.
+         *
+         * @return Fields of the row, or null if there are no more rows.
+         * @throws DukeException If a quoted field is not closed.
+         */
+        private List<String> readRow() throws DukeException {
+            String line = this.nextLine();
+
+            while (line != null && line.isEmpty()) {
+                line = this.nextLine();
+            }
+
+            if (line == null) {
+                return null;
+            }
+
+            this.startRecord();
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean isInQuotes = false;
+            int rowLength = 0;
+            int i = 0;
+
+            while (true) {
+                if (i == line.length()) {
+                    if (!isInQuotes) {
+                        fields.add(field.toString());
+                        return fields;
+                    }
+
+                    rowLength += line.length();
+                    line = this.nextLine();
+
+                    if (line == null || rowLength > MAX_ROW_LENGTH) {
+                        throw new DukeException("A quoted field is not closed. Please end it with a quote.");
+                    }
+
+                    field.append('\n');
+                    i = 0;
+                    continue;
+                }
+
+                char c = line.charAt(i++);
+
+                if (isInQuotes) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < line.length() && line.charAt(i) == '"') {
+                        // Quotes in a quoted field are doubled
+                        field.append('"');
+                        i++;
+                    } else {
+                        isInQuotes = false;
+                    }
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '"' && field.length() == 0) {
+                    isInQuotes = true;
+                } else {
+                    field.append(c);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,684 @@
+package duke.transfer;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import duke.core.DukeException;
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Recurrence;
+import duke.task.Task;
+import duke.task.Task.Priority;
+import duke.task.Task.TaskType;
+
+/**
+ * iCalendar (.ics), as read by calendar apps. Todos and deadlines are VTODO components, with the due date of a
+ * deadline as its DUE, and events are VEVENT components. Repeating tasks have an RRULE.
+ * Dates without a time are whole days, so the DTEND of an event that has no times is the day after it ends.
+ * Events have no completion status in iCalendar, so theirs is kept in extension properties that other apps ignore.
+ */
+class ICalendarFormat extends TaskFormat {
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final String EVENT_PROPERTY_PREFIX = "X-DUKE-";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    /* Categories become tags, which can only have letters, digits, "-" and "_", and are at most 32 characters. */
+    private static final Pattern TAG_SEPARATOR_PATTERN = Pattern.compile("[^\\p{L}\\p{N}_-]+");
+    private static final int MAX_TAG_LENGTH = 32;
+
+    private static final Pattern WEEKS_PATTERN = Pattern.compile("([+-]?)P(\\d+)W");
+
+    @Override
+    public String getExtension() {
+        return ".ics";
+    }
+
+    @Override
+    public Stream<String> encode(Stream<Task> tasks) {
+        String stamp = formatUtc(LocalDateTime.now(ZoneOffset.UTC));
+        StringBuilder header = new StringBuilder();
+        appendLine(header, "BEGIN:VCALENDAR");
+        appendLine(header, "VERSION:2.0");
+        appendLine(header, "PRODID:-//Duke//Tasks//EN");
+
+        StringBuilder component = new StringBuilder();
+        long[] taskCount = new long[1];
+        Stream<String> components = tasks.map(task -> {
+            component.setLength(0);
+            taskCount[0]++;
+            return appendComponent(component, task, String.format("%s-%d@duke", stamp, taskCount[0]), stamp)
+                    .toString();
+        });
+
+        return Stream.concat(Stream.concat(Stream.of(header.toString()), components),
+                Stream.of("END:VCALENDAR" + LINE_SEPARATOR));
+    }
+
+    private static StringBuilder appendComponent(StringBuilder builder, Task task, String uid, String stamp) {
+        boolean isEvent = task instanceof Event;
+        String componentName = isEvent ? "VEVENT" : "VTODO";
+        TemporalAccessor first = null;
+
+        appendLine(builder, "BEGIN:" + componentName);
+        appendLine(builder, "UID:" + uid);
+        appendLine(builder, "DTSTAMP:" + stamp);
+        appendLine(builder, "SUMMARY:" + escape(task.getDescription()));
+
+        if (task instanceof Deadline) {
+            first = ((Deadline) task).getDueDatetime();
+            appendDateLine(builder, "DUE", first);
+        } else if (isEvent) {
+            first = ((Event) task).getStartDatetime();
+            TemporalAccessor end = ((Event) task).getEndDatetime();
+            appendDateLine(builder, "DTSTART", first);
+            appendDateLine(builder, "DTEND", end instanceof LocalDate ? ((LocalDate) end).plusDays(1) : end);
+        }
+
+        String statusPrefix = isEvent ? EVENT_PROPERTY_PREFIX : "";
+        LocalDate completedDate = task.getCompletedDate();
+
+        if (task.isCompleted()) {
+            appendLine(builder, statusPrefix + "STATUS:COMPLETED");
+
+            if (completedDate != null) {
+                LocalDateTime completedTime = completedDate.atStartOfDay(ZoneId.systemDefault())
+                        .withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
+                appendLine(builder, statusPrefix + "COMPLETED:" + formatUtc(completedTime));
+            }
+        } else if (!isEvent) {
+            appendLine(builder, "STATUS:NEEDS-ACTION");
+        }
+
+        if (task.getPriority() != Priority.NONE) {
+            appendLine(builder, "PRIORITY:" + toICalendarPriority(task.getPriority()));
+        }
+
+        if (!task.getTags().isEmpty()) {
+            appendLine(builder, "CATEGORIES:" + String.join(",", task.getTags()));
+        }
+
+        Recurrence recurrence = task.getRecurrence();
+
+        if (recurrence != null) {
+            appendLine(builder, createRule(recurrence, first));
+        }
+
+        appendLine(builder, "END:" + componentName);
+        return builder;
+    }
+
+    private static String createRule(Recurrence recurrence, TemporalAccessor first) {
+        StringBuilder rule = new StringBuilder("RRULE:FREQ=").append(recurrence.getFrequency().name());
+
+        if (recurrence.getInterval() != 1) {
+            rule.append(";INTERVAL=").append(recurrence.getInterval());
+        }
+
+        LocalDate until = recurrence.getUntil();
+
+        // The end of a rule has the same type as the first occurrence
+        if (until != null && first instanceof LocalDateTime) {
+            DATE_TIME_FORMATTER.formatTo(until.atTime(23, 59, 59), rule.append(";UNTIL="));
+        } else if (until != null) {
+            DATE_FORMATTER.formatTo(until, rule.append(";UNTIL="));
+        }
+
+        return rule.toString();
+    }
+
+    private static int toICalendarPriority(Priority priority) {
+        switch (priority) {
+        case HIGH:
+            return 1;
+        case MEDIUM:
+            return 5;
+        case LOW:
+            return 9;
+        default:
+            return 0;
+        }
+    }
+
+    private static void appendDateLine(StringBuilder builder, String name, TemporalAccessor dateTime) {
+        if (dateTime instanceof LocalDateTime) {
+            appendLine(builder, name + ":" + DATE_TIME_FORMATTER.format(dateTime));
+        } else {
+            appendLine(builder, name + ";VALUE=DATE:" + DATE_FORMATTER.format(dateTime));
+        }
+    }
+
+    private static String formatUtc(LocalDateTime dateTime) {
+        return DATE_TIME_FORMATTER.format(dateTime) + "Z";
+    }
+
+    /**
+     * Appends a content line, folding it onto lines that start with a space so no line is longer than 75 bytes.
+     */
+    private static void appendLine(StringBuilder builder, String line) {
+        int lineOctets = 0;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            int octets = getUtf8Length(c);
+
+            if (lineOctets + octets > MAX_LINE_OCTETS) {
+                builder.append(LINE_SEPARATOR).append(' ');
+                lineOctets = 1;
+            }
+
+            builder.append(c);
+            lineOctets += octets;
+
+            // A surrogate pair is one character, so it is never split across lines
+            if (Character.isHighSurrogate(c) && i + 1 < line.length()) {
+                builder.append(line.charAt(++i));
+            }
+        }
+
+        builder.append(LINE_SEPARATOR);
+    }
+
+    private static int getUtf8Length(char c) {
+        if (c < 0x80) {
+            return 1;
+        } else if (c < 0x800) {
+            return 2;
+        } else if (Character.isHighSurrogate(c)) {
+            return 4;
+        } else {
+            return 3;
+        }
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (c == '\\' || c == ';' || c == ',') {
+                escaped.append('\\').append(c);
+            } else if (c == '\n') {
+                escaped.append("\\n");
+            } else if (c != '\r') {
+                escaped.append(c);
+            }
+        }
+
+        return escaped.toString();
+    }
+
+    private static String unescape(String text) {
+        StringBuilder unescaped = new StringBuilder(text.length());
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (c != '\\' || i + 1 == text.length()) {
+                unescaped.append(c);
+                continue;
+            }
+
+            char escaped = text.charAt(++i);
+            unescaped.append(escaped == 'n' || escaped == 'N' ? '\n' : escaped);
+        }
+
+        return unescaped.toString();
+    }
+
+    @Override
+    public TaskReader createReader(Iterator<String> lines) {
+        return new Reader(lines);
+    }
+
+    /**
+     * Property of a component, e.g. "DTSTART;TZID=Europe/Paris:20240201T090000".
+     */
+    private static class Property {
+        private String name;
+        private Map<String, String> parameters;
+        private String value;
+
+        private Property(String name, Map<String, String> parameters, String value) {
+            this.name = name;
+            this.parameters = parameters;
+            this.value = value;
+        }
+
+        /**
+         * Parses a content line after it is unfolded.
+         *
+         * @throws DukeException If the line is not a property.
+         */
+        private static Property parse(String line) throws DukeException {
+            int nameEnd = 0;
+
+            while (nameEnd < line.length() && line.charAt(nameEnd) != ';' && line.charAt(nameEnd) != ':') {
+                nameEnd++;
+            }
+
+            String name = line.substring(0, nameEnd).trim().toUpperCase();
+            Map<String, String> parameters = new HashMap<>();
+            int position = nameEnd;
+
+            while (position < line.length() && line.charAt(position) == ';') {
+                int equals = line.indexOf('=', position);
+
+                if (equals == -1) {
+                    break;
+                }
+
+                String parameterName = line.substring(position + 1, equals).trim().toUpperCase();
+                int valueStart = equals + 1;
+                int valueEnd;
+
+                // Quoted parameter values may contain ";" and ":"
+                if (valueStart < line.length() && line.charAt(valueStart) == '"') {
+                    valueEnd = line.indexOf('"', valueStart + 1);
+                    valueEnd = valueEnd == -1 ? line.length() : valueEnd;
+                    parameters.put(parameterName, line.substring(valueStart + 1, valueEnd));
+                    position = Math.min(valueEnd + 1, line.length());
+                } else {
+                    valueEnd = valueStart;
+
+                    while (valueEnd < line.length() && line.charAt(valueEnd) != ';' && line.charAt(valueEnd) != ':') {
+                        valueEnd++;
+                    }
+
+                    parameters.put(parameterName, line.substring(valueStart, valueEnd));
+                    position = valueEnd;
+                }
+            }
+
+            if (name.isEmpty() || position == line.length() || line.charAt(position) != ':') {
+                throw new DukeException(String.format("Line \"%s\" is not an iCalendar property.", line));
+            }
+
+            return new Property(name, parameters, line.substring(position + 1));
+        }
+    }
+
+    /**
+     * Reader of the VTODO and VEVENT components of an iCalendar file. Other components, such as time zones, and
+     * components nested in tasks, such as alarms, are skipped.
+     */
+    private static class Reader extends TaskReader {
+        /* Next line, read ahead to find out whether it continues the line before. */
+        private String nextLine;
+        private int nextLineNumber;
+        private boolean hasNextLine;
+
+        private int contentLineNumber;
+
+        private Reader(Iterator<String> lines) {
+            super(lines);
+        }
+
+        @Override
+        public Task readTask() throws DukeException {
+            String line;
+
+            while ((line = this.readContentLine()) != null) {
+                Property property;
+
+                try {
+                    property = Property.parse(line);
+                } catch (DukeException e) {
+                    // Lines outside of tasks are not needed
+                    continue;
+                }
+
+                String componentName = property.value.trim().toUpperCase();
+                boolean isTask = componentName.equals("VTODO") || componentName.equals("VEVENT");
+
+                if (property.name.equals("BEGIN") && isTask) {
+                    this.startRecord(contentLineNumber);
+                    return this.readComponent(componentName);
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Reads the next line with the lines that continue it, which start with a space or a tab.
+         */
+        private String readContentLine() {
+            String line = hasNextLine ? nextLine : this.nextLine();
+            contentLineNumber = hasNextLine ? nextLineNumber : this.getLineNumber();
+            hasNextLine = false;
+
+            if (line == null) {
+                return null;
+            }
+
+            StringBuilder unfoldedLine = null;
+
+            while (true) {
+                String followingLine = this.nextLine();
+
+                if (followingLine == null || followingLine.isEmpty()
+                        || (followingLine.charAt(0) != ' ' && followingLine.charAt(0) != '\t')) {
+                    nextLine = followingLine;
+                    nextLineNumber = this.getLineNumber();
+                    hasNextLine = true;
+                    break;
+                }
+
+                if (unfoldedLine == null) {
+                    unfoldedLine = new StringBuilder(line);
+                }
+
+                unfoldedLine.append(followingLine, 1, followingLine.length());
+            }
+
+            return unfoldedLine == null ? line : unfoldedLine.toString();
+        }
+
+        private Task readComponent(String componentName) throws DukeException {
+            Map<String, Property> properties = new HashMap<>();
+            List<String> categories = new ArrayList<>();
+            int nestedDepth = 0;
+
+            while (true) {
+                String line = this.readContentLine();
+
+                if (line == null) {
+                    throw new DukeException(String.format("The %s is not ended with END:%s.", componentName,
+                            componentName));
+                }
+
+                Property property = Property.parse(line);
+
+                if (property.name.equals("BEGIN")) {
+                    nestedDepth++;
+                } else if (property.name.equals("END") && nestedDepth == 0) {
+                    break;
+                } else if (property.name.equals("END")) {
+                    nestedDepth--;
+                } else if (nestedDepth == 0 && property.name.equals("CATEGORIES")) {
+                    categories.add(property.value);
+                } else if (nestedDepth == 0) {
+                    properties.putIfAbsent(property.name, property);
+                }
+            }
+
+            return createTask(componentName.equals("VEVENT"), properties, categories);
+        }
+
+        private static Task createTask(boolean isEvent, Map<String, Property> properties, List<String> categories)
+                throws DukeException {
+            Map<String, String> parameterMap = new HashMap<>();
+            TaskType taskType = TaskType.TODO;
+            TemporalAccessor first = null;
+
+            if (properties.containsKey("SUMMARY")) {
+                parameterMap.put("default", unescape(properties.get("SUMMARY").value));
+            }
+
+            if (isEvent) {
+                taskType = TaskType.EVENT;
+                first = parseDateTime(properties.get("DTSTART"));
+                TemporalAccessor end = getEnd(first, properties);
+
+                if (first != null) {
+                    parameterMap.put("from", formatInputDate(first));
+                    parameterMap.put("to", formatInputDate(end));
+                }
+            } else if (properties.containsKey("DUE")) {
+                taskType = TaskType.DEADLINE;
+                first = parseDateTime(properties.get("DUE"));
+                parameterMap.put("by", formatInputDate(first));
+            }
+
+            String statusPrefix = isEvent ? EVENT_PROPERTY_PREFIX : "";
+            Property status = properties.get(statusPrefix + "STATUS");
+            boolean isCompleted = status != null && status.value.trim().equalsIgnoreCase("COMPLETED");
+            Property completed = properties.get(statusPrefix + "COMPLETED");
+
+            if (completed != null) {
+                parameterMap.put("done", formatInputDate(LocalDate.from(parseDateTime(completed))));
+            }
+
+            if (properties.containsKey("PRIORITY")) {
+                parameterMap.put("priority", parsePriority(properties.get("PRIORITY").value));
+            }
+
+            String tags = toTags(categories);
+
+            if (!tags.isEmpty()) {
+                parameterMap.put("tags", tags);
+            }
+
+            if (properties.containsKey("RRULE")) {
+                putRule(parameterMap, properties.get("RRULE").value, first);
+            }
+
+            parameterMap.values().removeIf(value -> value == null);
+            return TaskReader.createTask(taskType, isCompleted, parameterMap);
+        }
+
+        /**
+         * Returns the end of an event from its DTEND or DURATION. The end of an event without either is its start.
+         * The DTEND of a whole day event is the day after it ends.
+         */
+        private static TemporalAccessor getEnd(TemporalAccessor start, Map<String, Property> properties)
+                throws DukeException {
+            if (start == null) {
+                return null;
+            }
+
+            if (properties.containsKey("DTEND")) {
+                TemporalAccessor end = parseDateTime(properties.get("DTEND"));
+
+                if (start instanceof LocalDate && end instanceof LocalDate && ((LocalDate) end).isAfter(
+                        (LocalDate) start)) {
+                    return ((LocalDate) end).minusDays(1);
+                }
+
+                return end;
+            }
+
+            if (!properties.containsKey("DURATION")) {
+                return start;
+            }
+
+            Duration duration = parseDuration(properties.get("DURATION").value.trim());
+
+            if (start instanceof LocalDateTime) {
+                return ((LocalDateTime) start).plus(duration);
+            }
+
+            return ((LocalDate) start).plusDays(Math.max(0, duration.toDays() - 1));
+        }
+
+        private static Duration parseDuration(String value) throws DukeException {
+            Matcher weeksMatcher = WEEKS_PATTERN.matcher(value);
+
+            try {
+                if (weeksMatcher.matches()) {
+                    return Duration.ofDays(7 * Long.parseLong(weeksMatcher.group(2)));
+                }
+
+                return Duration.parse(value);
+            } catch (DateTimeParseException | ArithmeticException | NumberFormatException e) {
+                throw new DukeException(String.format("Duration \"%s\" is invalid.", value));
+            }
+        }
+
+        /**
+         * Parses the value of a date (and time) property. Times in UTC or in a named time zone are converted to the
+         * local time zone, and times without a zone are taken as local times.
+         *
+         * @return LocalDate or LocalDateTime, or null if the property is null.
+         * @throws DukeException If the value is not a date or date and time.
+         */
+        private static TemporalAccessor parseDateTime(Property property) throws DukeException {
+            if (property == null) {
+                return null;
+            }
+
+            String value = property.value.trim();
+
+            try {
+                if (value.length() == "yyyyMMdd".length()) {
+                    return LocalDate.parse(value, DATE_FORMATTER);
+                }
+
+                if (value.endsWith("Z")) {
+                    return LocalDateTime.parse(value.substring(0, value.length() - 1), DATE_TIME_FORMATTER)
+                            .atOffset(ZoneOffset.UTC).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime()
+                            .truncatedTo(ChronoUnit.MINUTES);
+                }
+
+                LocalDateTime dateTime = LocalDateTime.parse(value, DATE_TIME_FORMATTER);
+                String zoneName = property.parameters.get("TZID");
+
+                if (zoneName != null) {
+                    try {
+                        dateTime = dateTime.atZone(ZoneId.of(zoneName)).withZoneSameInstant(ZoneId.systemDefault())
+                                .toLocalDateTime();
+                    } catch (DateTimeException e) {
+                        // Zones that are only defined in the file are taken as the local time zone
+                    }
+                }
+
+                return dateTime.truncatedTo(ChronoUnit.MINUTES);
+            } catch (DateTimeParseException e) {
+                throw new DukeException(String.format("Date \"%s\" of %s is invalid.", value, property.name));
+            }
+        }
+
+        private static String parsePriority(String value) throws DukeException {
+            int priority;
+
+            try {
+                priority = Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                throw new DukeException(String.format("Priority \"%s\" is invalid.", value));
+            }
+
+            if (priority >= 1 && priority <= 4) {
+                return Priority.HIGH.toString();
+            } else if (priority == 5) {
+                return Priority.MEDIUM.toString();
+            } else if (priority >= 6 && priority <= 9) {
+                return Priority.LOW.toString();
+            } else {
+                return null;
+            }
+        }
+
+        /**
+         * Turns the categories into tags, replacing characters that tags cannot have with "-".
+         */
+        private static String toTags(List<String> categories) {
+            List<String> tags = new ArrayList<>();
+
+            for (String categoryList : categories) {
+                for (String category : categoryList.split("(?<!\\\\),")) {
+                    String tag = TAG_SEPARATOR_PATTERN.matcher(unescape(category).trim()).replaceAll("-")
+                            .replaceAll("^-+|-+$", "");
+                    tag = tag.length() > MAX_TAG_LENGTH ? tag.substring(0, MAX_TAG_LENGTH) : tag;
+
+                    if (!tag.isEmpty()) {
+                        tags.add(tag);
+                    }
+                }
+            }
+
+            return String.join(",", tags);
+        }
+
+        /**
+         * Puts the parameters of a repeating task from a rule such as "FREQ=WEEKLY;INTERVAL=2;UNTIL=20240601".
+         * A rule with a number of occurrences repeats until the date of the last one. Only rules that repeat on
+         * the day of the first occurrence are supported.
+         */
+        private static void putRule(Map<String, String> parameterMap, String rule, TemporalAccessor first)
+                throws DukeException {
+            Map<String, String> parts = new HashMap<>();
+
+            for (String part : rule.trim().toUpperCase().split(";")) {
+                String[] keyValue = part.split("=", 2);
+                parts.put(keyValue[0], keyValue.length == 2 ? keyValue[1] : "");
+            }
+
+            String frequency = parts.getOrDefault("FREQ", "");
+            LocalDate firstDate = first == null ? null : LocalDate.from(first);
+
+            for (Map.Entry<String, String> part : parts.entrySet()) {
+                if (!isSupportedRulePart(part.getKey(), part.getValue(), frequency, firstDate)) {
+                    throw new DukeException(String.format("Repeat rule \"%s\" is not supported. Only tasks that "
+                            + "repeat on the same day every few weeks or months can be imported.", rule));
+                }
+            }
+
+            parameterMap.put("repeat", frequency.toLowerCase());
+            parameterMap.put("every", parts.get("INTERVAL"));
+
+            if (parts.containsKey("UNTIL")) {
+                TemporalAccessor until = parseDateTime(new Property("UNTIL", Map.of(), parts.get("UNTIL")));
+                parameterMap.put("until", formatInputDate(LocalDate.from(until)));
+            } else if (parts.containsKey("COUNT") && firstDate != null) {
+                long count;
+                long interval;
+
+                try {
+                    count = Long.parseLong(parts.get("COUNT"));
+                    interval = Long.parseLong(parts.getOrDefault("INTERVAL", "1"));
+                } catch (NumberFormatException e) {
+                    throw new DukeException(String.format("Repeat rule \"%s\" is invalid.", rule));
+                }
+
+                ChronoUnit unit = frequency.equals("WEEKLY") ? ChronoUnit.WEEKS : ChronoUnit.MONTHS;
+                parameterMap.put("until", formatInputDate(firstDate.plus(Math.max(0, count - 1) * interval, unit)));
+            }
+        }
+
+        private static boolean isSupportedRulePart(String key, String value, String frequency, LocalDate firstDate) {
+            switch (key) {
+            case "FREQ":
+                return value.equals("WEEKLY") || value.equals("MONTHLY");
+            case "INTERVAL":
+            case "UNTIL":
+            case "COUNT":
+            case "WKST":
+                return true;
+            case "BYDAY":
+                // Only the day of the first occurrence, which is how calendar apps often write weekly rules
+                return frequency.equals("WEEKLY") && firstDate != null && value.equals(toDayCode(firstDate));
+            case "BYMONTHDAY":
+                return frequency.equals("MONTHLY") && firstDate != null
+                        && value.equals(String.valueOf(firstDate.getDayOfMonth()));
+            default:
+                return false;
+            }
+        }
+
+        private static String toDayCode(LocalDate date) {
+            DayOfWeek dayOfWeek = date.getDayOfWeek();
+            return dayOfWeek.name().substring(0, 2);
+        }
+    }
+}
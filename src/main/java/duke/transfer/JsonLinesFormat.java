@@ -0,0 +1,364 @@
+package duke.transfer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import duke.core.DukeException;
+import duke.task.Task;
+
+/**
+ * JSON Lines, with a JSON object on each line for each task, e.g.
+ * {"type":"deadline","description":"Report","done":false,"due":"2024-02-01T18:00","tags":["work"]}.
+ * Fields a task does not have are left out. Keys that are not task fields are ignored when importing.
+ */
+class JsonLinesFormat extends TaskFormat {
+    private static final String LINE_SEPARATOR = "\n";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("-?\\d+(\\.\\d+)?([eE][+-]?\\d+)?");
+
+    @Override
+    public String getExtension() {
+        return ".jsonl";
+    }
+
+    @Override
+    public Stream<String> encode(Stream<Task> tasks) {
+        StringBuilder line = new StringBuilder();
+        return tasks.map(task -> {
+            line.setLength(0);
+            return appendObject(line, TaskFields.toFields(task)).append(LINE_SEPARATOR).toString();
+        });
+    }
+
+    /**
+     * Appends the task as a JSON object with the same keys as a line of the file.
+     */
+    static StringBuilder appendTask(StringBuilder builder, Task task) {
+        return appendObject(builder, TaskFields.toFields(task));
+    }
+
+    /**
+     * Reads text that holds a single JSON object, keeping the values of its keys as text.
+     */
+    static Map<String, String> readObject(String text) throws DukeException {
+        return new Reader(List.<String>of().iterator()).readWhole(text);
+    }
+
+    private static StringBuilder appendObject(StringBuilder builder, String[] fields) {
+        builder.append('{');
+        boolean isFirst = true;
+
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == null) {
+                continue;
+            }
+
+            String name = TaskFields.NAMES.get(i);
+            builder.append(isFirst ? "" : ",");
+            isFirst = false;
+
+            appendString(builder, name).append(':');
+
+            switch (name) {
+            case TaskFields.DONE:
+            case TaskFields.EVERY:
+                builder.append(fields[i]);
+                break;
+            case TaskFields.TAGS:
+                builder.append('[');
+                String[] tags = fields[i].split(" ");
+
+                for (int j = 0; j < tags.length; j++) {
+                    appendString(builder.append(j == 0 ? "" : ","), tags[j]);
+                }
+
+                builder.append(']');
+                break;
+            default:
+                appendString(builder, fields[i]);
+            }
+        }
+
+        return builder.append('}');
+    }
+
+    private static StringBuilder appendString(StringBuilder builder, String value) {
+        builder.append('"');
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            switch (c) {
+            case '"':
+                builder.append("\\\"");
+                break;
+            case '\\':
+                builder.append("\\\\");
+                break;
+            case '\n':
+                builder.append("\\n");
+                break;
+            case '\r':
+                builder.append("\\r");
+                break;
+            case '\t':
+                builder.append("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    builder.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+                } else {
+                    builder.append(c);
+                }
+            }
+        }
+
+        return builder.append('"');
+    }
+
+    @Override
+    public TaskReader createReader(Iterator<String> lines) {
+        return new Reader(lines);
+    }
+
+    /**
+     * Reader of the objects of a JSON Lines file. Only objects whose values are strings, numbers, booleans, null or
+     * arrays of these are read, as that is all a task has.
+     */
+    private static class Reader extends TaskReader {
+        private String line;
+        private int position;
+
+        private Reader(Iterator<String> lines) {
+            super(lines);
+        }
+
+        @Override
+        public Task readTask() throws DukeException {
+            line = this.nextLine();
+
+            while (line != null && line.isBlank()) {
+                line = this.nextLine();
+            }
+
+            if (line == null) {
+                return null;
+            }
+
+            this.startRecord();
+            return TaskFields.toTask(this.readWhole(line));
+        }
+
+        /**
+         * Reads text that must hold exactly one object.
+         */
+        private Map<String, String> readWhole(String text) throws DukeException {
+            line = text;
+            position = 0;
+            this.skipWhitespace();
+            Map<String, String> fields = this.readObject();
+            this.skipWhitespace();
+
+            if (position < line.length()) {
+                throw this.createSyntaxError("the end of the line");
+            }
+
+            return fields;
+        }
+
+        /**
+         * Reads an object, keeping the values of its keys as text. Arrays are joined with commas.
+         */
+        private Map<String, String> readObject() throws DukeException {
+            Map<String, String> fields = new HashMap<>();
+            this.expect('{');
+            this.skipWhitespace();
+
+            if (this.peek() == '}') {
+                position++;
+                return fields;
+            }
+
+            do {
+                this.skipWhitespace();
+                String key = this.readString();
+                this.skipWhitespace();
+                this.expect(':');
+                this.skipWhitespace();
+
+                if (this.peek() == '[') {
+                    fields.put(key, this.readArray());
+                } else {
+                    fields.put(key, this.readValue());
+                }
+
+                this.skipWhitespace();
+            } while (this.accept(','));
+
+            this.expect('}');
+            return fields;
+        }
+
+        private String readArray() throws DukeException {
+            List<String> values = new ArrayList<>();
+            this.expect('[');
+            this.skipWhitespace();
+
+            if (this.accept(']')) {
+                return "";
+            }
+
+            do {
+                this.skipWhitespace();
+                String value = this.readValue();
+
+                if (value != null) {
+                    values.add(value);
+                }
+
+                this.skipWhitespace();
+            } while (this.accept(','));
+
+            this.expect(']');
+            return String.join(",", values);
+        }
+
+        /**
+         * Reads a string, number, boolean or null, returning null for null.
+         */
+        private String readValue() throws DukeException {
+            char c = this.peek();
+
+            if (c == '"') {
+                return this.readString();
+            }
+
+            int start = position;
+
+            while (position < line.length() && "+-.0123456789eEtrufalsn".indexOf(line.charAt(position)) >= 0) {
+                position++;
+            }
+
+            String value = line.substring(start, position);
+
+            switch (value) {
+            case "":
+                throw this.createSyntaxError("a string, number, true, false or null");
+            case "null":
+                return null;
+            case "true":
+            case "false":
+                return value;
+            default:
+                if (!NUMBER_PATTERN.matcher(value).matches()) {
+                    throw this.createSyntaxError("a string, number, true, false or null");
+                }
+
+                return value;
+            }
+        }
+
+        private String readString() throws DukeException {
+            this.expect('"');
+            StringBuilder value = new StringBuilder();
+
+            while (position < line.length()) {
+                char c = line.charAt(position++);
+
+                if (c == '"') {
+                    return value.toString();
+                }
+
+                if (c != '\\') {
+                    value.append(c);
+                    continue;
+                }
+
+                if (position == line.length()) {
+                    break;
+                }
+
+                char escaped = line.charAt(position++);
+
+                switch (escaped) {
+                case 'n':
+                    value.append('\n');
+                    break;
+                case 'r':
+                    value.append('\r');
+                    break;
+                case 't':
+                    value.append('\t');
+                    break;
+                case 'b':
+                    value.append('\b');
+                    break;
+                case 'f':
+                    value.append('\f');
+                    break;
+                case 'u':
+                    value.append(this.readHexCharacter());
+                    break;
+                default:
+                    // Quotes, backslashes and slashes stand for themselves
+                    value.append(escaped);
+                }
+            }
+
+            throw this.createSyntaxError("a closing quote");
+        }
+
+        private char readHexCharacter() throws DukeException {
+            if (position + 4 > line.length()) {
+                throw this.createSyntaxError("four hex digits");
+            }
+
+            try {
+                char c = (char) Integer.parseInt(line.substring(position, position + 4), 16);
+                position += 4;
+                return c;
+            } catch (NumberFormatException e) {
+                throw this.createSyntaxError("four hex digits");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+                position++;
+            }
+        }
+
+        private char peek() throws DukeException {
+            if (position == line.length()) {
+                throw this.createSyntaxError("more of the object");
+            }
+
+            return line.charAt(position);
+        }
+
+        private boolean accept(char expected) {
+            if (position < line.length() && line.charAt(position) == expected) {
+                position++;
+                return true;
+            }
+
+            return false;
+        }
+
+        private void expect(char expected) throws DukeException {
+            if (!this.accept(expected)) {
+                throw this.createSyntaxError("\"" + expected + "\"");
+            }
+        }
+
+        private DukeException createSyntaxError(String expected) {
+            return new DukeException(String.format("Invalid JSON at column %d. Expected %s.", position + 1,
+                    expected));
+        }
+    }
+}
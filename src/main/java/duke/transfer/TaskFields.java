@@ -0,0 +1,196 @@
+package duke.transfer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAccessor;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import duke.core.DukeException;
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Recurrence;
+import duke.task.Task;
+import duke.task.Task.Priority;
+import duke.task.Task.TaskType;
+
+/**
+ * Named fields of a task, as written by formats that name each field, such as CSV columns or JSON keys.
+ * Dates are in ISO 8601 form, e.g. "2024-02-01" or "2024-02-01T18:00", which other tools read and write.
+ */
+final class TaskFields {
+    static final String TYPE = "type";
+    static final String DESCRIPTION = "description";
+    static final String DONE = "done";
+    static final String DUE = "due";
+    static final String START = "start";
+    static final String END = "end";
+    static final String COMPLETED = "completed";
+    static final String PRIORITY = "priority";
+    static final String TAGS = "tags";
+    static final String REPEAT = "repeat";
+    static final String EVERY = "every";
+    static final String UNTIL = "until";
+
+    /** Names of all fields, in the order they are written. */
+    static final List<String> NAMES = List.of(TYPE, DESCRIPTION, DONE, DUE, START, END, COMPLETED, PRIORITY, TAGS,
+            REPEAT, EVERY, UNTIL);
+
+    private TaskFields() {
+    }
+
+    /**
+     * Returns the fields of a task in the order of {@link #NAMES}, with null for fields the task does not have.
+     * Tags are separated by spaces.
+     */
+    static String[] toFields(Task task) {
+        String type = "todo";
+        String due = null;
+        String start = null;
+        String end = null;
+
+        if (task instanceof Deadline) {
+            type = "deadline";
+            due = formatDate(((Deadline) task).getDueDatetime());
+        } else if (task instanceof Event) {
+            type = "event";
+            start = formatDate(((Event) task).getStartDatetime());
+            end = formatDate(((Event) task).getEndDatetime());
+        }
+
+        LocalDate completedDate = task.getCompletedDate();
+        String completed = task.isCompleted() && completedDate != null ? formatDate(completedDate) : null;
+        String priority = task.getPriority() == Priority.NONE ? null : task.getPriority().toString();
+        String tags = task.getTags().isEmpty() ? null : String.join(" ", task.getTags());
+        Recurrence recurrence = task.getRecurrence();
+        String repeat = null;
+        String every = null;
+        String until = null;
+
+        if (recurrence != null) {
+            repeat = recurrence.getFrequency().toString();
+            every = recurrence.getInterval() == 1 ? null : String.valueOf(recurrence.getInterval());
+            until = recurrence.getUntil() == null ? null : formatDate(recurrence.getUntil());
+        }
+
+        return new String[] {type, task.getDescription(), String.valueOf(task.isCompleted()), due, start, end,
+            completed, priority, tags, repeat, every, until};
+    }
+
+    /**
+     * Creates a task from its named fields. Missing and blank fields are left out.
+     * Without a type, a task with a due date is a deadline, a task with a start is an event, and any other task is
+     * a todo.
+     *
+     * @param fields Fields of the task by name.
+     * @return Task.
+     * @throws DukeException If a field or the task is invalid.
+     */
+    static Task toTask(Map<String, String> fields) throws DukeException {
+        String due = get(fields, DUE);
+        String start = get(fields, START);
+        String typeName = get(fields, TYPE);
+        TaskType taskType;
+
+        if (typeName != null) {
+            taskType = parseType(typeName);
+        } else if (due != null) {
+            taskType = TaskType.DEADLINE;
+        } else if (start != null) {
+            taskType = TaskType.EVENT;
+        } else {
+            taskType = TaskType.TODO;
+        }
+
+        Map<String, String> parameterMap = new HashMap<>();
+        putIfPresent(parameterMap, "default", get(fields, DESCRIPTION));
+        putIfPresent(parameterMap, "by", parseInputDate(due));
+        putIfPresent(parameterMap, "from", parseInputDate(start));
+        putIfPresent(parameterMap, "to", parseInputDate(get(fields, END)));
+        putIfPresent(parameterMap, "done", parseInputDate(get(fields, COMPLETED)));
+        putIfPresent(parameterMap, "priority", get(fields, PRIORITY));
+        putIfPresent(parameterMap, "tags", get(fields, TAGS));
+        putIfPresent(parameterMap, "repeat", get(fields, REPEAT));
+        putIfPresent(parameterMap, "every", get(fields, EVERY));
+        putIfPresent(parameterMap, "until", parseInputDate(get(fields, UNTIL)));
+
+        return TaskReader.createTask(taskType, parseDone(get(fields, DONE)), parameterMap);
+    }
+
+    private static String get(Map<String, String> fields, String name) {
+        String value = fields.get(name);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static void putIfPresent(Map<String, String> parameterMap, String key, String value) {
+        if (value != null) {
+            parameterMap.put(key, value);
+        }
+    }
+
+    private static TaskType parseType(String typeName) throws DukeException {
+        switch (typeName.toLowerCase()) {
+        case "todo":
+            return TaskType.TODO;
+        case "deadline":
+            return TaskType.DEADLINE;
+        case "event":
+            return TaskType.EVENT;
+        default:
+            throw new DukeException(String.format("Task type \"%s\" is invalid. Please use todo, deadline or event.",
+                    typeName));
+        }
+    }
+
+    private static boolean parseDone(String done) throws DukeException {
+        if (done == null) {
+            return false;
+        }
+
+        switch (done.toLowerCase()) {
+        case "true":
+        case "1":
+            return true;
+        case "false":
+        case "0":
+            return false;
+        default:
+            throw new DukeException(String.format("Done \"%s\" is invalid. Please use true or false.", done));
+        }
+    }
+
+    /**
+     * Formats a date (and time) in ISO 8601 form, e.g. "2024-02-01" or "2024-02-01T18:00".
+     */
+    static String formatDate(TemporalAccessor dateTime) {
+        return dateTime.toString();
+    }
+
+    /**
+     * Parses a date (and time) in ISO 8601 form, also allowing a space instead of "T" as spreadsheets often write.
+     * Seconds are dropped, as tasks only have times to the minute.
+     *
+     * @param date Date (and time), e.g. "2024-02-01" or "2024-02-01 18:00".
+     * @return LocalDate or LocalDateTime.
+     * @throws DukeException If the date is invalid.
+     */
+    static TemporalAccessor parseDate(String date) throws DukeException {
+        try {
+            if (date.length() <= "yyyy-MM-dd".length()) {
+                return LocalDate.parse(date);
+            }
+
+            return LocalDateTime.parse(date.replace(' ', 'T')).truncatedTo(ChronoUnit.MINUTES);
+        } catch (DateTimeParseException e) {
+            throw new DukeException(String.format("Date \"%s\" is invalid. Please use the format \"YYYY-MM-DD\" or "
+                    + "\"YYYY-MM-DDTHH:MM\".", date));
+        }
+    }
+
+    private static String parseInputDate(String date) throws DukeException {
+        return date == null ? null : TaskReader.formatInputDate(parseDate(date));
+    }
+}
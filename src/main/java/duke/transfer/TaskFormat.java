@@ -0,0 +1,97 @@
+package duke.transfer;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import duke.core.DukeException;
+import duke.task.Task;
+
+/**
+ * Format of a file that tasks are exported to and imported from, so they can be moved to and from other tools.
+ * Tasks are encoded and decoded one at a time, so files of any size can be streamed through.
+ */
+public abstract class TaskFormat {
+    /* Files are kept in the data directory, so names cannot contain separators or start with a dot. */
+    private static final Pattern FILE_NAME_PATTERN = Pattern.compile("[A-Za-z0-9_-][A-Za-z0-9_.-]{0,127}");
+
+    private static final List<TaskFormat> FORMATS = List.of(
+            new CsvFormat(), new JsonLinesFormat(), new ICalendarFormat());
+
+    /**
+     * Returns the format of a file from the extension of its name, e.g. ".csv".
+     *
+     * @param fileName Name of the file.
+     * @return Format of the file.
+     * @throws DukeException If the name is invalid or has no known extension.
+     */
+    public static TaskFormat ofFileName(String fileName) throws DukeException {
+        if (fileName == null || fileName.isBlank()) {
+            throw new DukeException("No file name specified. Please specify a file name, e.g. tasks.csv.");
+        }
+
+        if (!FILE_NAME_PATTERN.matcher(fileName).matches()) {
+            throw new DukeException(String.format("File name \"%s\" is invalid.\n"
+                    + "File names can only have letters, digits, \".\", \"-\" and \"_\", and are kept in the data "
+                    + "directory.", fileName));
+        }
+
+        for (TaskFormat format : FORMATS) {
+            if (fileName.toLowerCase().endsWith(format.getExtension())) {
+                return format;
+            }
+        }
+
+        throw new DukeException(String.format("Please use a file name ending in %s.", FORMATS.stream()
+                .map(TaskFormat::getExtension)
+                .collect(Collectors.joining(", "))));
+    }
+
+    /**
+     * Appends the task as a JSON object, with the same keys as a line of a JSON Lines file.
+     *
+     * @param builder Builder to append to.
+     * @param task Task to encode.
+     * @return The builder.
+     */
+    public static StringBuilder appendJson(StringBuilder builder, Task task) {
+        return JsonLinesFormat.appendTask(builder, task);
+    }
+
+    /**
+     * Reads text that holds a single JSON object whose values are strings, numbers, booleans, null or arrays of
+     * these. Values are kept as text, and arrays are joined with commas.
+     *
+     * @param text Text of the object.
+     * @return Values of the keys of the object, which are null for null.
+     * @throws DukeException If the text is not a single such object.
+     */
+    public static Map<String, String> readJsonObject(String text) throws DukeException {
+        return JsonLinesFormat.readObject(text);
+    }
+
+    /**
+     * Returns the extension of files in the format, e.g. ".csv".
+     */
+    public abstract String getExtension();
+
+    /**
+     * Encodes the tasks as the text of a file, including anything that comes before or after the tasks.
+     * The text is produced as the returned stream is read.
+     *
+     * @param tasks Tasks to encode, in order.
+     * @return Pieces of the text, each with its own line separators.
+     */
+    public abstract Stream<String> encode(Stream<Task> tasks);
+
+    /**
+     * Creates a reader that decodes the tasks in the lines of a file.
+     *
+     * @param lines Lines of the file, without line separators.
+     * @return Reader of the tasks.
+     */
+    public abstract TaskReader createReader(Iterator<String> lines);
+}
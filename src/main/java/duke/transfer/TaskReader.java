@@ -0,0 +1,145 @@
+package duke.transfer;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import duke.command.AddCommand;
+import duke.core.DukeException;
+import duke.task.Task;
+import duke.task.Task.TaskType;
+
+/**
+ * Reader of the tasks in a file, which decodes one task at a time from the lines of the file.
+ * Each task is checked the same way as a task added by the user.
+ */
+public abstract class TaskReader {
+    private static final DateTimeFormatter INPUT_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final DateTimeFormatter INPUT_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy HHmm");
+
+    /* Each task is one line of the data file, and " | " separates its fields there. */
+    private static final Pattern LINE_BREAK_PATTERN = Pattern.compile("\\s*\\R\\s*");
+    private static final Pattern FIELD_SEPARATOR_PATTERN = Pattern.compile(" \\| ");
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private Iterator<String> lines;
+    private int lineNumber;
+    private int recordLineNumber;
+
+    /**
+     * Constructor for TaskReader.
+     *
+     * @param lines Lines of the file, without line separators.
+     */
+    protected TaskReader(Iterator<String> lines) {
+        this.lines = lines;
+    }
+
+    /**
+     * Reads the next task.
+     * If the task is invalid, the lines it was read from are skipped, so the task after it can still be read.
+     *
+     * @return Next task, or null if there are no more.
+     * @throws DukeException If the next task is invalid.
+     */
+    public abstract Task readTask() throws DukeException;
+
+    /**
+     * Returns the line number, from 1, of the first line of the last task read.
+     */
+    public int getRecordLineNumber() {
+        return this.recordLineNumber;
+    }
+
+    /**
+     * Returns the next line of the file, or null at the end of the file.
+     * A byte order mark at the start of the file, as written by some spreadsheets, is dropped.
+     */
+    protected String nextLine() {
+        if (!lines.hasNext()) {
+            return null;
+        }
+
+        String line = lines.next();
+        lineNumber++;
+
+        if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK) {
+            return line.substring(1);
+        }
+
+        return line;
+    }
+
+    /**
+     * Returns the line number, from 1, of the last line read.
+     */
+    protected int getLineNumber() {
+        return this.lineNumber;
+    }
+
+    /**
+     * Marks the last line read as the first line of the task being read.
+     */
+    protected void startRecord() {
+        this.recordLineNumber = this.lineNumber;
+    }
+
+    /**
+     * Marks the line with the given number as the first line of the task being read, for readers that read ahead.
+     */
+    protected void startRecord(int lineNumber) {
+        this.recordLineNumber = lineNumber;
+    }
+
+    /**
+     * Creates a task from parameters in the form the add commands and the data file take them, e.g. "by" with a
+     * date of "01-02-2024 1800", and checks it the same way.
+     * Line breaks in the description are replaced with spaces, as each task is stored on a line of its own.
+     *
+     * @param taskType Type of the task.
+     * @param isCompleted Whether the task is done.
+     * @param parameterMap Parameters of the task, with the description as "default".
+     * @return Task.
+     * @throws DukeException If the task is invalid.
+     */
+    protected static Task createTask(TaskType taskType, boolean isCompleted, Map<String, String> parameterMap)
+            throws DukeException {
+        String description = parameterMap.get("default");
+
+        /* Most descriptions have neither, so the patterns are only run when they could match. */
+        if (description != null && hasLineBreakOrSeparator(description)) {
+            description = LINE_BREAK_PATTERN.matcher(description.trim()).replaceAll(" ");
+            parameterMap.put("default", FIELD_SEPARATOR_PATTERN.matcher(description).replaceAll(" / "));
+        } else if (description != null) {
+            parameterMap.put("default", description.trim());
+        }
+
+        return new AddCommand(parameterMap, taskType, isCompleted, true).createTask();
+    }
+
+    private static boolean hasLineBreakOrSeparator(String description) {
+        for (int i = 0; i < description.length(); i++) {
+            char c = description.charAt(i);
+
+            if (c == '\n' || c == '\r' || c == '\u000B' || c == '\f' || c == '\u0085' || c == '\u2028'
+                    || c == '\u2029' || c == '|') {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Formats a date (and time) the way the add commands take it, e.g. "01-02-2024 1800".
+     */
+    protected static String formatInputDate(TemporalAccessor dateTime) {
+        return dateTime instanceof LocalDateTime
+                ? INPUT_DATE_TIME_FORMATTER.format(dateTime)
+                : INPUT_DATE_FORMATTER.format(dateTime);
+    }
+}
@@ -1,8 +1,11 @@
 package duke.ui;
 
 import duke.core.Duke;
+import duke.task.TaskSummary;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
+import javafx.scene.control.Label;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
@@ -21,6 +24,8 @@ public class MainWindow extends AnchorPane {
     private TextField userInput;
     @FXML
     private Button sendButton;
+    @FXML
+    private Label statusBar;
 
     private Duke duke;
 
@@ -41,6 +46,7 @@ public class MainWindow extends AnchorPane {
 
     public void setDuke(Duke d) {
         duke = d;
+        this.updateStatusBar();
     }
 
     /**
@@ -51,10 +57,41 @@ public class MainWindow extends AnchorPane {
     private void handleUserInput() {
         String input = userInput.getText();
         String response = duke.getResponse(input);
+        String notice;
+
+        while ((notice = duke.pollNotice()) != null) {
+            dialogContainer.getChildren().add(DialogBox.getDukeDialog(notice, catImage));
+        }
+
         dialogContainer.getChildren().addAll(
                 DialogBox.getUserDialog(input, userImage),
                 DialogBox.getDukeDialog(response, catImage)
         );
         userInput.clear();
+        this.updateStatusBar();
+    }
+
+    /**
+     * Shows a reminder as a dialog box. Can be called from any thread.
+     *
+     * @param reminder Message of the reminder.
+     */
+    public void showReminder(String reminder) {
+        Platform.runLater(() -> {
+            dialogContainer.getChildren().add(DialogBox.getDukeDialog(reminder, catImage));
+            this.updateStatusBar();
+        });
+    }
+
+    /**
+     * Shows the counts of the current task list in the status bar. The counts are kept up to date by the task list,
+     * so this does not look at the tasks.
+     */
+    private void updateStatusBar() {
+        TaskSummary summary = duke.getSummary();
+        int openCount = summary.getTotalCount() - summary.getCompletedCount();
+
+        statusBar.setText(String.format("%d tasks, %d open, %d overdue, %d events this week",
+                summary.getTotalCount(), openCount, summary.getOverdueCount(), summary.getEventsThisWeekCount()));
     }
 }
@@ -0,0 +1,94 @@
+package duke.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class BatchRunnerTest {
+
+    @Test
+    public void run_failingLine_reportedAndChangesFlushedOnce() {
+        try {
+            Path directory = Files.createTempDirectory("duke-test");
+            ByteArrayOutputStream errors = new ByteArrayOutputStream();
+            BatchRunner runner = new BatchRunner(new Duke(directory.toString()), 0,
+                    new PrintStream(errors, true, StandardCharsets.UTF_8));
+            String script = "# Shopping\n"
+                    + "todo Milk\n"
+                    + "\n"
+                    + "mark 99\n"
+                    + "todo Bread\n";
+
+            BatchRunner.Statistics statistics = runner.run(new BufferedReader(new StringReader(script)));
+
+            assertEquals(3, statistics.getCommandCount());
+            assertEquals(1, statistics.getFailedCount());
+            assertEquals(1, statistics.getCheckpointCount());
+            assertTrue(errors.toString(StandardCharsets.UTF_8).startsWith("Line 4: "));
+            assertEquals(List.of("T | 0 | Milk", "T | 0 | Bread"), Files.readAllLines(directory.resolve("tasks.txt")));
+        } catch (IOException | DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void run_checkpointInterval_writtenEveryInterval() {
+        try {
+            Path directory = Files.createTempDirectory("duke-test");
+            BatchRunner runner = new BatchRunner(new Duke(directory.toString()), 2, System.err);
+            String script = "todo A\ntodo B\ntodo C\ntodo D\ntodo E\nbye\ntodo F\n";
+
+            BatchRunner.Statistics statistics = runner.run(new BufferedReader(new StringReader(script)));
+
+            // Written after the 2nd and 4th commands, and for the 5th at the end. Nothing runs after bye.
+            assertEquals(5, statistics.getCommandCount());
+            assertEquals(3, statistics.getCheckpointCount());
+            assertEquals(5, Files.readAllLines(directory.resolve("tasks.txt")).size());
+        } catch (IOException | DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void run_readFailsThenFlushFails_readFailureThrownWithFlushSuppressed() {
+        try {
+            Path directory = Files.createTempDirectory("duke-test");
+            BatchRunner runner = new BatchRunner(new Duke(directory.toString()), 0, System.err);
+            // The data file cannot be written while a directory is in the way of its temporary file
+            Files.createDirectories(directory.resolve("tasks.txt.tmp"));
+            BufferedReader reader = new BufferedReader(new StringReader("")) {
+                private boolean hasReadLine;
+
+                @Override
+                public String readLine() throws IOException {
+                    if (hasReadLine) {
+                        throw new IOException();
+                    }
+
+                    hasReadLine = true;
+                    return "todo Milk";
+                }
+            };
+
+            runner.run(reader);
+            fail();
+        } catch (DukeException e) {
+            assertEquals("An error occured while reading the script.", e.getMessage());
+            assertEquals(1, e.getSuppressed().length);
+        } catch (IOException e) {
+            fail();
+        }
+    }
+}
@@ -8,9 +8,13 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
+import java.util.BitSet;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import duke.task.Task;
+
 public class ParserTest {
     @Test
     public void parseDateTimeInput_invalidInput_exceptionThrown() {
@@ -61,4 +65,111 @@ public class ParserTest {
             fail();
         }
     }
+
+    @Test
+    public void parseTaskNumbers_listAndRanges_success() {
+        try {
+            BitSet result = Parser.parseTaskNumbers("1-3, 5,7-7");
+            assertEquals("{0, 1, 2, 4, 6}", result.toString());
+        } catch (DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void parseTaskNumbers_negativeNumber_exceptionThrown() {
+        try {
+            Parser.parseTaskNumbers("-100");
+            fail();
+        } catch (DukeException e) {
+            assertEquals("Task number cannot be negative.\nPlease retry with a valid task number.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void parseTaskNumbers_hugeNumberOrRange_exceptionThrown() {
+        for (String taskNumbers : List.of("2000000000", "1-2147483647")) {
+            try {
+                Parser.parseTaskNumbers(taskNumbers);
+                fail();
+            } catch (DukeException e) {
+                assertEquals("Task number provided does not exist.", e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void parseCommand_dateFlagWithoutValue_missingDateReported() {
+        String[][] commandsAndMessages = {
+            {"deadline x /by", "No due date/time specified. Please specify a due date/time."},
+            {"event x /from /to 02-02-2023", "No start date/time specified. Please specify a start date/time."},
+            {"edit 1 /by", "Nothing to change. Please specify a new description, or new dates with /by, "
+                    + "/from or /to."}
+        };
+
+        for (String[] commandAndMessage : commandsAndMessages) {
+            try {
+                Parser.parseCommand(commandAndMessage[0]);
+                fail();
+            } catch (DukeException e) {
+                assertEquals(commandAndMessage[1], e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void parseTaskNumbers_reversedRange_exceptionThrown() {
+        try {
+            Parser.parseTaskNumbers("5-2");
+            fail();
+        } catch (DukeException e) {
+            assertEquals("Task range \"5-2\" is invalid.\n"
+                    + "Please make sure the first task number is not larger than the second.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void parseTaskDataString_completedDate_loaded() {
+        try {
+            Task task = Parser.parseTaskDataString("D | 1 | Report | 03-04-2023 1530 | done=05-04-2023").createTask();
+            assertEquals(LocalDate.of(2023, 4, 5), task.getCompletedDate());
+            assertEquals("D | 1 | Report | 03-04-2023 1530 | done=05-04-2023", task.getDataString());
+        } catch (DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void parseTags_mixedSeparatorsAndCase_normalized() {
+        try {
+            assertEquals(List.of("urgent", "work"), Parser.parseTags("#Urgent, work  urgent"));
+        } catch (DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void parseTaskDataString_tags_loaded() {
+        try {
+            Task task = Parser.parseTaskDataString("T | 0 | Call Bob | tags=urgent,work").createTask();
+            assertEquals(List.of("urgent", "work"), task.getTags());
+            assertEquals("T | 0 | Call Bob | tags=urgent,work", task.getDataString());
+        } catch (DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void parseTaskDataString_recurrence_loaded() {
+        String dataString = "E | 0 | Standup | 01-01-2024 0900 | 01-01-2024 0915 | repeat=weekly | every=2"
+                + " | until=30-06-2024";
+
+        try {
+            Task task = Parser.parseTaskDataString(dataString).createTask();
+            assertEquals(2, task.getRecurrence().getInterval());
+            assertEquals(dataString, task.getDataString());
+        } catch (DukeException e) {
+            fail();
+        }
+    }
 }
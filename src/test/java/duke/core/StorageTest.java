@@ -0,0 +1,140 @@
+package duke.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import duke.task.Deadline;
+import duke.task.Task;
+import duke.task.TaskList;
+import duke.task.Todo;
+
+public class StorageTest {
+
+    @Test
+    public void writeTasks_manyTasks_readBackInOrder() {
+        List<Task> tasks = new ArrayList<>();
+
+        // Enough tasks to fill the buffers several times, with characters that take more than one byte
+        for (int i = 0; i < 20000; i++) {
+            tasks.add(i % 2 == 0
+                    ? new Todo("Caf\u00e9 visit " + i + " \uD83D\uDE00")
+                    : new Deadline("Report " + i, LocalDate.of(2023, 1, 1).plusDays(i % 365), true));
+        }
+
+        assertEquals(dataStrings(tasks), writeAndRead(tasks));
+    }
+
+    @Test
+    public void writeTasks_taskLongerThanBuffer_readBackWhole() {
+        List<Task> tasks = List.of(new Todo("Short"), new Todo("x".repeat(200000)), new Todo("After"));
+        assertEquals(dataStrings(tasks), writeAndRead(tasks));
+    }
+
+    @Test
+    public void writeTasks_overwritesFile_noTemporaryFileLeft() {
+        try {
+            Path directory = Files.createTempDirectory("duke-test");
+            Storage storage = new Storage(directory.toString());
+            storage.writeTasks("tasks.txt", List.of(new Todo("First"), new Todo("Second")));
+            storage.writeTasks("tasks.txt", List.of(new Todo("Third")));
+
+            assertEquals(List.of("T | 0 | Third"), Files.readAllLines(directory.resolve("tasks.txt")));
+            assertFalse(Files.exists(directory.resolve("tasks.txt.tmp")));
+        } catch (IOException | DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void writeTasks_lazyTaskList_copiesUnreadLines() {
+        String data = "T | 0 | Caf\u00e9\nD | 0 | Report | 03-04-2023 1530\nT | 0 | Last\n";
+        TaskList tasks = new TaskList(ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8)));
+
+        try {
+            tasks.markAsDone(2);
+        } catch (DukeException e) {
+            fail();
+        }
+
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
+        assertEquals(List.of("T | 0 | Caf\u00e9", "D | 0 | Report | 03-04-2023 1530", "T | 1 | Last | done=" + today),
+                writeAndRead(tasks.getSnapshot()));
+    }
+
+    @Test
+    public void appendCompressed_twice_readsBothAppends() {
+        try {
+            Storage storage = new Storage(Files.createTempDirectory("duke-test").toString());
+            storage.appendCompressed("archive.txt.gz", List.of(new Todo("First"), new Todo("Second")));
+            storage.appendCompressed("archive.txt.gz", List.of(new Todo("Third")));
+
+            try (Stream<String> lines = storage.readCompressed("archive.txt.gz")) {
+                assertEquals(List.of("T | 0 | First", "T | 0 | Second", "T | 0 | Third"),
+                        lines.collect(Collectors.toList()));
+            }
+        } catch (IOException | DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void watchFiles_externalWriteOnly_callbackRunOnce() {
+        try {
+            Path directory = Files.createTempDirectory("duke-test");
+            Storage storage = new Storage(directory.toString());
+            AtomicInteger changeCount = new AtomicInteger();
+            storage.watchFiles(".txt", fileName -> changeCount.incrementAndGet());
+
+            try {
+                storage.writeTasks("tasks.txt", List.of(new Todo("Own write")));
+                Files.writeString(directory.resolve("tasks.txt"), "T | 0 | Outside write\n");
+
+                for (int i = 0; i < 100 && changeCount.get() == 0; i++) {
+                    Thread.sleep(100);
+                }
+
+                // Leaves time for a late event about the own write, which should not count
+                Thread.sleep(500);
+                assertEquals(1, changeCount.get());
+            } finally {
+                storage.stopWatching();
+            }
+        } catch (IOException | InterruptedException | DukeException e) {
+            fail();
+        }
+    }
+
+    private static List<String> dataStrings(List<Task> tasks) {
+        return tasks.stream().map(Task::getDataString).collect(Collectors.toList());
+    }
+
+    private static List<String> writeAndRead(List<Task> tasks) {
+        try {
+            Storage storage = new Storage(Files.createTempDirectory("duke-test").toString());
+            storage.writeTasks("tasks.txt", tasks);
+
+            try (Stream<String> lines = storage.readFile("tasks.txt")) {
+                return lines.collect(Collectors.toList());
+            }
+        } catch (IOException | DukeException e) {
+            fail();
+            return null;
+        }
+    }
+}
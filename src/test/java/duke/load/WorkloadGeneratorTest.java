@@ -0,0 +1,73 @@
+package duke.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import duke.core.DukeException;
+import duke.load.WorkloadGenerator.CommandType;
+
+public class WorkloadGeneratorTest {
+
+    @Test
+    public void nextCommand_sameSeed_sameWorkload() {
+        WorkloadGenerator generator1 = new WorkloadGenerator(7, WorkloadGenerator.getDefaultWeights(), 10);
+        WorkloadGenerator generator2 = new WorkloadGenerator(7, WorkloadGenerator.getDefaultWeights(), 10);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(generator1.nextCommand(generator1.nextType()),
+                    generator2.nextCommand(generator2.nextType()));
+        }
+    }
+
+    @Test
+    public void nextCommand_markAndDelete_validTaskNumbers() {
+        Map<CommandType, Integer> weights = Map.of(CommandType.TODO, 1, CommandType.MARK, 1,
+                CommandType.DELETE, 2);
+        WorkloadGenerator generator = new WorkloadGenerator(42, weights, 0);
+        int taskCount = 0;
+
+        for (int i = 0; i < 1000; i++) {
+            CommandType type = generator.nextType();
+            String[] command = generator.nextCommand(type).split(" ");
+
+            if (type == CommandType.TODO) {
+                taskCount++;
+                continue;
+            }
+
+            int taskNumber = Integer.parseInt(command[1]);
+            assertTrue(taskNumber >= 1 && taskNumber <= taskCount);
+
+            if (type == CommandType.DELETE) {
+                taskCount--;
+            }
+        }
+
+        assertEquals(taskCount, generator.getTaskCount());
+    }
+
+    @Test
+    public void parseWeights_validMix_success() {
+        try {
+            Map<CommandType, Integer> weights = WorkloadGenerator.parseWeights("todo=3,find=1");
+            assertEquals(Map.of(CommandType.TODO, 3, CommandType.FIND, 1), weights);
+        } catch (DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void parseWeights_unknownCommand_exceptionThrown() {
+        try {
+            WorkloadGenerator.parseWeights("todo=3,list=1");
+            fail();
+        } catch (DukeException e) {
+            assertEquals("Invalid command mix: list=1", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package duke.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import duke.core.DukeException;
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Task;
+import duke.task.Task.Priority;
+import duke.task.TaskList;
+import duke.task.Todo;
+
+public class QueryTest {
+    private static final String[] TAGS = {"work", "home", "urgent"};
+
+    @Test
+    public void execute_indexedAndScannedConditions_matchesEveryCondition() {
+        TaskList tasks = createRandomTasks(new Random(7), 500);
+        String[] expressions = {
+            "tag:work",
+            "tag:work NOT done:yes",
+            "NOT tag:home AND tag:urgent AND \"task 1\"",
+            "tag:work AND (type:deadline OR type:event) date:10-01-2024..20-01-2024",
+            "priority:high OR tag:urgent AND NOT done:no",
+            "done:no date:>=15-02-2024",
+        };
+
+        try {
+            for (String expression : expressions) {
+                Condition condition = QueryParser.parse(expression);
+                List<Task> expected = tasks.getTasks().filter(condition::matches).collect(Collectors.toList());
+
+                assertEquals(expected, new Query(expression, null, 0).execute(tasks).getTasks());
+            }
+        } catch (DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void execute_indexedCondition_planReadsIndex() {
+        TaskList tasks = createRandomTasks(new Random(7), 100);
+
+        try {
+            assertTrue(new Query("tag:work \"task\"", null, 0).execute(tasks).getPlan().startsWith("Read tag:work"));
+            assertTrue(new Query("\"task\"", null, 0).execute(tasks).getPlan().startsWith("Scan all 100 tasks"));
+        } catch (DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void execute_sortWithLimit_firstTasksOfFullSort() {
+        TaskList tasks = createRandomTasks(new Random(11), 300);
+        Comparator<Task> byPriority = Comparator.comparing(Task::getPriority);
+
+        try {
+            List<Task> expected = tasks.getTasks().filter(task -> !task.isCompleted())
+                    .sorted(byPriority.reversed()).limit(20).collect(Collectors.toList());
+
+            assertEquals(expected, new Query("done:no", "priority desc", 20).execute(tasks).getTasks());
+        } catch (DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void parse_invalidQueries_exceptionThrown() {
+        String[] expressions = {"(tag:work", "tag:work)", "\"unclosed", "colour:red", "NOT", "date:someday",
+            "tag:a,b"};
+
+        for (String expression : expressions) {
+            try {
+                QueryParser.parse(expression);
+                fail();
+            } catch (DukeException e) {
+                // Expected
+            }
+        }
+    }
+
+    @Test
+    public void parse_comparisonWithoutDate_exceptionThrown() {
+        String[] operators = {"<", ">", "<=", ">="};
+
+        for (String operator : operators) {
+            try {
+                QueryParser.parse("date:" + operator);
+                fail();
+            } catch (DukeException e) {
+                assertEquals("Please specify a date after " + operator + ", e.g. date:" + operator + "01-02-2024.",
+                        e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void parse_comparisons_boundsOfRange() {
+        try {
+            assertEquals("date:..31-01-2024", QueryParser.parse("date:<01-02-2024").toString());
+            assertEquals("date:02-02-2024..", QueryParser.parse("date:>01-02-2024").toString());
+            assertEquals("date:..01-02-2024", QueryParser.parse("date:<=01-02-2024").toString());
+            assertEquals("date:01-02-2024..", QueryParser.parse("date:>=01-02-2024").toString());
+        } catch (DukeException e) {
+            fail();
+        }
+    }
+
+    private static TaskList createRandomTasks(Random random, int count) {
+        TaskList tasks = new TaskList();
+        LocalDate start = LocalDate.of(2024, 1, 1);
+
+        for (int i = 0; i < count; i++) {
+            LocalDate date = start.plusDays(random.nextInt(90));
+            Task task;
+
+            switch (random.nextInt(3)) {
+            case 0:
+                task = new Todo("Task " + i);
+                break;
+            case 1:
+                task = new Deadline("Task " + i, date);
+                break;
+            default:
+                task = new Event("Task " + i, date, date.plusDays(random.nextInt(5)));
+                break;
+            }
+
+            task.setTags(List.of(TAGS[random.nextInt(TAGS.length)]));
+            task.setPriority(Priority.values()[random.nextInt(Priority.values().length)]);
+
+            if (random.nextInt(3) == 0) {
+                task.markAsDone();
+            }
+
+            tasks.addTask(task);
+        }
+
+        return tasks;
+    }
+}
@@ -0,0 +1,114 @@
+package duke.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import duke.core.DukeException;
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Recurrence;
+import duke.task.Recurrence.Frequency;
+import duke.task.TaskList;
+
+public class ReminderSchedulerTest {
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 8, 0);
+
+    /**
+     * Clock whose time only moves when the test moves it.
+     */
+    private static class TestClock extends Clock {
+        private Instant instant = START.toInstant(ZoneOffset.UTC);
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+    }
+
+    @Test
+    public void sendDueReminders_markedAndDeletedTasks_onlyOpenTasksReminded() {
+        TestClock clock = new TestClock();
+        List<String> reminders = new ArrayList<>();
+        ReminderScheduler scheduler = new ReminderScheduler(Duration.ofMinutes(15), reminders::add, clock);
+        TaskList tasks = new TaskList();
+        tasks.setObserver(scheduler);
+
+        tasks.addTask(new Deadline("Report", START.plusHours(1)));
+        tasks.addTask(new Event("Meeting", START.plusHours(2), START.plusHours(3)));
+        tasks.addTask(new Deadline("Taxes", START.plusHours(1)));
+        tasks.addTask(new Deadline("Rent", LocalDate.of(2024, 1, 1)));
+        assertEquals(4, scheduler.size());
+
+        try {
+            tasks.markAsDone(2);
+            tasks.deleteTask(1);
+        } catch (DukeException e) {
+            fail();
+        }
+
+        assertEquals(2, scheduler.size());
+
+        // Report is reminded of 15 minutes before it is due, and Rent, which has no time, at 9am
+        clock.advance(Duration.ofMinutes(44));
+        scheduler.sendDueReminders();
+        assertEquals(List.of(), reminders);
+
+        clock.advance(Duration.ofMinutes(1));
+        scheduler.sendDueReminders();
+        assertEquals(List.of("Reminder: this deadline is due soon:\n  [D][ ] Report (by: 01 Jan 2024, 09:00AM)"),
+                reminders);
+
+        clock.advance(Duration.ofMinutes(15));
+        scheduler.sendDueReminders();
+        assertEquals("Reminder: this deadline is due soon:\n  [D][ ] Rent (by: 01 Jan 2024)", reminders.get(1));
+        assertEquals(0, scheduler.size());
+    }
+
+    @Test
+    public void sendDueReminders_weeklyEvent_nextOccurrenceScheduled() {
+        TestClock clock = new TestClock();
+        List<String> reminders = new ArrayList<>();
+        ReminderScheduler scheduler = new ReminderScheduler(Duration.ofMinutes(15), reminders::add, clock);
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Event("Standup", START.plusHours(1), START.plusHours(2))
+                .setRecurrence(new Recurrence(Frequency.WEEKLY, 1, null)));
+        tasks.setObserver(scheduler);
+
+        for (int week = 0; week < 3; week++) {
+            clock.advance(Duration.ofMinutes(45));
+            scheduler.sendDueReminders();
+            clock.advance(Duration.ofDays(7).minusMinutes(45));
+        }
+
+        assertEquals(3, reminders.size());
+        assertEquals("Reminder: this event is starting soon:\n"
+                + "  [E][ ] Standup (15 Jan 2024, 09:00AM - 15 Jan 2024, 10:00AM)", reminders.get(2));
+        assertEquals(1, scheduler.size());
+    }
+}
@@ -0,0 +1,75 @@
+package duke.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class TimingWheelTest {
+
+    @Test
+    public void advanceTo_randomSchedulesAndCancels_expiresOnTime() {
+        Random random = new Random(5);
+        long tick = 1_000_000;
+        TimingWheel<Integer> wheel = new TimingWheel<>(tick);
+        Map<Integer, TimingWheel.Timer<Integer>> pending = new HashMap<>();
+        List<Integer> expired = new ArrayList<>();
+
+        for (int i = 0; i < 20000; i++) {
+            int action = random.nextInt(10);
+
+            if (action < 5) {
+                // Delays from the next tick to beyond the span of every level
+                long delay = random.nextInt(4) == 0 ? random.nextInt(64) : (long) Math.pow(64, random.nextDouble() * 7);
+                pending.put(i, wheel.schedule(i, tick + delay));
+            } else if (action < 7 && !pending.isEmpty()) {
+                Integer value = new ArrayList<>(pending.keySet()).get(random.nextInt(pending.size()));
+                wheel.cancel(pending.remove(value));
+            } else {
+                long newTick = tick + (random.nextInt(10) == 0 ? random.nextInt(1 << 20) : random.nextInt(100));
+                wheel.advanceTo(newTick, expired::add);
+
+                for (int value : expired) {
+                    TimingWheel.Timer<Integer> timer = pending.remove(value);
+                    assertTrue(timer.getExpiryTick() <= newTick);
+                }
+
+                for (TimingWheel.Timer<Integer> timer : pending.values()) {
+                    assertTrue(timer.getExpiryTick() > newTick);
+                }
+
+                expired.clear();
+                tick = newTick;
+            }
+
+            assertEquals(pending.size(), wheel.size());
+        }
+    }
+
+    @Test
+    public void schedule_manyTimers_cancelledInConstantTime() {
+        TimingWheel<Integer> wheel = new TimingWheel<>(0);
+        List<TimingWheel.Timer<Integer>> timers = new ArrayList<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            timers.add(wheel.schedule(i, i % 5000));
+        }
+
+        for (int i = 0; i < timers.size(); i += 2) {
+            wheel.cancel(timers.get(i));
+        }
+
+        List<Integer> expired = new ArrayList<>();
+        wheel.advanceTo(5000, expired::add);
+
+        assertEquals(50_000, expired.size());
+        assertEquals(0, wheel.size());
+        assertTrue(expired.stream().allMatch(value -> value % 2 == 1));
+    }
+}
@@ -0,0 +1,128 @@
+package duke.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.Test;
+
+import duke.core.Duke;
+
+public class DukeServerTest {
+
+    /**
+     * Sends a request to the server and returns the status code and body, e.g. "200 {...}".
+     * A body is sent as JSON.
+     */
+    private static String send(DukeServer server, String method, String path, String body) throws IOException {
+        return send(server, method, path, body, "application/json", null);
+    }
+
+    /**
+     * Sends a request with the given content type and Origin header, either of which may be null.
+     * HttpClient is used as HttpURLConnection does not let the Origin header be set.
+     */
+    private static String send(DukeServer server, String method, String path, String body, String contentType,
+            String origin) throws IOException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                .method(method, body == null ? BodyPublishers.noBody() : BodyPublishers.ofString(body));
+
+        if (body != null && contentType != null) {
+            request.header("Content-Type", contentType);
+        }
+
+        if (origin != null) {
+            request.header("Origin", origin);
+        }
+
+        try {
+            HttpResponse<String> response = HttpClient.newHttpClient().send(request.build(), BodyHandlers.ofString());
+            return response.statusCode() + " " + response.body();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+    }
+
+    @Test
+    public void handle_addThenList_responsesAsJson() {
+        DukeServer server = null;
+
+        try {
+            server = new DukeServer(new Duke(Files.createTempDirectory("duke-test").toString()), 0);
+            server.start();
+
+            String task = "{\"type\":\"todo\",\"description\":\"Buy \\\"milk\\\"\",\"done\":false}";
+            assertEquals("200 {\"ok\":true,\"response\":\"Got it. I've added this task:\\n  [T][ ] Buy \\\"milk\\\"\\n"
+                    + "Now you have 1 tasks in the list.\",\"tasks\":[" + task + "]}",
+                    send(server, "POST", "/add", "{\"args\":\"todo Buy \\\"milk\\\"\"}"));
+            assertEquals("200 {\"ok\":true,\"response\":\"Here are the tasks in your list:\\n"
+                    + "1. [T][ ] Buy \\\"milk\\\"\\n\",\"tasks\":[" + task + "]}", send(server, "GET", "/list", null));
+            assertEquals("405 {\"ok\":false,\"error\":\"Method not allowed.\"}", send(server, "GET", "/delete", null));
+        } catch (IOException e) {
+            fail();
+        } finally {
+            if (server != null) {
+                server.stop(0);
+            }
+        }
+    }
+
+    @Test
+    public void handle_bodyOverLimit_rejectedWithoutRunning() {
+        DukeServer server = null;
+
+        try {
+            server = new DukeServer(new Duke(Files.createTempDirectory("duke-test").toString()), 0);
+            server.start();
+
+            String body = "{\"args\":\"todo " + "x".repeat(64 * 1024) + "\"}";
+            assertEquals("413 {\"ok\":false,\"error\":\"The request body is too long.\"}",
+                    send(server, "POST", "/add", body));
+            assertEquals("200 {\"ok\":true,\"response\":\"There are no tasks to list.\",\"tasks\":[]}",
+                    send(server, "GET", "/list", null));
+        } catch (IOException e) {
+            fail();
+        } finally {
+            if (server != null) {
+                server.stop(0);
+            }
+        }
+    }
+
+    @Test
+    public void handle_formBodyOrOtherOrigin_rejectedWithoutRunning() {
+        DukeServer server = null;
+
+        try {
+            server = new DukeServer(new Duke(Files.createTempDirectory("duke-test").toString()), 0);
+            server.start();
+
+            // A form on another site can send a plain body, but not one with a JSON content type
+            assertEquals("415 {\"ok\":false,\"error\":\"Please send a JSON body.\"}",
+                    send(server, "POST", "/add", "{\"args\":\"todo Forged\"}", "text/plain", null));
+            assertEquals("403 {\"ok\":false,\"error\":\"Requests from other sites are not allowed.\"}",
+                    send(server, "POST", "/add", "{\"args\":\"todo Forged\"}", "application/json",
+                            "http://example.com"));
+            assertEquals("403 {\"ok\":false,\"error\":\"Requests from other sites are not allowed.\"}",
+                    send(server, "GET", "/list", null, null, "http://example.com"));
+            assertEquals("200 {\"ok\":true,\"response\":\"There are no tasks to list.\",\"tasks\":[]}",
+                    send(server, "GET", "/list", null, null, "http://localhost:" + server.getPort()));
+        } catch (IOException e) {
+            fail();
+        } finally {
+            if (server != null) {
+                server.stop(0);
+            }
+        }
+    }
+}
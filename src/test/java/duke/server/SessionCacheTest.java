@@ -0,0 +1,61 @@
+package duke.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import duke.core.Duke;
+import duke.core.DukeException;
+
+public class SessionCacheTest {
+
+    @Test
+    public void execute_moreUsersThanMax_leastRecentlyUsedEvicted() {
+        try {
+            Path root = Files.createTempDirectory("duke-test");
+            List<String> loadedUsers = new ArrayList<>();
+            SessionCache sessions = new SessionCache(userId -> {
+                loadedUsers.add(userId);
+                return new Duke(root.resolve(userId).toString());
+            }, 2);
+
+            sessions.execute("Alice", "todo Alice's task");
+            sessions.execute("bob", "todo Bob's task");
+            sessions.execute("alice", "list");
+            sessions.execute("carol", "list");
+
+            assertEquals(2, sessions.size());
+            assertEquals(List.of("alice", "bob", "carol"), loadedUsers);
+
+            // Bob was evicted, so his list is loaded again with his task intact
+            String response = sessions.execute("bob", "list");
+            assertEquals(List.of("alice", "bob", "carol", "bob"), loadedUsers);
+            assertEquals("Here are the tasks in your list:\n1. [T][ ] Bob's task\n", response);
+        } catch (IOException | DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void execute_invalidUserId_exceptionThrown() {
+        SessionCache sessions = new SessionCache(userId -> {
+            fail();
+            return null;
+        }, 1);
+
+        try {
+            sessions.execute("../alice", "list");
+            fail();
+        } catch (DukeException e) {
+            assertEquals("User IDs can only have letters, digits, \"-\" and \"_\", "
+                    + "and be at most 64 characters long.", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package duke.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import duke.core.DukeException;
+
+public class HistoryTest {
+
+    @Test
+    public void undo_emptyHistory_returnsNull() {
+        TaskList tasks = new TaskList();
+        try {
+            assertNull(tasks.getHistory().undo(tasks));
+            assertNull(tasks.getHistory().redo(tasks));
+        } catch (DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void undo_deleteTasks_tasksRestoredInPlace() {
+        TaskList tasks = new TaskList();
+        Todo first = new Todo("First");
+        Todo second = new Todo("Second");
+        Todo third = new Todo("Third");
+        tasks.addTask(first);
+        tasks.addTask(second);
+        tasks.addTask(third);
+
+        BitSet indices = new BitSet();
+        indices.set(0);
+        indices.set(2);
+
+        try {
+            List<Task> deletedTasks = tasks.deleteTasks(indices);
+            tasks.getHistory().record(Change.ofDelete(deletedTasks, indices));
+
+            tasks.getHistory().undo(tasks);
+            assertEquals(List.of(first, second, third), tasks.getSnapshot());
+
+            tasks.getHistory().redo(tasks);
+            assertEquals(List.of(second), tasks.getSnapshot());
+        } catch (DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void undo_importIntoSortedList_tasksRemovedByPosition() {
+        TaskList tasks = new TaskList();
+        Todo banana = new Todo("Banana");
+        Todo date = new Todo("Date");
+        tasks.addTask(banana);
+        tasks.addTask(date);
+        tasks.sort(TaskList.SortBy.NAME);
+
+        Todo apple = new Todo("Apple");
+        Todo cherry = new Todo("Cherry");
+        Todo egg = new Todo("Egg");
+        int start = tasks.size();
+        tasks.appendTasks(List.of(egg, cherry));
+        tasks.appendTasks(List.of(apple));
+
+        try {
+            BitSet positions = tasks.sortAddedTasks(start);
+            assertEquals(List.of(apple, banana, cherry, date, egg), tasks.getSnapshot());
+            assertEquals("{0, 2, 4}", positions.toString());
+
+            tasks.getHistory().record(Change.ofImport(positions, "tasks.csv"));
+            tasks.getHistory().undo(tasks);
+            assertEquals(List.of(banana, date), tasks.getSnapshot());
+
+            tasks.getHistory().redo(tasks);
+            assertEquals(List.of(apple, banana, cherry, date, egg), tasks.getSnapshot());
+        } catch (DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void undo_unmarkTask_completedDateRestored() {
+        TaskList tasks = new TaskList();
+        Task report = new Todo("Report", true).setCompletedDate(LocalDate.of(2024, 1, 3));
+        tasks.addTask(report);
+
+        BitSet indices = new BitSet();
+        indices.set(0);
+
+        try {
+            List<Task> unmarkedTasks = tasks.markAsUndone(indices);
+            tasks.getHistory().record(Change.ofMark(List.of(report), unmarkedTasks, false));
+
+            tasks.getHistory().undo(tasks);
+            assertEquals(LocalDate.of(2024, 1, 3), tasks.getSnapshot().get(0).getCompletedDate());
+
+            // Redoing and undoing again does not mark the task as completed today
+            tasks.getHistory().redo(tasks);
+            assertNull(tasks.getSnapshot().get(0).getCompletedDate());
+            tasks.getHistory().undo(tasks);
+            assertEquals(LocalDate.of(2024, 1, 3), tasks.getSnapshot().get(0).getCompletedDate());
+        } catch (DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void undo_editTask_detailsRestored() {
+        TaskList tasks = new TaskList();
+        Event trip = new Event("Trip", LocalDate.of(2024, 2, 10), LocalDate.of(2024, 2, 12));
+        tasks.addTask(trip);
+
+        TaskDetails details = new TaskDetails("Beach trip", LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 3));
+        Task editedTrip = tasks.editTask(trip, details);
+        tasks.getHistory().record(Change.ofEdit(trip, editedTrip));
+
+        try {
+            tasks.getHistory().undo(tasks);
+            assertEquals("E | 0 | Trip | 10-02-2024 | 12-02-2024", tasks.getSnapshot().get(0).getDataString());
+
+            tasks.getHistory().redo(tasks);
+            assertEquals("E | 0 | Beach trip | 01-03-2024 | 03-03-2024",
+                    tasks.getSnapshot().get(0).getDataString());
+        } catch (DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void record_overCapacity_oldestChangeForgotten() {
+        TaskList tasks = new TaskList();
+        History history = new History(2);
+
+        for (int i = 0; i < 3; i++) {
+            Todo task = new Todo("Task " + i);
+            tasks.addTask(task);
+            history.record(Change.ofAdd(task));
+        }
+
+        try {
+            history.undo(tasks);
+            history.undo(tasks);
+            assertNull(history.undo(tasks));
+        } catch (DukeException e) {
+            fail();
+        }
+        assertEquals(1, tasks.size());
+    }
+}
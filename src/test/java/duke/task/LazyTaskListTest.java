@@ -0,0 +1,142 @@
+package duke.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import duke.core.DukeException;
+
+public class LazyTaskListTest {
+
+    private static ByteBuffer toBuffer(String data) {
+        return ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void get_mixedLineEndings_skipsBlankLines() {
+        LazyTaskList tasks = new LazyTaskList(toBuffer("T | 0 | First\r\n\nD | 1 | Second | 03-04-2023\nT | 0 | Last"));
+
+        assertEquals(3, tasks.size());
+        assertEquals("[T][ ] First", tasks.get(0).toString());
+        assertEquals("D | 1 | Second | 03-04-2023", tasks.get(1).getDataString());
+        assertEquals("[T][ ] Last", tasks.get(2).toString());
+        assertFalse(tasks.hasDecodingError());
+    }
+
+    @Test
+    public void get_sameIndexTwice_sameTask() {
+        LazyTaskList tasks = new LazyTaskList(toBuffer("T | 0 | Feed cat\n"));
+        assertTrue(tasks.get(0) == tasks.get(0));
+    }
+
+    @Test
+    public void get_invalidLine_keptAsTodo() {
+        LazyTaskList tasks = new LazyTaskList(toBuffer("T | 0 | Valid\nnot a task\n"));
+
+        assertEquals("[T][ ] Valid", tasks.get(0).toString());
+        assertFalse(tasks.hasDecodingError());
+        assertEquals("[T][ ] not a task", tasks.get(1).toString());
+        assertTrue(tasks.hasDecodingError());
+        assertEquals("not a task", tasks.get(1).getDataString());
+    }
+
+    @Test
+    public void getDataString_invalidLineAfterChanges_writtenAsLineUntilChanged() {
+        TaskList tasks = new TaskList(toBuffer("T | 0 | First\nX | 9 | From a newer version\n"));
+
+        try {
+            tasks.deleteTask(0);
+            assertEquals("X | 9 | From a newer version", tasks.getSnapshot().get(0).getDataString());
+            assertTrue(tasks.hasLoadingError());
+
+            tasks.markAsDone(0);
+            assertTrue(tasks.getSnapshot().get(0).getDataString().startsWith("T | 1 | X | 9 | From a newer version"));
+        } catch (DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void markAsDone_lazyTaskList_onlyChangesMarkedTask() {
+        TaskList tasks = new TaskList(toBuffer("T | 0 | First\nT | 0 | Second\n"));
+
+        try {
+            tasks.markAsDone(1);
+            tasks.deleteTask(0);
+        } catch (DukeException e) {
+            fail();
+        }
+
+        assertEquals(1, tasks.size());
+        assertEquals("[T][X] Second", tasks.getSnapshot().get(0).toString());
+        assertFalse(tasks.hasLoadingError());
+    }
+
+    @Test
+    public void setObserver_lazyTaskList_toldAboutTasksAsTheyAreDecoded() {
+        TaskList tasks = new TaskList(toBuffer("T | 0 | First\nD | 0 | Second | 03-04-2023\nT | 0 | Third\n"));
+        Task first = tasks.getSnapshot().get(0);
+        List<Task> updatedTasks = new ArrayList<>();
+
+        tasks.setObserver(new TaskObserver() {
+            @Override
+            public void taskUpdated(Task task) {
+                updatedTasks.add(task);
+            }
+
+            @Override
+            public void taskRemoved(Task task) {
+                fail();
+            }
+        });
+
+        assertEquals(List.of(first), updatedTasks);
+
+        Task second = tasks.getSnapshot().get(1);
+        tasks.getSnapshot().get(1);
+        assertEquals(List.of(first, second), updatedTasks);
+    }
+
+    @Test
+    public void markAsDone_lazyTaskList_otherTasksStayUndecoded() {
+        TaskList tasks = new TaskList(toBuffer("T | 0 | First\nT | 0 | Second\nT | 0 | Third\nT | 0 | Fourth\n"));
+
+        try {
+            tasks.markAsDone(1);
+            tasks.addTask(new Todo("Fifth"));
+            tasks.deleteTask(0);
+        } catch (DukeException e) {
+            fail();
+        }
+
+        TaskVector snapshot = (TaskVector) tasks.getSnapshot();
+        assertEquals(4, snapshot.size());
+        assertNull(snapshot.getIfDecoded(1));
+        assertNull(snapshot.getIfDecoded(2));
+        assertEquals("T | 0 | Third", TaskList.appendDataString(snapshot, 1, new StringBuilder()).toString());
+        assertEquals("[T][X] Second", snapshot.get(0).toString());
+        assertEquals("[T][ ] Fifth", snapshot.get(3).toString());
+    }
+
+    @Test
+    public void constructor_streamWithInvalidLine_lineKeptLikeLazyTaskList() {
+        String line = "X | 9 | From a newer version";
+        TaskList loadedTasks = new TaskList(Stream.of("T | 0 | First", "", line));
+        TaskList lazyTasks = new TaskList(toBuffer("T | 0 | First\n\n" + line + "\n"));
+
+        assertEquals(2, loadedTasks.size());
+        assertTrue(loadedTasks.hasLoadingError());
+        assertEquals(line, loadedTasks.getSnapshot().get(1).getDataString());
+        assertEquals(lazyTasks.getSnapshot().get(1).toString(), loadedTasks.getSnapshot().get(1).toString());
+    }
+}
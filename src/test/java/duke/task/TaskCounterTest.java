@@ -0,0 +1,101 @@
+package duke.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import duke.core.DukeException;
+import duke.task.Task.TaskType;
+
+public class TaskCounterTest {
+
+    @Test
+    public void getSummary_randomChangesAndDays_matchesCountedTasks() {
+        Random random = new Random(3);
+        TaskList tasks = new TaskList();
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LocalDate today = start;
+
+        try {
+            for (int i = 0; i < 1500; i++) {
+                int action = random.nextInt(10);
+                LocalDate date = start.plusDays(random.nextInt(120));
+
+                if (action < 4 || tasks.size() == 0) {
+                    tasks.addTask(random.nextBoolean()
+                            ? new Deadline("Deadline " + i, date)
+                            : random.nextBoolean()
+                            ? new Event("Event " + i, date, date.plusDays(random.nextInt(10)))
+                            : new Todo("Todo " + i));
+                } else if (action < 6) {
+                    tasks.markAsDone(random.nextInt(tasks.size()));
+                } else if (action < 7) {
+                    tasks.markAsUndone(random.nextInt(tasks.size()));
+                } else if (action < 8) {
+                    int index = random.nextInt(tasks.size());
+                    List<Task> removedTasks = tasks.deleteTasks(bitSetOf(index));
+
+                    if (random.nextBoolean()) {
+                        // As undo does
+                        tasks.insertTasks(removedTasks, bitSetOf(index));
+                        tasks.setCompletion(removedTasks, random.nextBoolean());
+                    }
+                } else {
+                    // Mostly forward, sometimes back, as the clock of a real user would
+                    today = today.plusDays(random.nextInt(10) < 9 ? random.nextInt(3) : -random.nextInt(5));
+                }
+
+                assertSummary(tasks, today);
+            }
+        } catch (DukeException e) {
+            fail();
+        }
+    }
+
+    private static BitSet bitSetOf(int index) {
+        BitSet bitSet = new BitSet();
+        bitSet.set(index);
+        return bitSet;
+    }
+
+    private static void assertSummary(TaskList tasks, LocalDate today) {
+        TaskSummary summary = tasks.getSummary(today);
+        LocalDate startOfWeek = today.with(DayOfWeek.MONDAY);
+        LocalDate endOfWeek = startOfWeek.plusDays(6);
+        int[] counts = new int[3];
+        int[] completedCounts = new int[3];
+        int overdueCount = 0;
+        int eventsThisWeekCount = 0;
+
+        for (Task task : tasks.getSnapshot()) {
+            TaskType taskType = task instanceof Deadline ? TaskType.DEADLINE
+                    : task instanceof Event ? TaskType.EVENT : TaskType.TODO;
+            counts[taskType.ordinal()]++;
+
+            if (task.isCompleted()) {
+                completedCounts[taskType.ordinal()]++;
+            } else if (task instanceof Deadline) {
+                overdueCount += LocalDate.from(((Deadline) task).getDueDatetime()).isBefore(today) ? 1 : 0;
+            } else if (task instanceof Event) {
+                LocalDate eventStart = LocalDate.from(((Event) task).getStartDatetime());
+                LocalDate eventEnd = LocalDate.from(((Event) task).getEndDatetime());
+                eventsThisWeekCount += !eventStart.isAfter(endOfWeek) && !eventEnd.isBefore(startOfWeek) ? 1 : 0;
+            }
+        }
+
+        for (TaskType taskType : TaskType.values()) {
+            assertEquals(counts[taskType.ordinal()], summary.getCount(taskType));
+            assertEquals(completedCounts[taskType.ordinal()], summary.getCompletedCount(taskType));
+        }
+
+        assertEquals(overdueCount, summary.getOverdueCount());
+        assertEquals(eventsThisWeekCount, summary.getEventsThisWeekCount());
+    }
+}
@@ -0,0 +1,61 @@
+package duke.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import duke.task.Task.Priority;
+
+public class TaskHeapTest {
+
+    @Test
+    public void peek_randomChanges_matchesSortedOpenTasks() {
+        Random random = new Random(42);
+        List<Task> tasks = new ArrayList<>();
+        TaskHeap heap = new TaskHeap(List.of());
+
+        for (int i = 0; i < 2000; i++) {
+            int action = random.nextInt(10);
+
+            if (action < 5 || tasks.isEmpty()) {
+                Task task = random.nextBoolean()
+                        ? new Todo("Todo " + i)
+                        : new Deadline("Deadline " + i, LocalDate.of(2024, 1, 1).plusDays(random.nextInt(60)));
+                task.setPriority(Priority.values()[random.nextInt(Priority.values().length)]);
+                tasks.add(task);
+                heap.update(task);
+            } else if (action < 8) {
+                Task task = tasks.get(random.nextInt(tasks.size()));
+
+                if (task.isCompleted()) {
+                    task.markAsUndone();
+                } else {
+                    task.markAsDone();
+                }
+
+                heap.update(task);
+            } else {
+                heap.remove(tasks.remove(random.nextInt(tasks.size())));
+            }
+        }
+
+        // Equally urgent tasks keep the order they were last added or reopened in, so only their urgency is compared
+        Comparator<Task> byUrgency = Comparator.comparing(Task::getPriority).thenComparing(Task::compareByDate);
+        List<Task> expected = tasks.stream().filter(task -> !task.isCompleted()).sorted(byUrgency)
+                .limit(50).collect(Collectors.toList());
+        List<Task> actual = heap.peek(50);
+
+        assertEquals(expected.size(), actual.size());
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(0, byUrgency.compare(expected.get(i), actual.get(i)));
+        }
+    }
+}
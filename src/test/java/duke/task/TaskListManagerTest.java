@@ -0,0 +1,73 @@
+package duke.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import duke.core.DukeException;
+import duke.core.Storage;
+
+public class TaskListManagerTest {
+
+    @Test
+    public void switchTo_newList_storedInOwnFile() {
+        try {
+            Path directory = Files.createTempDirectory("duke-test");
+            Storage storage = new Storage(directory.toString());
+            Files.writeString(directory.resolve("tasks.txt"), "T | 0 | Default\n");
+
+            TaskListManager taskLists = new TaskListManager(storage);
+            TaskList work = taskLists.switchTo("Work");
+            work.addTask(new Todo("Report"));
+            work.storeTasks(storage);
+
+            assertTrue(taskLists.getCurrent() == work);
+            assertEquals("work", work.getName());
+            assertEquals(List.of("T | 0 | Report"), Files.readAllLines(directory.resolve("work.txt")));
+            assertEquals(List.of("T | 0 | Default"), Files.readAllLines(directory.resolve("tasks.txt")));
+            assertTrue(taskLists.switchTo(TaskList.DEFAULT_NAME) == taskLists.getLoadedList("tasks.txt"));
+        } catch (IOException | DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void getListNames_unloadedLists_listedWithoutLoading() {
+        try {
+            Path directory = Files.createTempDirectory("duke-test");
+            Files.writeString(directory.resolve("home.txt"), "T | 0 | Laundry\n");
+
+            TaskListManager taskLists = new TaskListManager(new Storage(directory.toString()));
+
+            assertEquals(List.of("home", "tasks"), taskLists.getListNames());
+            assertTrue(taskLists.hasList("Home"));
+            assertTrue(taskLists.getLoadedList("home.txt") == null);
+            assertFalse(taskLists.hasList("work"));
+        } catch (IOException | DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void switchTo_invalidName_exceptionThrown() {
+        try {
+            TaskListManager taskLists = new TaskListManager(new Storage(Files.createTempDirectory("duke-test")
+                    .toString()));
+            taskLists.switchTo("../tasks");
+            fail();
+        } catch (IOException e) {
+            fail();
+        } catch (DukeException e) {
+            assertEquals("List names can only have letters, digits, \"-\" and \"_\", "
+                    + "and be at most 64 characters long.", e.getMessage());
+        }
+    }
+}
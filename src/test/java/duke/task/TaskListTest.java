@@ -1,11 +1,24 @@
 package duke.task;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
 
 import duke.core.DukeException;
+import duke.core.Storage;
 
 public class TaskListTest {
 
@@ -34,8 +47,11 @@ public class TaskListTest {
         tasks.addTask(task);
         try {
             assertEquals(" ", task.getStatusIcon());
-            tasks.markAsDone(0);
-            assertEquals("X", task.getStatusIcon());
+            Task markedTask = tasks.markAsDone(0);
+            assertEquals("X", markedTask.getStatusIcon());
+            assertEquals("X", tasks.getSnapshot().get(0).getStatusIcon());
+            // The task is replaced by a marked copy rather than changed in place
+            assertEquals(" ", task.getStatusIcon());
         } catch (DukeException e) {
             fail();
         }
@@ -73,10 +89,9 @@ public class TaskListTest {
         Todo task = new Todo("Task");
         tasks.addTask(task);
         try {
-            tasks.markAsDone(0);
-            assertEquals("X", task.getStatusIcon());
-            tasks.markAsUndone(0);
-            assertEquals(" ", task.getStatusIcon());
+            assertEquals("X", tasks.markAsDone(0).getStatusIcon());
+            assertEquals(" ", tasks.markAsUndone(0).getStatusIcon());
+            assertEquals(" ", tasks.getSnapshot().get(0).getStatusIcon());
         } catch (DukeException e) {
             fail();
         }
@@ -136,4 +151,268 @@ public class TaskListTest {
             assertEquals("Task number provided does not exist.", e.getMessage());
         }
     }
+
+    @Test
+    public void deleteTasks_multipleIndices_success() {
+        TaskList tasks = new TaskList();
+        Todo first = new Todo("First");
+        Todo second = new Todo("Second");
+        Todo third = new Todo("Third");
+        tasks.addTask(first);
+        tasks.addTask(second);
+        tasks.addTask(third);
+
+        BitSet indices = new BitSet();
+        indices.set(0);
+        indices.set(2);
+
+        try {
+            List<Task> deletedTasks = tasks.deleteTasks(indices);
+            assertEquals(List.of(first, third), deletedTasks);
+        } catch (DukeException e) {
+            fail();
+        }
+        assertEquals(1, tasks.size());
+        assertEquals(second, tasks.getTasks().findFirst().get());
+    }
+
+    @Test
+    public void deleteCompletedTasks_mixedCompletion_success() {
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Todo("Done", true));
+        tasks.addTask(new Todo("Not done"));
+        tasks.addTask(new Todo("Also done", true));
+
+        assertEquals(2, tasks.deleteCompletedTasks().size());
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    public void getSnapshot_laterChanges_snapshotUnchanged() {
+        TaskList tasks = new TaskList();
+        tasks.addTask(new Todo("First"));
+        List<Task> snapshot = tasks.getSnapshot();
+
+        tasks.addTask(new Todo("Second"));
+        try {
+            tasks.deleteTask(0);
+        } catch (DukeException e) {
+            fail();
+        }
+
+        assertEquals(1, snapshot.size());
+        assertEquals(1, tasks.size());
+        assertNotEquals(snapshot.get(0), tasks.getSnapshot().get(0));
+    }
+
+    @Test
+    public void sort_byDate_deadlinesFirstInOrder() {
+        TaskList tasks = new TaskList();
+        Todo todo = new Todo("Todo");
+        Deadline later = new Deadline("Later", LocalDate.of(2023, 2, 1));
+        Event event = new Event("Event", LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 2));
+        Deadline earlier = new Deadline("Earlier", LocalDate.of(2023, 1, 1));
+        Todo lastTodo = new Todo("Last todo");
+        tasks.addTask(todo);
+        tasks.addTask(later);
+        tasks.addTask(event);
+        tasks.addTask(earlier);
+        tasks.addTask(lastTodo);
+
+        tasks.sort(TaskList.SortBy.DATE);
+
+        // Todos and events keep their order after the deadlines
+        assertEquals(List.of(earlier, later, todo, event, lastTodo), tasks.getSnapshot());
+    }
+
+    @Test
+    public void archiveCompletedTasks_olderThanDate_onlyOldTasksArchived() {
+        TaskList tasks = new TaskList();
+        Task oldTask = new Todo("Old", true).setCompletedDate(LocalDate.of(2023, 1, 1));
+        Task recentTask = new Todo("Recent", true).setCompletedDate(LocalDate.of(2023, 3, 1));
+        Task unknownDateTask = new Todo("Unknown", true);
+        Task pendingTask = new Todo("Pending");
+        List.of(oldTask, recentTask, unknownDateTask, pendingTask).forEach(tasks::addTask);
+
+        try {
+            Storage storage = new Storage(Files.createTempDirectory("duke-test").toString());
+            List<Task> archivedTasks = tasks.archiveCompletedTasks(storage, "archive.txt.gz",
+                    LocalDate.of(2023, 2, 1));
+
+            assertEquals(List.of(oldTask), archivedTasks);
+            assertEquals(List.of(recentTask, unknownDateTask, pendingTask), tasks.getSnapshot());
+
+            try (Stream<String> archive = storage.readCompressed("archive.txt.gz")) {
+                assertEquals(List.of("T | 1 | Old | done=01-01-2023"), archive.collect(Collectors.toList()));
+            }
+        } catch (IOException | DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void applyExternalChanges_editedLines_onlyDeltaApplied() {
+        TaskList tasks = new TaskList();
+        Todo kept = new Todo("Kept");
+        Todo removed = new Todo("Removed");
+        tasks.addTask(kept);
+        tasks.addTask(removed);
+
+        try {
+            TaskList.ExternalChanges changes = tasks.applyExternalChanges(
+                    List.of("T | 0 | Added", "T | 0 | Kept", "not a task"));
+
+            assertEquals(1, changes.getAddedTasks().size());
+            assertEquals(List.of(removed), changes.getRemovedTasks());
+            assertEquals(2, tasks.size());
+            assertEquals("[T][ ] Added", tasks.getSnapshot().get(0).toString());
+            assertTrue(tasks.getSnapshot().get(1) == kept);
+            assertTrue(tasks.hasLoadingError());
+        } catch (DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void storeTasks_deferred_writtenOnlyOnFlush() {
+        TaskList tasks = new TaskList();
+        tasks.setDeferringStores(true);
+
+        try {
+            Path directory = Files.createTempDirectory("duke-test");
+            Storage storage = new Storage(directory.toString());
+            tasks.addTask(new Todo("First"));
+            tasks.storeTasks(storage);
+            tasks.addTask(new Todo("Second"));
+            tasks.storeTasks(storage);
+
+            assertFalse(Files.exists(directory.resolve(tasks.getFileName())));
+            assertTrue(tasks.hasUnsavedChanges());
+
+            assertTrue(tasks.flush(storage));
+            assertFalse(tasks.hasUnsavedChanges());
+            assertEquals(List.of("T | 0 | First", "T | 0 | Second"),
+                    Files.readAllLines(directory.resolve(tasks.getFileName())));
+
+            // Nothing changed since, so the file is not written again
+            Files.delete(directory.resolve(tasks.getFileName()));
+            assertFalse(tasks.flush(storage));
+            assertFalse(Files.exists(directory.resolve(tasks.getFileName())));
+        } catch (IOException | DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void applyExternalChanges_unsavedChanges_exceptionThrown() {
+        TaskList tasks = new TaskList();
+        tasks.setDeferringStores(true);
+
+        try {
+            tasks.addTask(new Todo("Unsaved"));
+            tasks.storeTasks(new Storage(Files.createTempDirectory("duke-test").toString()));
+            tasks.applyExternalChanges(List.of("T | 0 | Outside"));
+            fail();
+        } catch (IOException e) {
+            fail();
+        } catch (DukeException e) {
+            assertEquals(1, tasks.size());
+            assertEquals("[T][ ] Unsaved", tasks.getSnapshot().get(0).toString());
+        }
+    }
+
+    @Test
+    public void findTagged_afterAddMarkAndDelete_indexUpToDate() {
+        TaskList tasks = new TaskList();
+        Task call = new Todo("Call").setTags(List.of("urgent", "work"));
+        Task report = new Todo("Report").setTags(List.of("work"));
+        Task laundry = new Todo("Laundry").setTags(List.of("home", "urgent"));
+        tasks.addTask(call);
+        tasks.addTask(report);
+
+        assertEquals(List.of(call, report), tasks.findTagged(List.of("work"), List.of(), false));
+
+        try {
+            tasks.addTask(laundry);
+            Task doneCall = tasks.markAsDone(0);
+            assertEquals(List.of(laundry), tasks.findTagged(List.of("urgent"), List.of(), true));
+            assertEquals(List.of(doneCall), tasks.findTagged(List.of("urgent"), List.of("home"), false));
+
+            tasks.deleteTask(0);
+            assertEquals(List.of(report), tasks.findTagged(List.of("work"), List.of(), false));
+            assertEquals(List.of(), tasks.findTagged(List.of("urgent", "work"), List.of(), false));
+        } catch (DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void getMostUrgent_afterMarkAndDelete_onlyOpenTasksByPriority() {
+        TaskList tasks = new TaskList();
+        Task low = new Todo("Low").setPriority(Task.Priority.LOW);
+        Task high = new Todo("High").setPriority(Task.Priority.HIGH);
+        Task none = new Todo("None");
+        tasks.addTask(low);
+        tasks.addTask(high);
+
+        assertEquals(List.of(high, low), tasks.getMostUrgent(5));
+
+        try {
+            tasks.addTask(none);
+            tasks.markAsDone(1);
+            assertEquals(List.of(low, none), tasks.getMostUrgent(5));
+
+            tasks.deleteTask(0);
+            Task openHigh = tasks.markAsUndone(0);
+            assertEquals(List.of(openHigh), tasks.getMostUrgent(1));
+            // The order of the list itself is unchanged
+            assertEquals(List.of("[T][ ] High !high", "[T][ ] None"),
+                    tasks.getTasks().map(Task::toString).collect(Collectors.toList()));
+        } catch (DukeException e) {
+            fail();
+        }
+    }
+
+    @Test
+    public void editTask_sortedByName_onlyEditedTaskMoved() {
+        TaskList tasks = new TaskList();
+        Task apples = new Todo("Apples").setTags(List.of("food"));
+        Task bread = new Todo("Bread");
+        Task cheese = new Todo("Cheese").setTags(List.of("food"));
+        tasks.addTask(cheese);
+        tasks.addTask(apples);
+        tasks.addTask(bread);
+        tasks.sort(TaskList.SortBy.NAME);
+
+        List<Task> snapshot = tasks.getSnapshot();
+        Task butter = tasks.editTask(bread, new TaskDetails("Butter", null, null));
+        // Still in order, so the edited copy takes the place of the task
+        assertEquals(List.of(apples, butter, cheese), tasks.getSnapshot());
+        // Earlier snapshots keep the task as it was
+        assertEquals(List.of(apples, bread, cheese), snapshot);
+        assertEquals("Bread", bread.getDescription());
+
+        Task dates = tasks.editTask(apples, new TaskDetails("Dates", null, null));
+        assertEquals(List.of(butter, cheese, dates), tasks.getSnapshot());
+        assertEquals(List.of(cheese, dates), tasks.findTagged(List.of("food"), List.of(), false));
+    }
+
+    @Test
+    public void editTask_deadlineDate_urgencyAndSummaryUpdated() {
+        TaskList tasks = new TaskList();
+        Deadline report = new Deadline("Report", LocalDate.of(2024, 3, 1));
+        Deadline rent = new Deadline("Rent", LocalDate.of(2024, 2, 1));
+        tasks.addTask(report);
+        tasks.addTask(rent);
+
+        assertEquals(List.of(rent, report), tasks.getMostUrgent(2));
+        assertEquals(1, tasks.getSummary(LocalDate.of(2024, 2, 15)).getOverdueCount());
+
+        Task movedRent = tasks.editTask(rent, new TaskDetails("Rent", LocalDate.of(2024, 4, 1), null));
+        assertEquals(List.of(report, movedRent), tasks.getMostUrgent(2));
+        assertEquals(0, tasks.getSummary(LocalDate.of(2024, 2, 15)).getOverdueCount());
+        assertEquals(List.of(report, movedRent), tasks.getSnapshot());
+        assertEquals("D | 0 | Rent | 01-04-2024", movedRent.getDataString());
+        assertEquals("D | 0 | Rent | 01-02-2024", rent.getDataString());
+    }
 }
@@ -0,0 +1,80 @@
+package duke.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import duke.task.Recurrence.Frequency;
+
+public class TaskTest {
+
+    @Test
+    public void toString_allTaskTypes_displayForm() {
+        assertEquals("[T][ ] Feed cat", new Todo("Feed cat").toString());
+        assertEquals("[D][X] Submit (by: 03 Apr 2023, 03:30PM)",
+                new Deadline("Submit", LocalDateTime.of(2023, 4, 3, 15, 30), true).toString());
+        assertEquals("[E][ ] Trip (03 Apr 2023 - 05 Apr 2023)",
+                new Event("Trip", LocalDate.of(2023, 4, 3), LocalDate.of(2023, 4, 5)).toString());
+    }
+
+    @Test
+    public void getDataString_allTaskTypes_storageForm() {
+        assertEquals("T | 1 | Feed cat", new Todo("Feed cat", true).getDataString());
+        assertEquals("D | 0 | Submit | 03-04-2023 1530",
+                new Deadline("Submit", LocalDateTime.of(2023, 4, 3, 15, 30)).getDataString());
+        assertEquals("E | 0 | Trip | 03-04-2023 | 05-04-2023 0900",
+                new Event("Trip", LocalDate.of(2023, 4, 3), LocalDateTime.of(2023, 4, 5, 9, 0)).getDataString());
+    }
+
+    @Test
+    public void appendTo_reusedBuilder_appendsAfterExistingText() {
+        StringBuilder builder = new StringBuilder("1. ");
+        new Todo("Feed cat").appendTo(builder);
+        assertEquals("1. [T][ ] Feed cat", builder.toString());
+
+        builder.setLength(0);
+        new Todo("Buy milk").appendDataString(builder);
+        assertEquals("T | 0 | Buy milk", builder.toString());
+    }
+
+    @Test
+    public void getOccurrences_monthlyOnLastDay_clampedToShortMonths() {
+        Task rent = new Deadline("Rent", LocalDate.of(2024, 1, 31))
+                .setRecurrence(new Recurrence(Frequency.MONTHLY, 1, LocalDate.of(2024, 5, 31)));
+        List<String> dueDates = new ArrayList<>();
+        rent.getOccurrences(LocalDate.of(2024, 2, 1), null)
+                .forEachRemaining(occurrence -> dueDates.add(((Deadline) occurrence).getDueDatetime().toString()));
+
+        assertEquals(List.of("2024-02-29", "2024-03-31", "2024-04-30", "2024-05-31"), dueDates);
+    }
+
+    @Test
+    public void getOccurrences_weeklyEventFarInFuture_onlyWindowCreated() {
+        Task standup = new Event("Standup", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 2))
+                .setRecurrence(new Recurrence(Frequency.WEEKLY, 2, null));
+        Iterator<Task> occurrences = standup.getOccurrences(LocalDate.of(2124, 1, 1), LocalDate.of(2124, 1, 31));
+        List<Task> inWindow = new ArrayList<>();
+        occurrences.forEachRemaining(inWindow::add);
+
+        assertEquals(3, inWindow.size());
+        assertEquals("[E][ ] Standup (03 Jan 2124 - 04 Jan 2124)", inWindow.get(0).toString());
+        assertEquals("[E][ ] Standup (31 Jan 2124 - 01 Feb 2124)", inWindow.get(2).toString());
+    }
+
+    @Test
+    public void getOccurrences_notRepeating_taskItselfIfInWindow() {
+        Task trip = new Event("Trip", LocalDate.of(2024, 2, 10), LocalDate.of(2024, 2, 12));
+
+        assertTrue(trip.getOccurrences(LocalDate.of(2024, 2, 12), null).next() == trip);
+        assertFalse(trip.getOccurrences(LocalDate.of(2024, 2, 13), null).hasNext());
+        assertFalse(new Todo("Feed cat").getOccurrences(null, null).hasNext());
+    }
+}
@@ -0,0 +1,76 @@
+package duke.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class TaskVectorTest {
+
+    @Test
+    public void append_pastSeveralLevels_matchesArrayList() {
+        List<Task> expected = new ArrayList<>();
+        TaskVector vector = TaskVector.empty();
+
+        // Enough tasks for a root that holds nodes of nodes
+        for (int i = 0; i < 40000; i++) {
+            Task task = new Todo("Task " + i);
+            expected.add(task);
+            vector = vector.append(task);
+        }
+
+        assertEquals(expected.size(), vector.size());
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertTrue(expected.get(i) == vector.get(i));
+        }
+    }
+
+    @Test
+    public void with_randomChanges_earlierVectorsUnchanged() {
+        Random random = new Random(7);
+        List<Task> tasks = new ArrayList<>();
+
+        for (int i = 0; i < 3000; i++) {
+            tasks.add(new Todo("Task " + i));
+        }
+
+        TaskVector original = TaskVector.of(tasks);
+        List<Task> expected = new ArrayList<>(tasks);
+        TaskVector vector = original;
+
+        for (int i = 0; i < 2000; i++) {
+            int index = random.nextInt(expected.size() + 1);
+            Task task = new Todo("Changed " + i);
+
+            if (index == expected.size()) {
+                expected.add(task);
+                vector = vector.append(task);
+            } else {
+                expected.set(index, task);
+                vector = vector.with(index, task);
+            }
+        }
+
+        assertEquals(expected, vector);
+        assertEquals(tasks, original);
+        assertEquals(vector, TaskVector.of(expected));
+    }
+
+    @Test
+    public void get_indexOutOfBounds_exceptionThrown() {
+        TaskVector vector = TaskVector.empty().append(new Todo("Only"));
+
+        try {
+            vector.get(1);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            assertEquals(1, vector.size());
+        }
+    }
+}
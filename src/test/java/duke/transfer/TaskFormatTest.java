@@ -0,0 +1,189 @@
+package duke.transfer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import duke.core.DukeException;
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Recurrence;
+import duke.task.Recurrence.Frequency;
+import duke.task.Task;
+import duke.task.Task.Priority;
+import duke.task.Todo;
+
+public class TaskFormatTest {
+
+    private static List<Task> createTasks() {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new Todo("Buy milk, eggs and \"good\" bread"));
+        tasks.add(new Todo("Caf\u00e9 visit \uD83D\uDE00 " + "with a long description ".repeat(5).trim(), true)
+                .setCompletedDate(LocalDate.of(2024, 1, 3)).setTags(List.of("food", "fun")));
+        tasks.add(new Deadline("Report; draft\\final", LocalDateTime.of(2024, 2, 1, 18, 0))
+                .setPriority(Priority.HIGH));
+        tasks.add(new Deadline("Rent", LocalDate.of(2024, 1, 31))
+                .setRecurrence(new Recurrence(Frequency.MONTHLY, 1, LocalDate.of(2024, 12, 31))));
+        tasks.add(new Event("Trip", LocalDate.of(2024, 2, 10), LocalDate.of(2024, 2, 12), true)
+                .setPriority(Priority.LOW));
+        tasks.add(new Event("Standup", LocalDateTime.of(2024, 1, 1, 9, 0), LocalDateTime.of(2024, 1, 1, 9, 15))
+                .setRecurrence(new Recurrence(Frequency.WEEKLY, 2, LocalDate.of(2024, 6, 1)))
+                .setTags(List.of("work")));
+        return tasks;
+    }
+
+    private static TaskFormat getFormat(String fileName) {
+        try {
+            return TaskFormat.ofFileName(fileName);
+        } catch (DukeException e) {
+            fail();
+            return null;
+        }
+    }
+
+    private static String encode(TaskFormat format, List<Task> tasks) {
+        return format.encode(tasks.stream()).collect(Collectors.joining());
+    }
+
+    /**
+     * Decodes every task in the text, adding the data string of each valid task, or the line number and message of
+     * each invalid one, to the results.
+     */
+    private static List<String> decode(TaskFormat format, String text) {
+        TaskReader reader = format.createReader(text.lines().iterator());
+        List<String> results = new ArrayList<>();
+
+        while (true) {
+            try {
+                Task task = reader.readTask();
+
+                if (task == null) {
+                    return results;
+                }
+
+                results.add(task.getDataString());
+            } catch (DukeException e) {
+                results.add(reader.getRecordLineNumber() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private static List<String> dataStrings(List<Task> tasks) {
+        return tasks.stream().map(Task::getDataString).collect(Collectors.toList());
+    }
+
+    @Test
+    public void encode_thenDecode_sameTasksInEveryFormat() {
+        List<Task> tasks = createTasks();
+
+        for (String fileName : List.of("tasks.csv", "tasks.jsonl", "tasks.ics")) {
+            TaskFormat format = getFormat(fileName);
+            assertEquals(dataStrings(tasks), decode(format, encode(format, tasks)));
+        }
+    }
+
+    @Test
+    public void ofFileName_invalidNames_exceptionThrown() {
+        for (String fileName : List.of("../tasks.csv", "/tmp/tasks.csv", ".hidden.csv", "tasks.txt", "tasks")) {
+            try {
+                TaskFormat.ofFileName(fileName);
+                fail();
+            } catch (DukeException e) {
+                // Expected
+            }
+        }
+    }
+
+    @Test
+    public void decode_csvFromSpreadsheet_columnsMatchedByName() {
+        String csv = "\uFEFFDescription,Due,Notes,Tags\r\n"
+                + "\"Write\nreport\",2024-02-01 18:00,ignored,\"work, urgent\"\r\n"
+                + "\r\n"
+                + "Broken,2024-13-01,,\r\n"
+                + "Read book,,,\r\n";
+
+        assertEquals(List.of("D | 0 | Write report | 01-02-2024 1800 | tags=work,urgent",
+                "5: Date \"2024-13-01\" is invalid. Please use the format \"YYYY-MM-DD\" or \"YYYY-MM-DDTHH:MM\".",
+                "T | 0 | Read book"), decode(getFormat("tasks.csv"), csv));
+    }
+
+    @Test
+    public void decode_jsonLinesWithErrors_validLinesKept() {
+        String jsonLines = "{\"description\":\"Tab\\there \\u00e9\",\"type\":\"todo\",\"extra\":{\"a\":1}}\n"
+                + "{\"description\":\"Meeting\",\"start\":\"2024-03-01T10:00\",\"end\":\"2024-03-01T11:00\","
+                + "\"tags\":[\"work\"],\"done\":true,\"id\":7}\n"
+                + "{\"description\":\"Unclosed\"\n"
+                + "{\"description\":\"A | B\",\"priority\":\"medium\"}\n";
+
+        assertEquals(List.of("1: Invalid JSON at column 57. Expected a string, number, true, false or null.",
+                "E | 1 | Meeting | 01-03-2024 1000 | 01-03-2024 1100 | tags=work",
+                "3: Invalid JSON at column 26. Expected \"}\".",
+                "T | 0 | A / B | priority=medium"), decode(getFormat("tasks.jsonl"), jsonLines));
+    }
+
+    @Test
+    public void decode_calendarFromOtherApp_tasksConverted() {
+        String calendar = "BEGIN:VCALENDAR\r\n"
+                + "VERSION:2.0\r\n"
+                + "BEGIN:VTIMEZONE\r\n"
+                + "TZID:Custom\r\n"
+                + "END:VTIMEZONE\r\n"
+                + "BEGIN:VEVENT\r\n"
+                + "DTSTART;TZID=Custom:20240105T093000\r\n"
+                + "DURATION:PT45M\r\n"
+                + "RRULE:FREQ=WEEKLY;BYDAY=FR;COUNT=3\r\n"
+                + "SUMMARY:Team sync\\, weekly\r\n"
+                + "CATEGORIES:Work Stuff,Team/Sync\r\n"
+                + "BEGIN:VALARM\r\n"
+                + "TRIGGER:-PT15M\r\n"
+                + "DESCRIPTION:Ignored\r\n"
+                + "END:VALARM\r\n"
+                + "END:VEVENT\r\n"
+                + "BEGIN:VEVENT\r\n"
+                + "DTSTART;VALUE=DATE:20240210\r\n"
+                + "SUMMARY:Holiday\r\n"
+                + "END:VEVENT\r\n"
+                + "BEGIN:VEVENT\r\n"
+                + "DTSTART:20240101T090000\r\n"
+                + "RRULE:FREQ=DAILY\r\n"
+                + "SUMMARY:Every day\r\n"
+                + "END:VEVENT\r\n"
+                + "BEGIN:VTODO\r\n"
+                + "SUMMARY:Call the ba\r\n"
+                + " nk\r\n"
+                + "PRIORITY:3\r\n"
+                + "STATUS:COMPLETED\r\n"
+                + "END:VTODO\r\n"
+                + "END:VCALENDAR\r\n";
+
+        List<String> results = decode(getFormat("tasks.ics"), calendar);
+
+        assertEquals(List.of("E | 0 | Team sync, weekly | 05-01-2024 0930 | 05-01-2024 1015 | repeat=weekly "
+                + "| until=19-01-2024 | tags=work-stuff,team-sync",
+                "E | 0 | Holiday | 10-02-2024 | 10-02-2024"), results.subList(0, 2));
+        assertTrue(results.get(2).startsWith("21: Repeat rule \"FREQ=DAILY\" is not supported."));
+        assertEquals("T | 1 | Call the bank | priority=high", results.get(3));
+    }
+
+    @Test
+    public void encode_calendar_linesFoldedAndWholeDaysExclusive() {
+        String calendar = encode(getFormat("tasks.ics"), createTasks());
+
+        for (String line : calendar.split("\r\n")) {
+            assertTrue(line.getBytes(StandardCharsets.UTF_8).length <= 75);
+        }
+
+        assertTrue(calendar.contains("DTSTART;VALUE=DATE:20240210\r\nDTEND;VALUE=DATE:20240213\r\n"));
+        assertTrue(calendar.contains("SUMMARY:Report\\; draft\\\\final\r\n"));
+        assertTrue(calendar.contains("RRULE:FREQ=WEEKLY;INTERVAL=2;UNTIL=20240601T235959\r\n"));
+    }
+}